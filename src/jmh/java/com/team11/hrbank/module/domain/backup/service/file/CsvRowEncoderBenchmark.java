@@ -0,0 +1,124 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직원 100만 행 CSV 인코딩 비교
+ * legacy: 기존 BackupDataService 경로 (String[] -> escapeCsvValue -> toArray -> String.join -> write)
+ * encoder: CsvRowEncoder 로 셀을 Writer 에 바로 기록
+ * 엔티티 조회 비용을 빼기 위해 합성 직원 4096명을 미리 만들어 반복 사용하고, 출력은 버린다.
+ * 실행: ./gradlew jmh (gc 프로파일러로 행당 할당량도 함께 출력)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvRowEncoderBenchmark {
+
+  private static final int ROWS = 1_000_000;
+  private static final int DISTINCT_EMPLOYEES = 4096;
+  private static final DateTimeFormatter DATE_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
+
+  private SyntheticEmployee[] employees;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    employees = new SyntheticEmployee[DISTINCT_EMPLOYEES];
+    Instant base = Instant.parse("2024-01-01T00:00:00Z");
+    for (int i = 0; i < DISTINCT_EMPLOYEES; i++) {
+      employees[i] = new SyntheticEmployee(
+          i + 1L,
+          "직원" + i,
+          "employee" + i + "@hrbank.com",
+          "EMP-2024-" + String.format("%06d", i),
+          // 일부 부서명/직위에는 이스케이프가 필요한 문자 포함
+          i % 10 == 0 ? "개발, 플랫폼" : "개발팀",
+          i % 50 == 0 ? "\"수석\" 엔지니어" : "사원",
+          LocalDate.of(2020, 1, 1).plusDays(i % 1500),
+          "ACTIVE",
+          base.plusSeconds(i * 37L));
+    }
+  }
+
+  @Benchmark
+  public void legacy() throws IOException {
+    BufferedWriter writer = new BufferedWriter(Writer.nullWriter(), 64 * 1024);
+    for (int i = 0; i < ROWS; i++) {
+      SyntheticEmployee e = employees[i & (DISTINCT_EMPLOYEES - 1)];
+      String[] row = new String[] {
+          String.valueOf(e.id()),
+          e.name(),
+          e.email(),
+          e.employeeNumber(),
+          e.departmentName(),
+          e.position(),
+          DATE_FORMATTER.format(e.hireDate()),
+          e.status(),
+          e.createdAt().toString()
+      };
+      String line = String.join(",", Arrays.stream(row)
+          .map(CsvRowEncoderBenchmark::escapeCsvValue)
+          .toArray(String[]::new));
+      writer.write(line);
+      writer.newLine();
+    }
+    writer.flush();
+  }
+
+  @Benchmark
+  public void encoder() throws IOException {
+    CsvRowEncoder encoder = new CsvRowEncoder(new BufferedWriter(Writer.nullWriter(), 64 * 1024));
+    for (int i = 0; i < ROWS; i++) {
+      SyntheticEmployee e = employees[i & (DISTINCT_EMPLOYEES - 1)];
+      encoder
+          .cell(e.id())
+          .cell(e.name())
+          .cell(e.email())
+          .cell(e.employeeNumber())
+          .cell(e.departmentName())
+          .cell(e.position())
+          .cell(e.hireDate())
+          .cell(e.status())
+          .cell(e.createdAt().toString())
+          .endRow();
+    }
+    encoder.flush();
+  }
+
+  // 기존 BackupDataService.escapeCsvValue 와 동일
+  private static String escapeCsvValue(String value) {
+    if (value == null) {
+      return "";
+    }
+
+    boolean needsQuotes = value.contains(",") || value.contains("\"") || value.contains("\n");
+
+    if (needsQuotes) {
+      String escaped = value.replace("\"", "\"\"");
+      return "\"" + escaped + "\"";
+    }
+
+    return value;
+  }
+
+  private record SyntheticEmployee(long id, String name, String email, String employeeNumber,
+      String departmentName, String position, LocalDate hireDate, String status, Instant createdAt) {
+  }
+}
@@ -0,0 +1,108 @@
+package com.team11.hrbank.module.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(BackupProperties.class)
+public class BackupConfig {
+
+  /**
+   * 백업 파일 블록 압축용 스레드 풀
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService backupCompressionExecutor(BackupProperties backupProperties) {
+    int threads = backupProperties.getCompression().getThreads();
+    if (threads <= 0) {
+      threads = Runtime.getRuntime().availableProcessors();
+    }
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("backup-compress-");
+    threadFactory.setDaemon(true);
+    return Executors.newFixedThreadPool(threads, threadFactory);
+  }
+
+  /**
+   * 아카이브 백업 테이블 추출용 스레드 풀
+   * 테이블마다 커넥션 1개 + 스냅샷 유지용 1개를 쓰므로 스레드 수는 추출에 쓰는 풀 크기 - 1 을 넘지 않는다.
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService backupArchiveExecutor(BackupProperties backupProperties, DataSource dataSource) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("backup-archive-");
+    threadFactory.setDaemon(true);
+    return Executors.newFixedThreadPool(archiveParallelism(backupProperties, dataSource), threadFactory);
+  }
+
+  // 설정한 병렬도를 (백업 전용 풀 또는 애플리케이션 풀) 최대 커넥션 수 - 1 로 제한
+  private static int archiveParallelism(BackupProperties backupProperties, DataSource dataSource) {
+    int requested = Math.max(1, backupProperties.getArchive().getParallelism());
+    int poolSize = backupProperties.getPool().isEnabled()
+        ? backupProperties.getPool().getMaximumPoolSize()
+        : dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : Integer.MAX_VALUE;
+    int parallelism = Math.max(1, Math.min(requested, poolSize - 1));
+    if (parallelism < requested) {
+      log.warn("아카이브 병렬도 {} -> {} 로 제한 (커넥션 풀 최대 {}개, parallelism + 1 개 필요)",
+          requested, parallelism, poolSize);
+    }
+    return parallelism;
+  }
+
+  /**
+   * 백업 작업 실행용 스레드 풀
+   * 백업은 동시에 하나만 실행되므로 스레드 1개 + 제한된 대기열로 구성한다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor backupJobExecutor(BackupProperties backupProperties) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(backupProperties.getJob().getQueueCapacity());
+    executor.setThreadNamePrefix("backup-job-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  /**
+   * 백업 파일 멀티파트 업로드용 스레드 풀 (S3 저장소)
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService backupUploadExecutor(BackupProperties backupProperties) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("backup-upload-");
+    threadFactory.setDaemon(true);
+    return Executors.newFixedThreadPool(Math.max(1, backupProperties.getStorage().getS3().getUploadThreads()),
+        threadFactory);
+  }
+
+  /**
+   * 백업 저장소 S3 클라이언트 (인증 정보는 SDK 기본 체인: 환경 변수, 프로필, 인스턴스 역할 순)
+   * 저장 대상이 LOCAL 이어도 버킷이 설정되어 있으면 등록해 기존 s3:// 백업을 계속 읽고 지울 수 있게 한다.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnExpression("T(org.springframework.util.StringUtils).hasText('${backup.storage.s3.bucket:}')")
+  public S3Client backupS3Client(BackupProperties backupProperties) {
+    BackupProperties.S3 s3 = backupProperties.getStorage().getS3();
+    S3ClientBuilder builder = S3Client.builder()
+        .region(Region.of(s3.getRegion()))
+        .forcePathStyle(s3.isPathStyleAccess());
+    if (StringUtils.hasText(s3.getEndpoint())) {
+      builder.endpointOverride(URI.create(s3.getEndpoint()));
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,210 @@
+package com.team11.hrbank.module.common.config;
+
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import com.team11.hrbank.module.domain.backup.BackupExtractMode;
+import com.team11.hrbank.module.domain.backup.BackupStorageType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "backup")
+public class BackupProperties {
+
+  /** 백업 데이터 추출 설정 */
+  private Extract extract = new Extract();
+
+  /** 증분 백업 설정 */
+  private Incremental incremental = new Incremental();
+
+  /** 백업 파일 압축 설정 */
+  private Compression compression = new Compression();
+
+  /** 비동기 백업 작업 설정 */
+  private Job job = new Job();
+
+  /** 클러스터 백업 lease 설정 */
+  private Lease lease = new Lease();
+
+  /** 테이블별 병렬 아카이브 백업 설정 */
+  private Archive archive = new Archive();
+
+  /** 백업 쓰기 속도 제한 설정 */
+  private Throttle throttle = new Throttle();
+
+  /** 백업 전용 커넥션 풀 설정 */
+  private Pool pool = new Pool();
+
+  /** 백업 파일 청크 중복 제거 설정 */
+  private Dedup dedup = new Dedup();
+
+  /** 오래된 백업 정리 설정 */
+  private Retention retention = new Retention();
+
+  /** 중단 후 재개 가능한 체크포인트 백업 설정 */
+  private Checkpoint checkpoint = new Checkpoint();
+
+  /** 백업 파일 저장 대상 설정 */
+  private Storage storage = new Storage();
+
+  @Getter
+  @Setter
+  public static class Extract {
+    /** 전체 백업 추출 방식 (ENTITY: JPA 커서, COPY: PostgreSQL COPY TO STDOUT) */
+    private BackupExtractMode mode = BackupExtractMode.ENTITY;
+    /** 서버 사이드 커서로 한 번에 가져올 행 수 */
+    private int fetchSize = 1000;
+    /** 영속성 컨텍스트를 비우는 주기 (행 수) */
+    private int clearInterval = 1000;
+  }
+
+  @Getter
+  @Setter
+  public static class Incremental {
+    /** 증분 백업 사용 여부 (false면 항상 전체 백업) */
+    private boolean enabled = true;
+    /** 전체 백업 하나에 이어 붙일 수 있는 최대 증분 백업 수 */
+    private int maxChainLength = 23;
+    /**
+     * 직전 백업 시작 시각보다 이만큼 앞서 생성된 변경 이력부터 다시 읽는 겹침 구간
+     * change_logs.id 는 커밋 순서와 다르게 발급되므로 직전 백업 시점에 커밋되지 않았던 (워터마크 이하 id) 이력을 놓치지 않도록 한다.
+     * 가장 긴 쓰기 트랜잭션보다 길어야 한다.
+     */
+    private Duration overlap = Duration.ofMinutes(10);
+  }
+
+  @Getter
+  @Setter
+  public static class Compression {
+    /** 압축 코덱 (NONE이면 평문 CSV) */
+    private BackupCodec codec = BackupCodec.NONE;
+    /** 독립적으로 압축할 블록 크기 (byte) */
+    private int blockSize = 1024 * 1024;
+    /** 압축 스레드 수 (0 이하면 CPU 코어 수) */
+    private int threads = 0;
+  }
+
+  @Getter
+  @Setter
+  public static class Job {
+    /** 실행 대기 중인 백업 작업 최대 수 (초과 시 요청 거절) */
+    private int queueCapacity = 1;
+  }
+
+  @Getter
+  @Setter
+  public static class Lease {
+    /** lease 유효 시간 (heartbeat 가 끊기면 이 시간 뒤 다른 노드가 가져감) */
+    private Duration ttl = Duration.ofSeconds(60);
+    /** lease 연장 주기 (ttl 보다 충분히 짧아야 함) */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+  }
+
+  @Getter
+  @Setter
+  public static class Archive {
+    /** 전체 백업을 테이블별 zip 아카이브로 생성 (PostgreSQL 전용) */
+    private boolean enabled = false;
+    /**
+     * 동시에 추출할 테이블 수 (테이블마다 커넥션 1개 + 스냅샷 유지용 1개 사용)
+     * 커넥션 풀(backup.pool 또는 spring.datasource.hikari)에 parallelism + 1 개가 필요하며, 풀 크기 - 1 로 제한된다.
+     */
+    private int parallelism = 1;
+    /** 직원이 참조하는 프로필 이미지 파일과 직원-이미지 매핑까지 아카이브에 포함 (전체 스냅샷) */
+    private boolean includeImages = false;
+  }
+
+  @Getter
+  @Setter
+  public static class Throttle {
+    /** 초당 최대 쓰기 바이트 수, 압축 전 CSV 기준 (0 이하면 제한 없음) */
+    private long bytesPerSecond = 0;
+    /** 초당 최대 쓰기 행 수 (0 이하면 제한 없음) */
+    private long rowsPerSecond = 0;
+  }
+
+  @Getter
+  @Setter
+  public static class Pool {
+    /** COPY/아카이브 추출에 애플리케이션 풀 대신 백업 전용 커넥션 풀 사용 */
+    private boolean enabled = false;
+    /** 백업 전용 풀 최대 커넥션 수 (아카이브 백업은 parallelism + 1 필요) */
+    private int maximumPoolSize = 3;
+  }
+
+  @Getter
+  @Setter
+  public static class Dedup {
+    /** 백업 파일을 content-defined 청크로 나눠 청크 저장소에 한 번만 저장 (파일은 manifest 만 남음) */
+    private boolean enabled = false;
+    /** 최소 청크 크기 (byte) */
+    private int minChunkSize = 16 * 1024;
+    /** 평균 청크 크기 (byte, 2의 거듭제곱) */
+    private int avgChunkSize = 64 * 1024;
+    /** 최대 청크 크기 (byte) */
+    private int maxChunkSize = 256 * 1024;
+  }
+
+  @Getter
+  @Setter
+  public static class Retention {
+    /** 보관 정책에서 벗어난 백업 이력/파일을 백그라운드에서 삭제 */
+    private boolean enabled = false;
+    /** 최근 N개 시간 구간마다 마지막 완료 백업 하나씩 보관 */
+    private int keepHourly = 24;
+    /** 최근 N개 일 구간마다 마지막 완료 백업 하나씩 보관 */
+    private int keepDaily = 7;
+    /** 최근 N개 주 구간(월요일 시작)마다 마지막 완료 백업 하나씩 보관 */
+    private int keepWeekly = 4;
+    /** 실패(에러 로그)/건너뜀 이력 보관 기간 */
+    private Duration failedMaxAge = Duration.ofDays(7);
+    /** 정리 작업 실행 간격 */
+    private Duration interval = Duration.ofMinutes(1);
+    /** 한 번 실행에 삭제할 최대 백업 이력 수 */
+    private int batchSize = 20;
+    /** 최근 수정된 청크는 진행 중인 백업이 참조할 수 있으므로 이 시간이 지나야 삭제 */
+    private Duration chunkGracePeriod = Duration.ofHours(1);
+  }
+
+  @Getter
+  @Setter
+  public static class Checkpoint {
+    /** 전체 백업(ENTITY 추출, 아카이브 미사용)을 직원 id 순 세그먼트로 나눠 쓰고 세그먼트마다 체크포인트 저장 */
+    private boolean enabled = false;
+    /** 세그먼트 하나에 담을 직원 행 수 */
+    private int segmentRows = 50_000;
+    /** 중단된 백업(lease 없는 IN_PROGRESS 이력)을 확인하는 주기 (enabled 일 때만 확인) */
+    private Duration resumeInterval = Duration.ofMinutes(1);
+  }
+
+  @Getter
+  @Setter
+  public static class Storage {
+    /** 백업 파일 저장 대상 (LOCAL: 백업 디렉토리, S3: S3 호환 객체 저장소) */
+    private BackupStorageType type = BackupStorageType.LOCAL;
+    /** S3 저장소 설정 (bucket 이 설정되어 있으면 type 이 LOCAL 이어도 기존 s3:// 백업을 읽고 지우는 데 사용) */
+    private S3 s3 = new S3();
+  }
+
+  @Getter
+  @Setter
+  public static class S3 {
+    /** 버킷 이름 */
+    private String bucket;
+    /** 백업 객체 키 접두어 */
+    private String prefix = "backups/";
+    /** 리전 */
+    private String region = "ap-northeast-2";
+    /** S3 호환 저장소 주소 (비우면 AWS 기본 주소) */
+    private String endpoint;
+    /** 가상 호스트 대신 경로 방식 주소 사용 (MinIO 등) */
+    private boolean pathStyleAccess = false;
+    /** 멀티파트 업로드 파트 크기 (byte, 최소 5MB), 이보다 작은 백업은 한 번에 업로드 */
+    private int partSize = 16 * 1024 * 1024;
+    /** 동시에 업로드할 파트 수 (메모리에 part-size x (upload-threads + 1) 까지 버퍼링) */
+    private int uploadThreads = 4;
+  }
+}
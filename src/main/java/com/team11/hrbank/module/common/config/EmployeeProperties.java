@@ -0,0 +1,59 @@
+package com.team11.hrbank.module.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee")
+public class EmployeeProperties {
+
+  /** 이메일 중복 검사 Bloom filter 설정 */
+  private EmailFilter emailFilter = new EmailFilter();
+
+  /** 직원 일괄 등록 설정 */
+  private BulkImport bulkImport = new BulkImport();
+
+  /** 직원 일괄 수정 설정 */
+  private BulkUpdate bulkUpdate = new BulkUpdate();
+
+  /** 직원 수 일별 집계 설정 */
+  private HeadcountRollup headcountRollup = new HeadcountRollup();
+
+  @Getter
+  @Setter
+  public static class EmailFilter {
+    /** 등록된 적 없는 이메일은 DB 조회 없이 중복 검사 통과 (UNIQUE 인덱스가 최종 판단) */
+    private boolean enabled = false;
+    /** 예상 이메일 수 (비트 배열 크기 계산용, 넘으면 오탐률만 올라감) */
+    private int expectedInsertions = 1_000_000;
+    /** 허용 오탐률 (오탐이면 DB 조회로 확인) */
+    private double falsePositiveRate = 0.01;
+  }
+
+  @Getter
+  @Setter
+  public static class BulkImport {
+    /** 한 트랜잭션에서 검증/저장할 행 수 (JDBC 배치 크기) */
+    private int chunkSize = 1000;
+    /** 응답에 담을 최대 행 오류 수 (넘는 오류는 건수만 집계) */
+    private int maxReportedErrors = 1000;
+    /** 요청 하나에서 읽을 최대 데이터 행 수 (파일 안 이메일 중복 검사용 집합이 행 수만큼 커지므로 메모리 상한, 넘는 행은 처리하지 않음) */
+    private long maxRows = 1_000_000;
+  }
+
+  @Getter
+  @Setter
+  public static class BulkUpdate {
+    /** 요청 한 번에 수정할 수 있는 최대 직원 수 (한 트랜잭션에서 모두 잠금) */
+    private int maxIds = 10_000;
+  }
+
+  @Getter
+  @Setter
+  public static class HeadcountRollup {
+    /** 직원 변경 시 headcount_daily 를 함께 증감하고 추이/직원 수 통계를 집계 테이블에서 조회 (기동 시 재집계) */
+    private boolean enabled = false;
+  }
+}
@@ -4,6 +4,8 @@ import com.team11.hrbank.module.common.dto.ErrorResponse;
 import com.team11.hrbank.module.domain.backup.exception.BackupAlreadyInProgressException;
 import com.team11.hrbank.module.domain.backup.exception.BackupFailedException;
 import com.team11.hrbank.module.domain.backup.exception.BackupFileSaveFailedException;
+import com.team11.hrbank.module.domain.backup.exception.BackupRestoreException;
+import com.team11.hrbank.module.domain.employee.exception.DuplicateEmailException;
 import com.team11.hrbank.module.domain.file.exception.FileDeleteException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -40,6 +42,16 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(DuplicateEmailException.class)
+  public ResponseEntity<ErrorResponse> handleDuplicateEmailException(DuplicateEmailException e) {
+    log.info("DuplicateEmailException: {}", e.getMessage());
+    ErrorResponse errorResponse = ErrorResponse.of(
+        HttpStatus.CONFLICT.value(),
+        "이메일 중복",
+        e.getMessage());
+    return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+  }
+
   @ExceptionHandler(UnknownHostException.class)
   public ResponseEntity<ErrorResponse> handleUnknownHostException(UnknownHostException e) {
     log.info("Invalid ipAddress: {}", e.getMessage());
@@ -82,6 +94,18 @@ public class GlobalExceptionHandler {
         e.getMessage());
     return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
   }
+
+  @ExceptionHandler(BackupRestoreException.class)
+  public ResponseEntity<ErrorResponse> handleBackupRestoreException(
+      BackupRestoreException e) {
+    log.error("백업 복원 예외: {}", e.getMessage(), e);
+    ErrorResponse errorResponse = ErrorResponse.of(
+        HttpStatus.CONFLICT.value(),
+        "백업 복원 실패",
+        e.getMessage());
+    return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleGlobalException(Exception e) {
     log.error("Unexpected error occurred: {}", e.getMessage(), e);
@@ -0,0 +1,21 @@
+package com.team11.hrbank.module.domain.backup;
+
+/**
+ * 백업 파일 압축 코덱 ENUM
+ * NONE: 평문 CSV, GZIP: 블록 단위로 병렬 압축한 gzip 멤버를 순서대로 이어 붙인 파일 (.csv.gz)
+ * DEDUP: 청크 저장소의 청크 목록만 담은 manifest (.csv.manifest), backup.dedup.enabled 로 사용하며
+ *        compression.codec 에는 지정하지 않는다. (청크 자체의 압축은 compression.codec 을 따름)
+ */
+public enum BackupCodec {
+    NONE(""), GZIP(".gz"), DEDUP(".manifest");
+
+    private final String extension;
+
+    BackupCodec(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,9 @@
+package com.team11.hrbank.module.domain.backup;
+
+/**
+ * 전체 백업 데이터 추출 방식 ENUM
+ * ENTITY: JPA 엔티티를 커서로 읽어 CSV 변환, COPY: PostgreSQL COPY TO STDOUT 결과를 파일로 바로 전달
+ */
+public enum BackupExtractMode {
+    ENTITY, COPY
+}
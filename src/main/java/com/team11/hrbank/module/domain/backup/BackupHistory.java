@@ -44,4 +44,30 @@ public class BackupHistory {
     @Column(nullable = false)
     private BackupStatus status;
 
+    /** 백업 유형 (전체, 증분) */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BackupType type = BackupType.FULL;
+
+    /** 증분 백업이 기반으로 하는 직전 백업 (체인을 따라가면 전체 백업에 도달) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_backup_id", referencedColumnName = "id")
+    private BackupHistory parentBackup;
+
+    /** 이 백업이 포함하는 마지막 변경 이력 id (change_logs.id 하이 워터마크) */
+    @Column(name = "last_change_log_id")
+    private Long lastChangeLogId;
+
+    /** 시작 시점에 워터마크 이하이면서 겹침 구간(시작 시각 - overlap 이후)에 생성된 변경 이력 수 (늦은 커밋 감지용) */
+    @Column(name = "overlap_change_log_count")
+    private Long overlapChangeLogCount;
+
+    /** 체크포인트 백업: 확정된 세그먼트에 기록된 마지막 직원 id (재개 시 이 id 다음부터 추출) */
+    @Column(name = "checkpoint_employee_id")
+    private Long checkpointEmployeeId;
+
+    /** 체크포인트 백업: 디스크에 확정된 직원 세그먼트 수 */
+    @Column(name = "checkpoint_segments")
+    private Integer checkpointSegments;
+
 }
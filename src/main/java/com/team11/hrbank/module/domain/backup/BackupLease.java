@@ -0,0 +1,43 @@
+package com.team11.hrbank.module.domain.backup;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 백업 실행 권한(lease)을 나타내는 엔티티
+ * 여러 노드 중 lease를 가진 노드 하나만 백업을 실행하고, 만료 시각이 지나면 다른 노드가 가져갈 수 있다.
+ * 획득/갱신/반납은 BackupLeaseRepository 의 원자적 쿼리로만 수행한다.
+ */
+@Entity
+@Table(name = "backup_leases")
+@Getter
+@NoArgsConstructor
+public class BackupLease {
+
+    /** lease 이름 (예: backup) */
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    /** lease를 가진 노드 식별자 (호스트명:프로세스 UUID) */
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    /** 획득 시각 */
+    @Column(name = "acquired_at", nullable = false)
+    private Instant acquiredAt;
+
+    /** 만료 시각 (heartbeat 마다 연장) */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /** 펜싱 토큰 (획득할 때마다 1씩 증가, 이전 보유자의 늦은 쓰기를 거르는 데 사용) */
+    @Column(name = "token", nullable = false)
+    private Long token;
+}
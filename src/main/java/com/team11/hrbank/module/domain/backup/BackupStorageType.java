@@ -0,0 +1,9 @@
+package com.team11.hrbank.module.domain.backup;
+
+/**
+ * 백업 파일 저장 대상 ENUM
+ * LOCAL: 백업 디렉토리(hrbank.storage.backup-files), S3: S3 호환 객체 저장소 (멀티파트 업로드로 바로 전송)
+ */
+public enum BackupStorageType {
+    LOCAL, S3
+}
@@ -0,0 +1,9 @@
+package com.team11.hrbank.module.domain.backup;
+
+/**
+ * 백업 유형 ENUM
+ * FULL: 전체 데이터, INCREMENTAL: 직전 백업 이후 변경(change_logs)된 직원만
+ */
+public enum BackupType {
+    FULL, INCREMENTAL
+}
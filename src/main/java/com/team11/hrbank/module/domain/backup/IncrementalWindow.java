@@ -0,0 +1,19 @@
+package com.team11.hrbank.module.domain.backup;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 증분 백업이 읽을 변경 이력 범위
+ * change_logs.id 는 커밋 전에 발급되므로 직전 백업 시점에 커밋되지 않았던 이력은 워터마크보다 작은 id 로 나중에 나타난다.
+ * 워터마크 이후 id 에 더해 직전 백업 시작 시각보다 overlap 만큼 앞서 생성된 이력까지 다시 읽어 이런 이력을 놓치지 않는다.
+ * 증분 백업은 직원의 현재 상태를 담으므로 겹쳐 읽은 직원이 다시 들어가도 복원 결과는 같다.
+ * @param afterChangeLogId 직전 백업의 워터마크 (이보다 큰 id 는 모두 포함)
+ * @param changedSince 이 시각 이후 생성된 이력은 id 와 관계없이 포함
+ */
+public record IncrementalWindow(long afterChangeLogId, Instant changedSince) {
+
+  public static IncrementalWindow after(BackupHistory parentBackup, Duration overlap) {
+    return new IncrementalWindow(parentBackup.getLastChangeLogId(), parentBackup.getStartAt().minus(overlap));
+  }
+}
@@ -3,18 +3,24 @@ package com.team11.hrbank.module.domain.backup.controller;
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
 import com.team11.hrbank.module.domain.backup.dto.BackupDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupProgressDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupRestoreDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupRetentionDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.IOException;
 import java.time.Instant;
 
 @RequestMapping("/api/backups")
@@ -38,9 +44,10 @@ public interface BackupApi {
 
   @Operation(
       summary = "데이터 백업 생성",
-      description = "데이터 백업을 생성합니다.",
+      description = "데이터 백업 작업을 등록합니다. 백업은 비동기로 실행되며 진행 상황은 /api/backups/{id}/progress 로 조회합니다.",
       responses = {
-          @ApiResponse(responseCode = "200", description = "백업 생성 성공"),
+          @ApiResponse(responseCode = "202", description = "백업 작업 등록 (IN_PROGRESS)"),
+          @ApiResponse(responseCode = "200", description = "변경 사항 없음 (SKIPPED)"),
           @ApiResponse(responseCode = "400", description = "잘못된 요청"),
           @ApiResponse(responseCode = "409", description = "이미 진행 중인 백업이 있음"),
           @ApiResponse(responseCode = "500", description = "서버 오류")
@@ -49,6 +56,74 @@ public interface BackupApi {
   @PostMapping
   ResponseEntity<BackupDto> createBackup(HttpServletRequest request);
 
+  @Operation(
+      summary = "데이터 백업 진행률 조회",
+      description = "기록한 행 수, 바이트 수(압축 전), 예상 남은 시간(초)을 조회합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "404", description = "백업 이력을 찾을 수 없음"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      }
+  )
+  @GetMapping("/{id}/progress")
+  ResponseEntity<BackupProgressDto> getBackupProgress(@PathVariable Long id);
+
+  @Operation(
+      summary = "데이터 백업 복원",
+      description = "완료된 백업을 비어 있는 직원/부서 테이블에 복원합니다. 증분 백업은 전체 백업부터 체인 순서대로 반영합니다. 복원 건수와 초당 행 수를 반환합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "복원 성공"),
+          @ApiResponse(responseCode = "404", description = "백업 이력을 찾을 수 없음"),
+          @ApiResponse(responseCode = "409", description = "복원할 수 없는 백업이거나 대상 테이블이 비어 있지 않음"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      }
+  )
+  @PostMapping("/{id}/restore")
+  ResponseEntity<BackupRestoreDto> restoreBackup(@PathVariable Long id, HttpServletRequest request);
+
+  @Operation(
+      summary = "시점 재구성 직원 목록 다운로드",
+      description = "지정 시각 이전의 가장 최근 전체 백업에 변경 이력을 재생해 그 시각의 직원 목록을 백업과 같은 CSV 형식으로 내려받습니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      }
+  )
+  @GetMapping("/point-in-time/employees")
+  void downloadEmployeesAsOf(
+      @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) Instant at,
+      HttpServletResponse response
+  ) throws IOException;
+
+  @Operation(
+      summary = "두 백업 비교",
+      description = "두 전체 백업의 직원/부서 섹션을 id 순 merge join 으로 비교해 추가(ADDED), 삭제(REMOVED), 변경(CHANGED)된 행을 CSV 로 내려받습니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+          @ApiResponse(responseCode = "400", description = "완료된 전체 백업이 아님"),
+          @ApiResponse(responseCode = "404", description = "백업 이력을 찾을 수 없음"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      }
+  )
+  @GetMapping("/{a}/diff/{b}")
+  void downloadBackupDiff(
+      @PathVariable Long a,
+      @PathVariable Long b,
+      HttpServletResponse response
+  ) throws IOException;
+
+  @Operation(
+      summary = "백업 보관 정책 현황 조회",
+      description = "보관 정책 사용 여부, 남은 삭제 대상 수, 이 노드가 삭제한 이력/파일 수와 확보한 바이트 수를 조회합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      }
+  )
+  @GetMapping("/retention")
+  ResponseEntity<BackupRetentionDto> getRetentionStatus();
+
   @Operation(
       summary = "데이터 백업 목록 조회",
       description = "백업 이력을 필터링 조건과 커서 기반으로 조회합니다.",
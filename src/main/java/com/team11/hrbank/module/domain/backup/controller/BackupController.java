@@ -4,16 +4,33 @@ import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.domain.backup.BackupHistory;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
 import com.team11.hrbank.module.domain.backup.dto.BackupDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupProgressDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupRestoreDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupRetentionDto;
 import com.team11.hrbank.module.domain.backup.mapper.BackupMapper;
 import com.team11.hrbank.module.domain.backup.service.BackupService;
+import com.team11.hrbank.module.domain.backup.service.diff.BackupDiffService;
+import com.team11.hrbank.module.domain.backup.service.restore.BackupRestoreService;
+import com.team11.hrbank.module.domain.backup.service.restore.PointInTimeService;
+import com.team11.hrbank.module.domain.backup.service.retention.BackupRetentionService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 
 @Slf4j
 @RestController
@@ -24,6 +41,13 @@ public class BackupController implements BackupApi {
 
     private final BackupService backupService;
     private final BackupMapper backupMapper;
+    private final BackupRestoreService backupRestoreService;
+    private final PointInTimeService pointInTimeService;
+    private final BackupRetentionService backupRetentionService;
+    private final BackupDiffService backupDiffService;
+
+    private static final DateTimeFormatter FILE_TIMESTAMP_FORMAT =
+        DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss").withZone(ZoneOffset.UTC);
 
     /**
      * 최근 백업 정보 조회
@@ -36,7 +60,7 @@ public class BackupController implements BackupApi {
         if (latestBackup == null) {
             // 백업 기록이 없는 경우 빈 객체와 메시지를 반환
             BackupDto emptyResponse = new BackupDto(
-                null, null, null, null, BackupStatus.SKIPPED, null
+                null, null, null, null, BackupStatus.SKIPPED, null, null, null
             );
 
             log.info("백업 기록 없음 - 상태: {}", status);
@@ -46,14 +70,96 @@ public class BackupController implements BackupApi {
         return ResponseEntity.ok(backupMapper.toDto(latestBackup));
     }
 
+    /**
+     * 백업 생성 요청
+     * 백업은 백업 전용 스레드 풀에서 실행되고, 요청은 이력 ID와 함께 202 Accepted 로 바로 반환된다.
+     * 변경 사항이 없어 SKIPPED 된 경우는 200 OK.
+     */
     @PostMapping
     public ResponseEntity<BackupDto> createBackup(HttpServletRequest request) {
         String ipAddress = request.getRemoteAddr();
         log.info("백업 생성 요청: 요청 ip = {}", ipAddress);
-        BackupHistory backupHistory = backupService.performBackup(ipAddress);
+        BackupHistory backupHistory = backupService.submitBackup(ipAddress);
+
+        if (backupHistory.getStatus() == BackupStatus.IN_PROGRESS) {
+            URI progressUri = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{id}/progress")
+                .buildAndExpand(backupHistory.getId())
+                .toUri();
+            return ResponseEntity.accepted()
+                .location(progressUri)
+                .body(backupMapper.toDto(backupHistory));
+        }
         return ResponseEntity.ok(backupMapper.toDto(backupHistory));
     }
 
+    /**
+     * 백업 진행률 조회 (기록한 행/바이트 수, 예상 남은 시간)
+     */
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<BackupProgressDto> getBackupProgress(@PathVariable Long id) {
+        return ResponseEntity.ok(backupService.getBackupProgress(id));
+    }
+
+    /**
+     * 백업 복원 (비어 있는 직원/부서 테이블 대상, 증분 백업은 체인 전체 반영)
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<BackupRestoreDto> restoreBackup(@PathVariable Long id, HttpServletRequest request) {
+        String ipAddress = request.getRemoteAddr();
+        log.info("백업 복원 요청: 백업 ID = {}, 요청 ip = {}", id, ipAddress);
+        return ResponseEntity.ok(backupRestoreService.restore(id, ipAddress));
+    }
+
+    /**
+     * 지정 시각의 직원 목록 CSV 다운로드 (기준 백업 + 변경 이력 재생)
+     * 결과는 트랜잭션 안에서 임시 파일로 쓰고, 커밋 후 응답으로 스트리밍한다.
+     * (다운로드가 느려도 REPEATABLE READ 스냅샷과 커넥션을 잡고 있지 않도록)
+     */
+    @GetMapping("/point-in-time/employees")
+    public void downloadEmployeesAsOf(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at,
+        HttpServletResponse response) throws IOException {
+        log.info("시점 재구성 요청: {}", at);
+        String fileName = "employees_asof_" + FILE_TIMESTAMP_FORMAT.format(at) + ".csv";
+
+        Path result = Files.createTempFile("employees_asof_", ".csv");
+        try {
+            try (OutputStream out = Files.newOutputStream(result)) {
+                pointInTimeService.writeEmployeesAsOf(at, out);
+            }
+            response.setContentType("text/csv; charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+            response.setContentLengthLong(Files.size(result));
+            Files.copy(result, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(result);
+        }
+    }
+
+    /**
+     * 두 전체 백업 비교 결과 CSV 다운로드 (a -> b 에서 추가/삭제/변경된 행)
+     * 두 백업 파일을 동시에 한 행씩 읽으며 응답 스트림으로 바로 쓴다.
+     */
+    @GetMapping("/{a}/diff/{b}")
+    public void downloadBackupDiff(@PathVariable Long a, @PathVariable Long b,
+        HttpServletResponse response) throws IOException {
+        log.info("백업 비교 요청: {} -> {}", a, b);
+        String fileName = "backup_diff_" + a + "_" + b + ".csv";
+
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        backupDiffService.writeDiff(a, b, response.getOutputStream());
+    }
+
+    /**
+     * 백업 보관 정책 현황 (남은 삭제 대상, 확보한 바이트 수)
+     */
+    @GetMapping("/retention")
+    public ResponseEntity<BackupRetentionDto> getRetentionStatus() {
+        return ResponseEntity.ok(backupRetentionService.getStatus());
+    }
+
     /**
      * 백업 이력 조회 API
      * @param worker 작업자 (부분 일치)
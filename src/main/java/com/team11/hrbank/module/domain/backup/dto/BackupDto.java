@@ -1,6 +1,7 @@
 package com.team11.hrbank.module.domain.backup.dto;
 
 import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
 
 import java.time.Instant;
 
@@ -13,5 +14,7 @@ public record BackupDto(
     Instant startedAt,
     Instant endedAt,
     BackupStatus status,
-    Long fileId
+    Long fileId,
+    BackupType type,
+    Long parentBackupId
 ) {}
\ No newline at end of file
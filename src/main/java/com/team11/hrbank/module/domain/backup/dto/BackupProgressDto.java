@@ -0,0 +1,20 @@
+package com.team11.hrbank.module.domain.backup.dto;
+
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+
+import java.time.Instant;
+
+/**
+ * 백업 진행률 DTO
+ * 행/바이트 수는 압축 전 CSV 기준이며 섹션 구분자와 헤더 행을 포함한다.
+ * 예상 행 수는 DB 통계 기반 추정치이며 0이면 알 수 없음 (etaSeconds 는 null)
+ */
+public record BackupProgressDto(
+    Long id,
+    BackupStatus status,
+    long rowsWritten,
+    long estimatedRows,
+    long bytesWritten,
+    Instant startedAt,
+    Long etaSeconds
+) {}
@@ -0,0 +1,19 @@
+package com.team11.hrbank.module.domain.backup.dto;
+
+/**
+ * 백업 복원 결과 DTO
+ * @param backupId 복원한 백업 이력 ID
+ * @param departments 복원한 부서 수
+ * @param employees 복원한 직원 수
+ * @param unmappedDepartments 부서명을 찾지 못해 부서 없이 복원된 직원 수
+ * @param elapsedMillis 소요 시간 (파일 읽기 ~ 커밋 전)
+ * @param rowsPerSecond 초당 복원 행 수
+ */
+public record BackupRestoreDto(
+    Long backupId,
+    long departments,
+    long employees,
+    long unmappedDepartments,
+    long elapsedMillis,
+    long rowsPerSecond
+) {}
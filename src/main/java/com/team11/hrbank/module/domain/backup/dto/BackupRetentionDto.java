@@ -0,0 +1,16 @@
+package com.team11.hrbank.module.domain.backup.dto;
+
+import java.time.Instant;
+
+/**
+ * 백업 보관 정책 실행 현황 DTO
+ * 누적 값은 애플리케이션 시작 이후 이 노드에서 삭제한 양이다.
+ */
+public record BackupRetentionDto(
+    boolean enabled,
+    Instant lastRunAt,
+    int pendingDeletions,
+    long deletedBackups,
+    long deletedFiles,
+    long reclaimedBytes
+) {}
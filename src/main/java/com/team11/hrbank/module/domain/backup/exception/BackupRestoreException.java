@@ -0,0 +1,12 @@
+package com.team11.hrbank.module.domain.backup.exception;
+
+public class BackupRestoreException extends BackupException {
+
+  public BackupRestoreException(String message) {
+    super(message);
+  }
+
+  public BackupRestoreException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
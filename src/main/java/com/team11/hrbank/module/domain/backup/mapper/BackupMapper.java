@@ -15,6 +15,7 @@ public interface BackupMapper {
 
   @Mapping(source = "startAt", target = "startedAt")
   @Mapping(source = "file.id", target = "fileId", qualifiedByName = "extractFileId")
+  @Mapping(source = "parentBackup.id", target = "parentBackupId")
   BackupDto toDto(BackupHistory backupHistory);
 
   List<BackupDto> toDtoList(List<BackupHistory> backupHistories);
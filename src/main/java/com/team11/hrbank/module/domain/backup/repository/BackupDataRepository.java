@@ -0,0 +1,150 @@
+package com.team11.hrbank.module.domain.backup.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team11.hrbank.module.domain.backup.IncrementalWindow;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import com.team11.hrbank.module.domain.changelog.QChangeLog;
+import com.team11.hrbank.module.domain.department.Department;
+import com.team11.hrbank.module.domain.department.QDepartment;
+import com.team11.hrbank.module.domain.employee.Employee;
+import com.team11.hrbank.module.domain.employee.QEmployee;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 백업 데이터 추출 전용 Repository.
+ * findAll()로 전체를 메모리에 올리지 않고 forward-only 서버 사이드 커서로 스트리밍한다.
+ * 반환된 스트림은 트랜잭션 안에서 소비하고 반드시 close 해야 한다.
+ */
+@Repository
+public class BackupDataRepository {
+
+  private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
+
+  public BackupDataRepository(JPAQueryFactory jpaQueryFactory, EntityManager entityManager) {
+    this.queryFactory = jpaQueryFactory;
+    this.entityManager = entityManager;
+  }
+
+  // 직원 전체 스트리밍 (id 순)
+  public Stream<Employee> streamAllEmployees(int fetchSize) {
+    QEmployee employee = QEmployee.employee;
+
+    return queryFactory
+        .selectFrom(employee)
+        .orderBy(employee.id.asc())
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .stream();
+  }
+
+  // afterId 보다 큰 id 의 직원을 최대 limit 명 스트리밍 (id 순, 체크포인트 세그먼트용)
+  public Stream<Employee> streamEmployeesAfter(long afterId, int limit, int fetchSize) {
+    QEmployee employee = QEmployee.employee;
+
+    return queryFactory
+        .selectFrom(employee)
+        .where(employee.id.gt(afterId))
+        .orderBy(employee.id.asc())
+        .limit(limit)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .stream();
+  }
+
+  // 증분 범위의 change_logs에 기록된 (현재 존재하는) 직원만 스트리밍 (id 순)
+  public Stream<Employee> streamEmployeesChangedIn(IncrementalWindow window, int fetchSize) {
+    QEmployee employee = QEmployee.employee;
+    QChangeLog changeLog = QChangeLog.changeLog;
+
+    return queryFactory
+        .selectFrom(employee)
+        .where(employee.id.in(
+            JPAExpressions
+                .select(changeLog.employee.id)
+                .from(changeLog)
+                .where(changedIn(changeLog, window))))
+        .orderBy(employee.id.asc())
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .stream();
+  }
+
+  // 증분 범위에서 삭제된 직원의 사원번호 (삭제 이력은 employee_id가 null이므로 사원번호로 식별)
+  public List<String> findDeletedEmployeeNumbersIn(IncrementalWindow window) {
+    QChangeLog changeLog = QChangeLog.changeLog;
+
+    return queryFactory
+        .selectDistinct(changeLog.employeeNumber)
+        .from(changeLog)
+        .where(changeLog.type.eq(HistoryType.DELETED),
+            changedIn(changeLog, window))
+        .orderBy(changeLog.employeeNumber.asc())
+        .fetch();
+  }
+
+  // 워터마크 이후 id 이거나, 겹침 구간에 생성된 (늦게 커밋됐을 수 있는) 변경 이력
+  private static BooleanExpression changedIn(QChangeLog changeLog, IncrementalWindow window) {
+    return changeLog.id.gt(window.afterChangeLogId())
+        .or(changeLog.createdAt.goe(window.changedSince()));
+  }
+
+  // 부서 전체 스트리밍 (id 순)
+  public Stream<Department> streamAllDepartments(int fetchSize) {
+    QDepartment department = QDepartment.department;
+
+    return queryFactory
+        .selectFrom(department)
+        .orderBy(department.id.asc())
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .stream();
+  }
+
+  // 직원 수 추정치 (통계가 없으면 0)
+  public long estimateEmployeeRows() {
+    return estimateRows("employees");
+  }
+
+  // 부서 수 추정치 (통계가 없으면 0)
+  public long estimateDepartmentRows() {
+    return estimateRows("departments");
+  }
+
+  /**
+   * PostgreSQL 통계(pg_class.reltuples)의 행 수 추정치
+   * count(*) 와 달리 테이블을 훑지 않으며, 마지막 ANALYZE/autovacuum 시점 기준이다.
+   */
+  private long estimateRows(String tableName) {
+    Object estimate = entityManager.createNativeQuery("""
+            SELECT COALESCE((SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = to_regclass(?1)), 0)
+            """)
+        .setParameter(1, tableName)
+        .getSingleResult();
+    return ((Number) estimate).longValue();
+  }
+
+  // 부서 ID -> 부서명 매핑 (엔티티를 올리지 않고 컬럼만 조회)
+  public Map<Long, String> findDepartmentNames() {
+    QDepartment department = QDepartment.department;
+
+    Map<Long, String> departmentNames = new HashMap<>();
+    for (Tuple tuple : queryFactory
+        .select(department.id, department.name)
+        .from(department)
+        .fetch()) {
+      departmentNames.put(tuple.get(department.id), tuple.get(department.name));
+    }
+    return departmentNames;
+  }
+}
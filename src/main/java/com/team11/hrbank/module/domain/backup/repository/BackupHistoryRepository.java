@@ -2,11 +2,16 @@ package com.team11.hrbank.module.domain.backup.repository;
 
 import com.team11.hrbank.module.domain.backup.BackupHistory;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.service.retention.BackupRetentionCandidate;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,4 +41,50 @@ public interface BackupHistoryRepository extends JpaRepository<BackupHistory, Lo
      * 조건에 맞는 상태의 최신 백업 조회
      */
     Optional<BackupHistory> findTopByStatusOrderByStartAtDesc(BackupStatus status);
+
+    /**
+     * 조건에 맞는 상태의 마지막 백업 조회 (PK 역순)
+     */
+    Optional<BackupHistory> findTopByStatusOrderByIdDesc(BackupStatus status);
+
+    /**
+     * 조건에 맞는 상태/유형의 최신 백업 조회
+     */
+    Optional<BackupHistory> findTopByStatusAndTypeOrderByStartAtDesc(BackupStatus status, BackupType type);
+
+    /**
+     * 지정 시각 이후 시작된 상태/유형별 백업 개수 (증분 체인 길이 계산용)
+     */
+    long countByStatusAndTypeAndStartAtAfter(BackupStatus status, BackupType type, Instant startAt);
+
+    /**
+     * 지정 시각 이전에 끝난 상태/유형별 최신 백업 (시점 재구성의 기준 백업 조회용)
+     */
+    Optional<BackupHistory> findTopByStatusAndTypeAndEndedAtLessThanEqualOrderByEndedAtDesc(
+        BackupStatus status, BackupType type, Instant endedAt);
+
+    /**
+     * 상태별 백업 이력 조회 (중단된 IN_PROGRESS 백업 복구용)
+     */
+    List<BackupHistory> findAllByStatus(BackupStatus status);
+
+    /**
+     * 보관 정책 계산용 완료 백업 요약 (파일/부모 엔티티를 올리지 않음)
+     */
+    @Query("SELECT new com.team11.hrbank.module.domain.backup.service.retention.BackupRetentionCandidate(b.id, b.startAt, p.id) "
+        + "FROM BackupHistory b LEFT JOIN b.parentBackup p WHERE b.status = 'COMPLETED'")
+    List<BackupRetentionCandidate> findRetentionCandidates();
+
+    /**
+     * 지정 시각 이전에 시작된 상태별 백업 id (최신순)
+     */
+    @Query("SELECT b.id FROM BackupHistory b WHERE b.status IN :statuses AND b.startAt < :before ORDER BY b.id DESC")
+    List<Long> findIdsByStatusInAndStartAtBefore(Collection<BackupStatus> statuses, Instant before);
+
+    /**
+     * 부모 백업 링크 해제 (부모 삭제 전, 남아 있는 실패 이력의 참조 제거)
+     */
+    @Modifying
+    @Query("UPDATE BackupHistory b SET b.parentBackup = null WHERE b.parentBackup.id = :parentId")
+    int detachFromParent(Long parentId);
 }
@@ -0,0 +1,68 @@
+package com.team11.hrbank.module.domain.backup.repository;
+
+import com.team11.hrbank.module.domain.backup.BackupLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 백업 lease Repository.
+ * 노드 간 시계 차이의 영향을 받지 않도록 만료 판단은 모두 DB 시각(now())으로 한다.
+ */
+public interface BackupLeaseRepository extends JpaRepository<BackupLease, String> {
+
+    /**
+     * lease가 없거나 만료되었으면(또는 이미 내 것이면) 획득하고 펜싱 토큰을 1 증가
+     * @return 획득하면 새 펜싱 토큰, 다른 노드가 보유 중이면 null
+     */
+    @Query(value = """
+        INSERT INTO backup_leases (name, owner, acquired_at, expires_at, token)
+        VALUES (:name, :owner, now(), now() + :ttlSeconds * INTERVAL '1 second', 1)
+        ON CONFLICT (name) DO UPDATE
+            SET owner = EXCLUDED.owner,
+                acquired_at = EXCLUDED.acquired_at,
+                expires_at = EXCLUDED.expires_at,
+                token = backup_leases.token + 1
+            WHERE backup_leases.expires_at < now() OR backup_leases.owner = EXCLUDED.owner
+        RETURNING token
+        """, nativeQuery = true)
+    Long tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * 보유 중인 lease 만료 시각 연장 (heartbeat)
+     * 만료된 lease는 연장하지 않는다. (이미 다른 노드가 가져갔을 수 있으므로 잃은 것으로 본다)
+     * @return 연장하면 1, 만료되었거나 다른 노드가 가져갔으면 0
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE backup_leases
+        SET expires_at = now() + :ttlSeconds * INTERVAL '1 second'
+        WHERE name = :name AND owner = :owner AND token = :token AND expires_at > now()
+        """, nativeQuery = true)
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("token") long token,
+        @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * 보유 중인 lease 즉시 만료
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE backup_leases
+        SET expires_at = now()
+        WHERE name = :name AND owner = :owner AND token = :token
+        """, nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("token") long token);
+
+    /**
+     * 아직 내 lease(같은 토큰, 만료 전)이면 커밋까지 행을 잠금 (펜싱)
+     * 잠금이 유지되는 동안 다른 노드는 lease를 가져가지 못한다.
+     * @return 보유 중이면 펜싱 토큰, 잃었으면 null
+     */
+    @Query(value = """
+        SELECT token FROM backup_leases
+        WHERE name = :name AND owner = :owner AND token = :token AND expires_at > now()
+        FOR SHARE
+        """, nativeQuery = true)
+    Long lockIfHeld(@Param("name") String name, @Param("owner") String owner, @Param("token") long token);
+}
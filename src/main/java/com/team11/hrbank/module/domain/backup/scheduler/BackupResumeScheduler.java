@@ -0,0 +1,33 @@
+package com.team11.hrbank.module.domain.backup.scheduler;
+
+import com.team11.hrbank.module.domain.backup.service.BackupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행하던 노드가 중단된 백업을 주기적으로 재개하는 스케줄러
+ * backup.checkpoint.enabled 일 때만 등록되므로 꺼져 있으면 주기마다 DB 를 조회하지 않는다.
+ * (꺼져 있어도 중단된 백업은 다음 정기 백업이 lease 를 얻을 때 실패 처리된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "backup.checkpoint", name = "enabled", havingValue = "true")
+public class BackupResumeScheduler {
+    private final BackupService backupService;
+
+    /**
+     * 실행하던 노드가 중단된 백업 재개 (체크포인트가 없으면 실패 처리)
+     */
+    @Scheduled(fixedDelayString = "${backup.checkpoint.resume-interval:PT1M}")
+    public void resumeInterruptedBackup() {
+        try {
+            backupService.resumeInterruptedBackup();
+        } catch (RuntimeException e) {
+            log.error("중단된 백업 재개 실패", e);
+        }
+    }
+}
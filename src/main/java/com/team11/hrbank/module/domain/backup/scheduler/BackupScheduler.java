@@ -1,13 +1,17 @@
 package com.team11.hrbank.module.domain.backup.scheduler;
 
+import com.team11.hrbank.module.domain.backup.exception.BackupAlreadyInProgressException;
 import com.team11.hrbank.module.domain.backup.service.BackupService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * 백업을 주기적으로 실행하는 스케줄러
+ * 모든 노드에서 실행되지만 백업 lease를 획득한 노드 하나만 실제로 백업한다.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class BackupScheduler {
@@ -15,6 +19,11 @@ public class BackupScheduler {
 
     @Scheduled(cron = "${backup.schedule.cron:0 0 * * * *}") // 매 시간 정각 실행
     public void scheduledBackup() {
-        backupService.performBackup("system");
+        try {
+            // 백업 스레드 풀에서 실행 (스케줄러 스레드가 lease heartbeat 를 계속 돌릴 수 있도록)
+            backupService.submitBackup("system");
+        } catch (BackupAlreadyInProgressException e) {
+            log.info("정기 백업 건너뜀 - {}", e.getMessage());
+        }
     }
 }
@@ -0,0 +1,165 @@
+package com.team11.hrbank.module.domain.backup.service;
+
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.domain.backup.exception.BackupFailedException;
+import com.team11.hrbank.module.domain.backup.repository.BackupLeaseRepository;
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgressTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 클러스터 내 백업 실행 권한(lease) 관리
+ * lease 행을 원자적으로 획득한 노드만 백업을 실행하고, 실행 중에는 heartbeat 로 만료 시각을 연장한다.
+ * 노드가 죽으면 heartbeat 가 끊겨 ttl 이후 다른 노드가 lease를 가져간다.
+ * (커넥션 풀이 작아 백업 내내 커넥션을 점유하는 advisory lock 대신 lease 행을 사용)
+ * 갱신에 실패하면 lease를 잃은 것으로 보고 진행 중인 백업을 중단시키며,
+ * 완료 처리는 획득할 때 받은 펜싱 토큰으로 아직 lease를 보유 중인지 확인한 뒤에만 커밋한다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class BackupLeaseService {
+
+  private static final String LEASE_NAME = "backup";
+  /** 보관 정책 실행 lease (백업 lease와 별개라 정리하는 동안에도 백업은 실행된다) */
+  public static final String RETENTION_LEASE_NAME = "backup-retention";
+
+  private final BackupLeaseRepository backupLeaseRepository;
+  private final BackupProgressTracker progressTracker;
+  private final BackupProperties backupProperties;
+  private final String owner;
+  private final AtomicBoolean held = new AtomicBoolean(false);
+  /** 획득할 때 받은 펜싱 토큰 */
+  private volatile long token;
+  /** 갱신에 실패해 lease를 잃었는지 (반납할 때 초기화) */
+  private volatile boolean lost;
+
+  public BackupLeaseService(BackupLeaseRepository backupLeaseRepository, BackupProgressTracker progressTracker,
+      BackupProperties backupProperties) {
+    this.backupLeaseRepository = backupLeaseRepository;
+    this.progressTracker = progressTracker;
+    this.backupProperties = backupProperties;
+    this.owner = resolveHostName() + ":" + UUID.randomUUID();
+  }
+
+  /**
+   * lease 획득 시도
+   * @return 획득하면 true, 이 노드나 다른 노드에서 이미 백업 중이면 false
+   */
+  public boolean tryAcquire() {
+    if (!held.compareAndSet(false, true)) {
+      return false;
+    }
+    Long acquiredToken;
+    try {
+      acquiredToken = backupLeaseRepository.tryAcquire(LEASE_NAME, owner, ttlSeconds());
+    } catch (RuntimeException e) {
+      held.set(false);
+      throw e;
+    }
+    if (acquiredToken == null) {
+      held.set(false);
+      log.info("다른 노드가 백업 lease 보유 중 - 백업 실행 안 함");
+      return false;
+    }
+    token = acquiredToken;
+    lost = false;
+    log.info("백업 lease 획득: {}, 토큰: {}", owner, acquiredToken);
+    return true;
+  }
+
+  public void release() {
+    if (held.compareAndSet(true, false)) {
+      // 잃은 lease는 토큰이 달라 반납되지 않음 (새 보유자의 lease를 건드리지 않도록)
+      backupLeaseRepository.release(LEASE_NAME, owner, token);
+      lost = false;
+      log.info("백업 lease 반납: {}", owner);
+    }
+  }
+
+  /**
+   * lease를 보유한 동안 주기적으로 만료 시각 연장
+   * 연장에 실패하면 lease를 잃은 것으로 표시하고 이 노드에서 진행 중인 백업을 중단시킨다.
+   */
+  @Scheduled(fixedDelayString = "${backup.lease.heartbeat-interval:PT15S}")
+  public void heartbeat() {
+    if (!held.get() || lost) {
+      return;
+    }
+    if (backupLeaseRepository.renew(LEASE_NAME, owner, token, ttlSeconds()) == 0) {
+      lost = true;
+      log.error("백업 lease 갱신 실패 - 만료되어 다른 노드가 가져갔을 수 있어 진행 중인 백업을 중단합니다: {}", owner);
+      progressTracker.abortInProgress("백업 lease를 잃어 백업을 중단했습니다.");
+    }
+  }
+
+  /**
+   * 갱신에 실패해 lease를 잃었는지
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public boolean isLost() {
+    return lost;
+  }
+
+  /**
+   * lease를 잃었으면 예외 (세그먼트/배치 사이에서 호출해 추출을 중단)
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public void checkHeld() {
+    if (lost) {
+      throw new BackupFailedException("백업 lease를 잃어 백업을 중단했습니다.");
+    }
+  }
+
+  /**
+   * 현재 트랜잭션에서 lease 행을 잠가 아직 이 노드의 lease(같은 토큰, 만료 전)인지 확인 (펜싱)
+   * 잠금은 커밋까지 유지되므로 확인한 뒤 커밋 전에 다른 노드가 lease를 가져가지 못한다.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void fence() {
+    if (!held.get() || lost || backupLeaseRepository.lockIfHeld(LEASE_NAME, owner, token) == null) {
+      lost = true;
+      throw new BackupFailedException("백업 lease를 잃어 완료 처리하지 않습니다. (토큰: " + token + ")");
+    }
+  }
+
+  /**
+   * 백업 외 작업용 lease 획득 (heartbeat 없이 ttl 동안 유효하므로 작업 중 renew 로 연장)
+   * @return 펜싱 토큰, 다른 노드가 보유 중이면 null
+   */
+  public Long tryAcquire(String name) {
+    return backupLeaseRepository.tryAcquire(name, owner, ttlSeconds());
+  }
+
+  /**
+   * 백업 외 작업용 lease 연장
+   * @return 연장하면 true, 만료되었거나 다른 노드가 가져갔으면 false
+   */
+  public boolean renew(String name, long leaseToken) {
+    return backupLeaseRepository.renew(name, owner, leaseToken, ttlSeconds()) > 0;
+  }
+
+  public void release(String name, long leaseToken) {
+    backupLeaseRepository.release(name, owner, leaseToken);
+  }
+
+  private long ttlSeconds() {
+    return backupProperties.getLease().getTtl().toSeconds();
+  }
+
+  private static String resolveHostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return "unknown";
+    }
+  }
+}
@@ -1,22 +1,38 @@
 package com.team11.hrbank.module.domain.backup.service;
 
+import com.team11.hrbank.module.common.config.BackupProperties;
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.domain.backup.BackupExtractMode;
 import com.team11.hrbank.module.domain.backup.BackupHistory;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.IncrementalWindow;
 import com.team11.hrbank.module.domain.backup.dto.BackupDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupProgressDto;
+import com.team11.hrbank.module.domain.backup.exception.BackupAlreadyInProgressException;
+import com.team11.hrbank.module.domain.backup.exception.BackupFailedException;
 import com.team11.hrbank.module.domain.backup.mapper.BackupMapper;
 import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
 import com.team11.hrbank.module.domain.backup.repository.BackupSpecifications;
-import com.team11.hrbank.module.domain.backup.service.data.BackupDataService;
+import com.team11.hrbank.module.domain.backup.service.archive.BackupArchiveService;
+import com.team11.hrbank.module.domain.backup.service.checkpoint.CheckpointedBackupExporter;
+import com.team11.hrbank.module.domain.backup.service.data.BackupConnectionProvider;
+import com.team11.hrbank.module.domain.backup.service.data.CopyBackupDataExtractor;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileResult;
 import com.team11.hrbank.module.domain.backup.service.file.BackupFileStorageService;
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgressTracker;
+import com.team11.hrbank.module.domain.backup.service.storage.BackupStorageRouter;
 import com.team11.hrbank.module.domain.file.File;
 import com.team11.hrbank.module.domain.file.service.FileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,69 +48,280 @@ public class BackupService {
 
     private final BackupHistoryRepository backupHistoryRepository;
     private final BackupFileStorageService fileStorageService;
-    private final BackupDataService backupDataService;
     private final FileService fileService;
     private final BackupMapper backupMapper;
     private final BackupTransactionService backupTxService; //트랜잭션 관련 로직
+    private final BackupProgressTracker progressTracker;
+    private final BackupLeaseService leaseService;
+    private final ThreadPoolTaskExecutor backupJobExecutor;
+    private final BackupArchiveService archiveService;
+    private final BackupProperties backupProperties;
+    private final BackupConnectionProvider connectionProvider;
+    private final CopyBackupDataExtractor copyBackupDataExtractor;
+    private final CheckpointedBackupExporter checkpointExporter;
+    private final BackupStorageRouter storageRouter;
 
     /**
-     * 백업을 실행하고 결과를 반환
+     * 백업을 실행하고 결과를 반환 (호출 스레드에서 동기 실행)
      *
      * @param workerIp 작업자 ip 또는 system
      * @return 생성된 백업 이력
      */
     public BackupHistory performBackup(String workerIp) {
-        // 1. 진행 중인 백업 확인
-        if (backupTxService.isBackupInProgress()) {
-            throw new IllegalStateException("이미 진행 중인 백업이 존재합니다.");
+        BackupJob job = prepareBackup(workerIp);
+        if (job == null) {
+            return saveSkippedHistory(workerIp);
         }
+        return runBackup(job);
+    }
+
+    /**
+     * 백업 작업을 백업 전용 스레드 풀에 등록하고 바로 반환
+     * 진행 상황은 getBackupProgress 로 조회한다.
+     *
+     * @param workerIp 작업자 ip 또는 system
+     * @return IN_PROGRESS 상태의 백업 이력 (변경 사항이 없으면 SKIPPED)
+     */
+    public BackupHistory submitBackup(String workerIp) {
+        BackupJob job = prepareBackup(workerIp);
+        if (job == null) {
+            return saveSkippedHistory(workerIp);
+        }
+        execute(job);
+        return job.history();
+    }
+
+    /**
+     * 중단된 백업 확인 후 재개
+     * 진행 중 이력이 있는데 lease 를 얻을 수 있으면 실행하던 노드가 중단된 것이다.
+     * 체크포인트가 남아 있으면 백업 스레드 풀에서 이어서 쓰고, 아니면 실패 처리한다.
+     */
+    public void resumeInterruptedBackup() {
+        if (!backupTxService.isBackupInProgress() || !leaseService.tryAcquire()) {
+            return;
+        }
+        BackupJob job;
+        try {
+            job = recoverOrphanedBackups();
+        } catch (RuntimeException e) {
+            leaseService.release();
+            throw e;
+        }
+        if (job == null) {
+            leaseService.release();
+            return;
+        }
+        execute(job);
+    }
 
+    private void execute(BackupJob job) {
+        try {
+            backupJobExecutor.execute(() -> {
+                try {
+                    runBackup(job);
+                } catch (RuntimeException e) {
+                    log.error("비동기 백업 실패 - 이력 ID: {}", job.history().getId(), e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            handleBackupFailure(job.history().getId(), null, null, e);
+            leaseService.release();
+            throw new BackupAlreadyInProgressException("백업 작업 대기열이 가득 찼습니다.", e);
+        }
+    }
+
+    /**
+     * 사전 확인, 백업 lease 획득 후 IN_PROGRESS 이력 생성
+     * 변경 사항도 중단된 백업도 없으면 lease를 잡지 않고 바로 건너뛴다.
+     * 작업을 반환하면 lease는 runBackup 이 끝날 때 반납된다.
+     * 체크포인트에서 재개할 수 있는 중단된 백업이 있으면 새 백업 대신 그 백업을 이어서 실행한다.
+     * @return 실행할 백업 작업, 변경 사항이 없으면 null
+     */
+    private BackupJob prepareBackup(String workerIp) {
         log.info("백업 실행 요청 받음 - 요청자 IP: {}", workerIp);
 
-        // 2. 변경 사항 확인
-        boolean isChanged = backupTxService.checkIfChangesExist();
+        // 1. 할 일이 있는지 lease 없이 확인 (캐싱된 변경 이력 최대 id와 직전 완료 백업의 워터마크 비교)
+        if (!backupTxService.checkIfChangesExist() && !backupTxService.isBackupInProgress()) {
+            return null;
+        }
+
+        // 2. 클러스터 백업 lease 획득 (lease를 가진 노드 하나만 백업 실행)
+        if (!leaseService.tryAcquire()) {
+            throw new BackupAlreadyInProgressException("이미 진행 중인 백업이 존재합니다.");
+        }
+
+        try {
+            // 3. lease 없이 남아 있는 IN_PROGRESS 이력 복구 (실행하던 노드가 중단된 경우)
+            BackupJob resumed = recoverOrphanedBackups();
+            if (resumed != null) {
+                return resumed;
+            }
+
+            // 4. 변경 사항 재확인 (lease를 얻기 전에 다른 노드가 백업을 완료했을 수 있음), 없으면 skip
+            if (!backupTxService.checkIfChangesExist()) {
+                leaseService.release();
+                return null;
+            }
+
+            // 5. 백업 유형 결정 (직전 완료 백업이 있으면 증분, 없으면 전체)
+            BackupHistory parentBackup = backupTxService.findIncrementalParent();
+            BackupType backupType = parentBackup != null ? BackupType.INCREMENTAL : BackupType.FULL;
+
+            // 6. 백업 시작
+            BackupHistory backupHistory = backupTxService.saveBackupHistory(
+                workerIp, BackupStatus.IN_PROGRESS, null, backupType, parentBackup);
+            log.info("백업 시작 - 이력 ID: {}, 유형: {}", backupHistory.getId(), backupType);
+
+            IncrementalWindow window = parentBackup != null ? backupTxService.incrementalWindow(parentBackup) : null;
+            BackupProgress progress = progressTracker.start(
+                backupHistory.getId(),
+                backupTxService.estimateBackupRows(
+                    window != null ? window.afterChangeLogId() : null, backupHistory.getLastChangeLogId()));
+            return new BackupJob(backupHistory, window, progress);
+        } catch (RuntimeException e) {
+            leaseService.release();
+            throw e;
+        }
+    }
 
-        // 3. 변경 사항 없는 경우 skip
-        if (!isChanged) {
-            BackupHistory skippedHistory = backupTxService.saveBackupHistory(workerIp, BackupStatus.SKIPPED, null);
-            log.info("백업 불필요 - SKIPPED 상태로 저장, ID: {}", skippedHistory.getId());
-            return skippedHistory;
+    /**
+     * lease를 획득한 시점에 남아 있는 IN_PROGRESS 이력은 다른 노드에서 중단된 백업
+     * 가장 최근 백업에 체크포인트가 있으면 재개할 작업으로 반환하고, 나머지는 실패 처리한다.
+     * @return 체크포인트에서 재개할 백업 작업, 없으면 null
+     */
+    private BackupJob recoverOrphanedBackups() {
+        BackupJob resumed = null;
+        for (BackupHistory orphan : backupTxService.findInProgressBackups()) {
+            Long backupId = orphan.getId();
+            if (resumed == null && checkpointExporter.canResume(orphan)) {
+                log.warn("중단된 백업 재개 - 이력 ID: {}, 확정된 세그먼트: {}개", backupId, orphan.getCheckpointSegments());
+                resumed = new BackupJob(orphan, null,
+                    progressTracker.start(backupId, backupTxService.estimateBackupRows(null, null)));
+                continue;
+            }
+            log.warn("중단된 백업 실패 처리 - 이력 ID: {}", backupId);
+            handleBackupFailure(backupId, null, null, new BackupFailedException(
+                "백업을 실행하던 노드가 중단되어 실패 처리되었습니다. (이력 ID: " + backupId + ")"));
         }
+        return resumed;
+    }
 
-        // 4. 백업 시작
-        BackupHistory backupHistory = backupTxService.saveBackupHistory(workerIp, BackupStatus.IN_PROGRESS, null);
-        log.info("백업 시작 - 이력 ID: {}", backupHistory.getId());
+    private BackupHistory saveSkippedHistory(String workerIp) {
+        BackupHistory skippedHistory = backupTxService.saveBackupHistory(workerIp, BackupStatus.SKIPPED, null);
+        log.info("백업 불필요 - SKIPPED 상태로 저장, ID: {}", skippedHistory.getId());
+        return skippedHistory;
+    }
 
+    /**
+     * 백업 파일 생성 ~ 완료 처리
+     */
+    private BackupHistory runBackup(BackupJob job) {
+        Long backupId = job.history().getId();
         File backupFile = null;
         String backupFilePath = null;
         try {
-            // 5. 백업 파일 생성 (트랜잭션 외부 작업)
-            backupFilePath = fileStorageService.saveBackupToCsv(backupDataService.getAllDataForBackup());
+            // 7. 백업 파일 생성 (커서 스트림을 소비하는 동안 읽기 전용 트랜잭션 유지)
+            BackupFileResult exported = job.window() != null
+                ? backupTxService.exportIncrementalBackupFile(job.window(), job.progress())
+                : exportFullBackup(job);
+            backupFilePath = exported.filePath();
             log.info("백업 파일 생성 완료: {}", backupFilePath);
 
-            // 6. 파일 엔티티 생성
-            backupFile = backupTxService.createFileEntity(backupFilePath);
+            // 8. 파일 엔티티 생성 (압축 코덱, 압축 전 크기 포함)
+            backupFile = backupTxService.createFileEntity(exported);
 
-            // 7. 백업 완료 처리
-            BackupHistory updatedHistory = backupTxService.updateBackupStatus(
-                backupHistory.getId(), BackupStatus.COMPLETED, backupFile);
+            // 9. 백업 완료 처리 (lease 펜싱 토큰 확인)
+            BackupHistory updatedHistory = backupTxService.completeBackup(backupId, backupFile);
+            progressTracker.finish(backupId, BackupStatus.COMPLETED);
+            checkpointExporter.discard(backupId);
             log.info("백업 완료 - 저장된 파일: {}", backupFilePath);
 
             return updatedHistory;
-        } catch (IOException e) {
+        } catch (IOException | RuntimeException e) {
             log.error("백업 실패", e);
 
-            // 8. 실패 처리
-            handleBackupFailure(backupHistory.getId(), backupFile, backupFilePath, e);
+            // 10. 실패 처리
+            handleBackupFailure(backupId, backupFile, backupFilePath, e);
+
+            throw new BackupFailedException("백업 실패: " + e.getMessage(), e);
+        } finally {
+            leaseService.release();
+        }
+    }
+
+    /**
+     * 전체 백업 파일 생성
+     * 아카이브 모드, 백업 전용 풀을 쓰는 COPY 모드는 커넥션/스냅샷을 직접 관리하므로
+     * 애플리케이션 풀 커넥션을 잡지 않도록 스프링 트랜잭션 밖에서 실행한다.
+     * 체크포인트 백업은 세그먼트마다 짧은 트랜잭션을 쓰므로 역시 트랜잭션 밖에서 실행한다.
+     */
+    private BackupFileResult exportFullBackup(BackupJob job) throws IOException {
+        BackupProgress progress = job.progress();
+        if (checkpointExporter.isEnabled()) {
+            return checkpointExporter.export(job.history(), progress);
+        }
+        if (backupProperties.getArchive().isEnabled()) {
+            return archiveService.exportArchive(progress);
+        }
+        if (backupProperties.getExtract().getMode() == BackupExtractMode.COPY && connectionProvider.isDedicated()) {
+            return fileStorageService.saveBackup("backup_", progress,
+                out -> copyBackupDataExtractor.writeFullBackup(out, progress));
+        }
+        return backupTxService.exportBackupFile(progress);
+    }
 
-            throw new RuntimeException("백업 실패: " + e.getMessage(), e);
+    /**
+     * 백업 진행률 조회
+     * 진행 중(또는 방금 끝난) 백업은 실시간 카운터를, 그 외에는 백업 이력 기준 값을 반환한다.
+     * @param backupId 백업 이력 ID
+     */
+    @Transactional(readOnly = true)
+    public BackupProgressDto getBackupProgress(Long backupId) {
+        BackupProgress progress = progressTracker.get(backupId);
+        if (progress != null) {
+            return new BackupProgressDto(
+                backupId,
+                progress.getStatus(),
+                progress.getRowsWritten().get(),
+                progress.getEstimatedRows(),
+                progress.getBytesWritten().get(),
+                progress.getStartedAt(),
+                progress.getEtaSeconds());
         }
+
+        BackupHistory history = backupTxService.getBackupById(backupId);
+        File file = history.getFile();
+        long bytesWritten = history.getStatus() == BackupStatus.COMPLETED && file != null
+            ? (file.getUncompressedSize() != null ? file.getUncompressedSize() : file.getSize())
+            : 0L;
+        return new BackupProgressDto(
+            backupId,
+            history.getStatus(),
+            0L,
+            0L,
+            bytesWritten,
+            history.getStartAt(),
+            history.getStatus() == BackupStatus.IN_PROGRESS ? null : 0L);
+    }
+
+    /**
+     * 실행할 백업 작업
+     * @param window 증분 백업의 변경 이력 범위 (부모 백업의 워터마크와 겹침 구간), 전체 백업이면 null
+     */
+    private record BackupJob(BackupHistory history, IncrementalWindow window, BackupProgress progress) {
     }
 
     /**
      * 백업 실패 처리
+     * lease를 잃은 경우에는 이 노드가 만든 파일만 정리하고, 이력과 체크포인트는 lease를 가져간 노드의 복구에 맡긴다.
      */
     private void handleBackupFailure(Long backupId, File backupFile, String backupFilePath, Exception error) {
+        boolean leaseLost = leaseService.isLost();
+        progressTracker.finish(backupId, BackupStatus.FAILED);
+        if (!leaseLost) {
+            checkpointExporter.discard(backupId);
+        }
+
         // 1. 이미 생성된 파일 정리
         if (backupFile != null) {
             try {
@@ -102,13 +329,19 @@ public class BackupService {
             } catch (Exception e) {
                 log.error("백업 파일 삭제 실패: {}", e.getMessage(), e);
             }
-        } else if (backupFilePath != null) {
+        }
+        if (backupFilePath != null) {
+            // 원격 저장소 파일은 FileService 가 지우지 못하므로 저장소를 통해 삭제 (로컬은 이미 없으면 무시)
             try {
-                fileService.deleteActualFile(backupFilePath);
+                storageRouter.delete(backupFilePath);
             } catch (Exception e) {
                 log.error("물리적 백업 파일 삭제 실패: {}", e.getMessage(), e);
             }
         }
+        if (leaseLost) {
+            log.warn("백업 lease를 잃어 이력 상태는 변경하지 않음 (다음 lease 보유 노드가 복구) - 이력 ID: {}", backupId);
+            return;
+        }
 
         // 2. 에러 로그 저장 및 백업 상태 업데이트
         try {
@@ -1,20 +1,36 @@
 package com.team11.hrbank.module.domain.backup.service;
 
+import com.team11.hrbank.module.common.config.BackupProperties;
 import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import com.team11.hrbank.module.domain.backup.BackupExtractMode;
 import com.team11.hrbank.module.domain.backup.BackupHistory;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.IncrementalWindow;
+import com.team11.hrbank.module.domain.backup.repository.BackupDataRepository;
 import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
+import com.team11.hrbank.module.domain.backup.service.data.BackupDataService;
+import com.team11.hrbank.module.domain.backup.service.data.CopyBackupDataExtractor;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileResult;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileStorageService;
+import com.team11.hrbank.module.domain.backup.service.file.CsvRowEncoder;
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
 import com.team11.hrbank.module.domain.changelog.repository.ChangeLogRepository;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogHighWaterMark;
 import com.team11.hrbank.module.domain.file.File;
 import com.team11.hrbank.module.domain.file.service.FileService;
+import com.team11.hrbank.module.domain.file.service.FileTransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
 
 
 /**
@@ -28,32 +44,202 @@ public class BackupTransactionService {
 
   private final BackupHistoryRepository backupHistoryRepository;
   private final ChangeLogRepository changeLogRepository;
+  private final ChangeLogHighWaterMark changeLogHighWaterMark;
   private final FileService fileService;
+  private final FileTransactionService fileTransactionService;
+  private final BackupDataRepository backupDataRepository;
+  private final BackupDataService backupDataService;
+  private final CopyBackupDataExtractor copyBackupDataExtractor;
+  private final BackupFileStorageService fileStorageService;
+  private final BackupLeaseService leaseService;
+  private final BackupProperties backupProperties;
 
   @Transactional(readOnly = true)
   public boolean isBackupInProgress() {
     return backupHistoryRepository.countInProgressBackups() > 0;
   }
 
+  /**
+   * 진행 중 이력 (최신순)
+   */
+  @Transactional(readOnly = true)
+  public List<BackupHistory> findInProgressBackups() {
+    return backupHistoryRepository.findAllByStatus(BackupStatus.IN_PROGRESS).stream()
+        .sorted(Comparator.comparing(BackupHistory::getId).reversed())
+        .toList();
+  }
+
+  /**
+   * 직전 완료 백업 이후 변경 이력이 있는지 확인
+   * 직전 백업이 포함한 change_logs.id 와 메모리에 캐싱된 최대 id 를 비교한다.
+   * 캐시상 변경이 없을 때만 다른 노드의 저장을 확인하기 위해 DB 최대 id를 한 번 다시 읽는다.
+   * id 는 커밋 순서와 다르게 발급되므로, 최대 id 가 그대로여도 겹침 구간의 워터마크 이하 이력 수가
+   * 직전 백업 시작 시점보다 늘었으면 그 사이 늦게 커밋된 변경 이력이 있는 것으로 본다.
+   */
   @Transactional(readOnly = true)
   public boolean checkIfChangesExist() {
-    Instant lastBackupTime = backupHistoryRepository.findLatestCompletedBackupTime();
-    if (lastBackupTime == null) {
+    BackupHistory lastCompleted = backupHistoryRepository
+        .findTopByStatusOrderByIdDesc(BackupStatus.COMPLETED)
+        .orElse(null);
+    if (lastCompleted == null) {
       log.info("첫 백업 실행");
       return true;
-    } else {
-      long changesCount = changeLogRepository.countByDateRangeFrom(lastBackupTime);
-      log.info("last backup time: {}, changes count: {}", lastBackupTime, changesCount);
+    }
+
+    Long coveredChangeLogId = lastCompleted.getLastChangeLogId();
+    if (coveredChangeLogId == null) {
+      // 하이 워터마크 도입 이전 백업은 시각 기준으로 확인
+      long changesCount = changeLogRepository.countByDateRangeFrom(lastCompleted.getStartAt());
+      log.info("last backup time: {}, changes count: {}", lastCompleted.getStartAt(), changesCount);
       return changesCount > 0;
     }
+
+    if (changeLogHighWaterMark.current() > coveredChangeLogId) {
+      return true;
+    }
+    long latestChangeLogId = changeLogHighWaterMark.refresh();
+    log.info("last backup change log id: {}, latest change log id: {}", coveredChangeLogId, latestChangeLogId);
+    if (latestChangeLogId > coveredChangeLogId) {
+      return true;
+    }
+
+    Long overlapCount = lastCompleted.getOverlapChangeLogCount();
+    if (overlapCount == null) {
+      return false;
+    }
+    long latestOverlapCount = countOverlapChangeLogs(coveredChangeLogId, lastCompleted.getStartAt());
+    if (latestOverlapCount > overlapCount) {
+      log.info("직전 백업 이후 늦게 커밋된 변경 이력 {}건 감지", latestOverlapCount - overlapCount);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * 증분 백업의 기반이 될 직전 완료 백업 조회
+   * 증분 백업이 꺼져 있거나, 전체 백업이 없거나, 증분 체인이 최대 길이에 도달하면 null (전체 백업 수행)
+   * @return 증분 백업의 부모 백업, 전체 백업이 필요하면 null
+   */
+  @Transactional(readOnly = true)
+  public BackupHistory findIncrementalParent() {
+    if (!backupProperties.getIncremental().isEnabled()) {
+      return null;
+    }
+
+    BackupHistory lastCompleted = backupHistoryRepository.findTopByStatusOrderByStartAtDesc(BackupStatus.COMPLETED)
+        .orElse(null);
+    if (lastCompleted == null || lastCompleted.getLastChangeLogId() == null) {
+      // 하이 워터마크 도입 이전 백업은 변경 이력 id 기준으로 이어 쓸 수 없음
+      log.info("증분 기준(변경 이력 id)이 없는 직전 백업 - 전체 백업 실행");
+      return null;
+    }
+
+    BackupHistory lastFull = backupHistoryRepository
+        .findTopByStatusAndTypeOrderByStartAtDesc(BackupStatus.COMPLETED, BackupType.FULL)
+        .orElse(null);
+    if (lastFull == null) {
+      log.info("완료된 전체 백업 없음 - 전체 백업 실행");
+      return null;
+    }
+
+    long chainLength = backupHistoryRepository.countByStatusAndTypeAndStartAtAfter(
+        BackupStatus.COMPLETED, BackupType.INCREMENTAL, lastFull.getStartAt());
+    if (chainLength >= backupProperties.getIncremental().getMaxChainLength()) {
+      log.info("증분 체인 길이 {} 도달 - 전체 백업 실행", chainLength);
+      return null;
+    }
+
+    return lastCompleted;
+  }
+
+  /**
+   * 백업 데이터 추출 ~ 파일 쓰기를 하나의 읽기 전용 트랜잭션에서 수행
+   * 서버 사이드 커서는 트랜잭션이 열려 있는 동안에만 유효하므로 스트림 소비까지 트랜잭션을 유지한다.
+   * REPEATABLE READ 이므로 직원/부서 모두 첫 조회 시점의 같은 스냅샷에서 읽는다. (쓰기 작업은 막지 않음)
+   * backup.extract.mode 가 COPY 이면 같은 트랜잭션 커넥션으로 COPY TO STDOUT 을 실행한다.
+   * @param progress 파일을 쓰는 동안 갱신할 진행 카운터
+   * @return 저장된 백업 파일 정보
+   */
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public BackupFileResult exportBackupFile(BackupProgress progress) throws IOException {
+    if (backupProperties.getExtract().getMode() == BackupExtractMode.COPY) {
+      return fileStorageService.saveBackup("backup_", progress,
+          out -> copyBackupDataExtractor.writeFullBackup(out, progress));
+    }
+    return fileStorageService.saveBackup("backup_", progress, out -> {
+      CsvRowEncoder encoder = CsvRowEncoder.utf8(out, progress);
+      backupDataService.writeAllDataForBackup(encoder);
+      encoder.flush();
+    });
+  }
+
+  /**
+   * 증분 백업의 변경 이력 범위 (부모 백업의 워터마크 이후 + 부모 백업 시작 전 겹침 구간)
+   */
+  public IncrementalWindow incrementalWindow(BackupHistory parentBackup) {
+    return IncrementalWindow.after(parentBackup, backupProperties.getIncremental().getOverlap());
+  }
+
+  /**
+   * 증분 백업 파일 생성 (부모 백업이 포함한 마지막 변경 이력 이후 변경분만)
+   * change_logs.id 로 선택하되, 부모 백업 시점에 커밋되지 않았던 작은 id 의 이력도 포함되도록 겹침 구간을 다시 읽는다.
+   * @param window 부모 백업의 워터마크와 겹침 구간
+   * @param progress 파일을 쓰는 동안 갱신할 진행 카운터
+   * @return 저장된 백업 파일 정보
+   */
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public BackupFileResult exportIncrementalBackupFile(IncrementalWindow window, BackupProgress progress)
+      throws IOException {
+    return fileStorageService.saveBackup("backup_incremental_", progress, out -> {
+      CsvRowEncoder encoder = CsvRowEncoder.utf8(out, progress);
+      backupDataService.writeIncrementalDataForBackup(window, encoder);
+      encoder.flush();
+    });
+  }
+
+  /**
+   * 진행률(ETA) 계산용 예상 행 수 (섹션 구분자/헤더 행 포함)
+   * 백업마다 count(*) 로 테이블을 훑지 않도록 PostgreSQL 통계의 행 수 추정치를 사용한다.
+   * 증분 백업은 두 워터마크 사이의 변경 이력 id 간격을 직원 행 수의 상한으로 사용한다.
+   * @param afterChangeLogId 증분 백업 기준 변경 이력 id, 전체 백업이면 null
+   * @param untilChangeLogId 이번 백업의 워터마크 (last_change_log_id)
+   * @return 예상 행 수, 전체 백업인데 통계가 아직 없으면 0 (ETA 를 계산하지 않음)
+   */
+  @Transactional(readOnly = true)
+  public long estimateBackupRows(Long afterChangeLogId, Long untilChangeLogId) {
+    long employeeRows = backupDataRepository.estimateEmployeeRows();
+    long departmentRows = backupDataRepository.estimateDepartmentRows();
+    if (afterChangeLogId == null) {
+      return employeeRows > 0 ? employeeRows + departmentRows + 4 : 0;
+    }
+    long changedRows = untilChangeLogId != null ? Math.max(0, untilChangeLogId - afterChangeLogId) : employeeRows;
+    if (employeeRows > 0) {
+      changedRows = Math.min(changedRows, employeeRows);
+    }
+    return changedRows + departmentRows + 6;
   }
 
   public BackupHistory saveBackupHistory(String worker, BackupStatus status, File file) {
+    return saveBackupHistory(worker, status, file, BackupType.FULL, null);
+  }
+
+  public BackupHistory saveBackupHistory(String worker, BackupStatus status, File file,
+      BackupType type, BackupHistory parentBackup) {
     BackupHistory backupHistory = new BackupHistory();
     backupHistory.setWorker(worker);
     backupHistory.setStartAt(Instant.now());
     backupHistory.setStatus(status);
     backupHistory.setFile(file);
+    backupHistory.setType(type);
+    backupHistory.setParentBackup(parentBackup);
+    if (status == BackupStatus.IN_PROGRESS) {
+      // 시작 시점까지 커밋된 변경 이력은 이번 백업에 포함된다
+      long lastChangeLogId = changeLogHighWaterMark.refresh();
+      backupHistory.setLastChangeLogId(lastChangeLogId);
+      // 이후 이 수가 늘어나면 워터마크 이하 id 로 늦게 커밋된 변경 이력이 있다는 뜻
+      backupHistory.setOverlapChangeLogCount(
+          countOverlapChangeLogs(lastChangeLogId, backupHistory.getStartAt()));
+    }
     return backupHistoryRepository.save(backupHistory);
   }
 
@@ -68,6 +254,27 @@ public class BackupTransactionService {
     return backupHistoryRepository.save(backupHistory);
   }
 
+  /**
+   * 백업 완료 처리
+   * 같은 트랜잭션에서 lease를 펜싱해 lease를 잃은 노드(다른 노드가 이 이력을 복구했을 수 있음)는 완료로 바꾸지 못한다.
+   */
+  public BackupHistory completeBackup(Long backupId, File file) {
+    leaseService.fence();
+    return updateBackupStatus(backupId, BackupStatus.COMPLETED, file);
+  }
+
+  /**
+   * 체크포인트 저장 (세그먼트 파일이 디스크에 확정된 뒤 호출, lease 펜싱)
+   */
+  public void saveCheckpoint(Long backupId, long lastEmployeeId, int segments) {
+    leaseService.fence();
+    BackupHistory backupHistory = backupHistoryRepository.findById(backupId)
+        .orElseThrow(() -> ResourceNotFoundException.of("BackupHistory", "id", backupId));
+
+    backupHistory.setCheckpointEmployeeId(lastEmployeeId);
+    backupHistory.setCheckpointSegments(segments);
+  }
+
   public void updateBackupStatusWithoutFile(Long backupId, BackupStatus status) {
     BackupHistory backupHistory = backupHistoryRepository.findById(backupId)
         .orElseThrow(() -> ResourceNotFoundException.of("BackupHistory", "id", backupId));
@@ -85,6 +292,50 @@ public class BackupTransactionService {
   }
 
   public File createFileEntity(String filePath) throws IOException {
+    return fileService.saveFile(buildFileEntity(filePath));
+  }
+
+  /**
+   * 백업 파일 엔티티 생성 (압축 코덱, 압축 전 크기 포함)
+   * 압축 파일도 형식은 내용 기준(CSV)으로 기록하고 코덱은 별도 컬럼에 남긴다.
+   */
+  public File createFileEntity(BackupFileResult backupFile) throws IOException {
+    // 원격 저장소일 수 있으므로 파일을 다시 확인하지 않고 저장할 때 센 크기를 사용
+    File file = buildFileEntity(backupFile.filePath(), backupFile.storedSize());
+    if (backupFile.codec() != BackupCodec.NONE) {
+      String fileName = file.getFileName();
+      String plainName = fileName.substring(0, fileName.length() - backupFile.codec().getExtension().length());
+      file.setFormat(plainName.substring(plainName.lastIndexOf('.') + 1).toUpperCase());
+      file.setCodec(backupFile.codec().name());
+      if (backupFile.codec() == BackupCodec.DEDUP) {
+        // manifest 는 내부 형식이므로 다운로드 이름은 복원되는 CSV 기준
+        file.setFileName(plainName);
+      }
+    }
+    file.setUncompressedSize(backupFile.uncompressedSize());
+    return fileService.saveFile(file);
+  }
+
+  /**
+   * 백업 이력과 연결된 파일 메타데이터 삭제 (물리 파일은 커밋 후 호출한 쪽에서 삭제)
+   * @return 삭제한 파일 엔티티, 이미 삭제된 이력이거나 파일이 없으면 null
+   */
+  public File deleteBackupHistory(Long backupId) {
+    BackupHistory history = backupHistoryRepository.findById(backupId).orElse(null);
+    if (history == null) {
+      return null;
+    }
+    backupHistoryRepository.detachFromParent(backupId);
+    File file = history.getFile();
+    backupHistoryRepository.delete(history);
+    backupHistoryRepository.flush(); // files 를 참조하는 이력부터 삭제
+    if (file != null) {
+      fileTransactionService.deleteFileEntity(file);
+    }
+    return file;
+  }
+
+  private File buildFileEntity(String filePath) throws IOException {
     if (filePath == null || filePath.isEmpty()) {
       throw new IllegalArgumentException("파일 경로가 유효하지 않습니다.");
     }
@@ -93,9 +344,13 @@ public class BackupTransactionService {
     if (!actualFile.exists()) {
       throw new IOException("파일이 존재하지 않습니다: " + filePath);
     }
+    return buildFileEntity(filePath, actualFile.length());
+  }
 
+  private File buildFileEntity(String filePath, long size) {
     File file = new File();
-    file.setFileName(Paths.get(filePath).getFileName().toString());
+    // 로컬 경로와 s3://bucket/key 모두 마지막 경로 구분자 뒤가 파일명
+    file.setFileName(filePath.substring(Math.max(filePath.lastIndexOf('/'), filePath.lastIndexOf('\\')) + 1));
     file.setFilePath(filePath);
 
     String fileName = file.getFileName();
@@ -103,7 +358,13 @@ public class BackupTransactionService {
     String format = lastDotIndex > 0 ? fileName.substring(lastDotIndex + 1).toUpperCase() : "";
     file.setFormat(format);
 
-    file.setSize(actualFile.length());
-    return fileService.saveFile(file);
+    file.setSize(size);
+    return file;
+  }
+
+  // 워터마크 이하 id 이면서 겹침 구간(백업 시작 시각 - overlap 이후)에 생성된 변경 이력 수
+  private long countOverlapChangeLogs(long lastChangeLogId, Instant startAt) {
+    return changeLogRepository.countUpToIdCreatedFrom(lastChangeLogId,
+        startAt.minus(backupProperties.getIncremental().getOverlap()));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.team11.hrbank.module.domain.backup.service.archive;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 아카이브 백업의 manifest.json
+ * @param formatVersion 아카이브 형식 버전
+ * @param createdAt 생성 시각
+ * @param codec 항목 압축 코덱 (NONE, GZIP)
+ * @param entries 테이블별 항목
+ * @param images 프로필 이미지 항목 (include-images 를 켠 경우, 아니면 빈 목록)
+ */
+public record BackupArchiveManifest(
+    int formatVersion,
+    Instant createdAt,
+    String codec,
+    List<Entry> entries,
+    List<Image> images
+) {
+
+  /**
+   * @param name zip 항목 이름
+   * @param table 테이블 이름
+   * @param rows 데이터 행 수 (헤더 제외)
+   * @param bytes 압축 전 CSV 크기 (BOM, 헤더 포함)
+   * @param storedBytes zip 에 저장된 크기
+   * @param sha256 압축 전 CSV 의 SHA-256 (hex)
+   */
+  public record Entry(
+      String name,
+      String table,
+      long rows,
+      long bytes,
+      long storedBytes,
+      String sha256
+  ) {}
+
+  /**
+   * 같은 내용의 이미지는 항목 하나를 공유한다.
+   * @param fileId files.id
+   * @param name zip 항목 이름 (images/{sha256}.{확장자}), 원본 파일이 없으면 null
+   * @param bytes 이미지 크기
+   */
+  public record Image(
+      Long fileId,
+      String name,
+      long bytes
+  ) {}
+}
@@ -0,0 +1,357 @@
+package com.team11.hrbank.module.domain.backup.service.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import com.team11.hrbank.module.domain.backup.service.data.BackupConnectionProvider;
+import com.team11.hrbank.module.domain.backup.service.data.BackupTable;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileResult;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileStorageService;
+import com.team11.hrbank.module.domain.backup.service.file.LineCountingOutputStream;
+import com.team11.hrbank.module.domain.backup.service.file.ProgressOutputStream;
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+import com.team11.hrbank.module.domain.backup.service.storage.BackupStorageOutputStream;
+import com.team11.hrbank.module.domain.backup.service.throttle.BackupThrottle;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 테이블별 병렬 아카이브 백업
+ * 하나의 REPEATABLE READ 스냅샷을 export(pg_export_snapshot) 하고, 테이블마다 별도 워커/커넥션이
+ * 같은 스냅샷을 import 해 COPY 로 추출한다. 전체 소요 시간은 테이블 합이 아니라 가장 큰 테이블에 비례한다.
+ * 추출 결과는 zip 항목(STORED, 코덱 설정 시 .csv.gz)과 행 수/체크섬을 담은 manifest.json 으로 묶는다.
+ * include-images 를 켜면 같은 스냅샷에서 직원이 참조하는 프로필 이미지 목록을 읽어 이미지 파일도 함께 담는다.
+ * (복원 시 BackupRestoreService 가 이미지를 새 파일로 복사해 직원에 다시 연결한다)
+ */
+@Slf4j
+@Service
+public class BackupArchiveService {
+
+  private static final int FORMAT_VERSION = 1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+  private static final String MANIFEST_ENTRY = "manifest.json";
+
+  private final DataSource dataSource;
+  private final BackupFileStorageService fileStorageService;
+  private final BackupThrottle throttle;
+  private final ObjectMapper objectMapper;
+  private final ExecutorService archiveExecutor;
+  private final BackupProperties backupProperties;
+
+  public BackupArchiveService(BackupConnectionProvider connectionProvider, BackupFileStorageService fileStorageService,
+      BackupThrottle throttle, ObjectMapper objectMapper,
+      @Qualifier("backupArchiveExecutor") ExecutorService archiveExecutor, BackupProperties backupProperties) {
+    this.dataSource = connectionProvider.getDataSource();
+    this.fileStorageService = fileStorageService;
+    this.throttle = throttle;
+    this.objectMapper = objectMapper;
+    this.archiveExecutor = archiveExecutor;
+    this.backupProperties = backupProperties;
+  }
+
+  /**
+   * 아카이브 백업 파일 생성
+   * @param progress 추출하는 동안 갱신할 진행 카운터 (모든 테이블 합산)
+   * @return 저장된 zip 파일 정보 (압축 전 크기는 항목 CSV 크기 합)
+   */
+  public BackupFileResult exportArchive(BackupProgress progress) throws IOException {
+    Path workDir = fileStorageService.createWorkDirectory("archive_");
+    try (Connection snapshotHolder = dataSource.getConnection()) {
+      snapshotHolder.setAutoCommit(false);
+      try {
+        String snapshotId = exportSnapshot(snapshotHolder);
+        log.info("아카이브 백업 스냅샷 생성: {}", snapshotId);
+
+        // 모든 워커가 스냅샷을 import 할 때까지 snapshotHolder 트랜잭션을 열어 둔다
+        boolean includeImages = backupProperties.getArchive().isIncludeImages();
+        List<BackupTable> tables = new ArrayList<>(BackupTable.archiveTables());
+        if (includeImages) {
+          tables.add(BackupTable.EMPLOYEE_PROFILE_IMAGES);
+        }
+        List<Future<TableDump>> futures = new ArrayList<>();
+        for (BackupTable table : tables) {
+          futures.add(archiveExecutor.submit(() -> dumpTable(table, snapshotId, workDir, progress)));
+        }
+        // 워커가 추출하는 동안 스냅샷 커넥션으로 이미지 목록 조회 (같은 시점의 참조)
+        List<ProfileImage> images = includeImages ? findProfileImages(snapshotHolder) : List.of();
+        List<TableDump> dumps = awaitAll(futures);
+
+        return writeArchive(dumps, images);
+      } finally {
+        snapshotHolder.rollback();
+      }
+    } catch (SQLException e) {
+      throw new IOException("아카이브 백업 스냅샷 처리 실패: " + e.getMessage(), e);
+    } finally {
+      FileUtils.deleteQuietly(workDir.toFile());
+    }
+  }
+
+  private static String exportSnapshot(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY");
+      try (ResultSet resultSet = statement.executeQuery("SELECT pg_export_snapshot()")) {
+        resultSet.next();
+        return resultSet.getString(1);
+      }
+    }
+  }
+
+  /**
+   * 워커: 스냅샷을 import 한 커넥션으로 테이블 하나를 임시 파일에 추출
+   */
+  private TableDump dumpTable(BackupTable table, String snapshotId, Path workDir, BackupProgress progress)
+      throws IOException, SQLException {
+    String entryName = table.name() + ".csv" + fileStorageService.getCodec().getExtension();
+    Path tempFile = workDir.resolve(entryName);
+    MessageDigest sha256 = newSha256();
+    CRC32 crc32 = new CRC32();
+    BackupProgress tableProgress = BackupProgress.untracked();
+
+    long rows;
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY");
+          statement.execute("SET TRANSACTION SNAPSHOT '" + snapshotId.replace("'", "''") + "'");
+        }
+
+        // 압축 전 CSV 기준 체크섬/카운터 -> 속도 제한 -> 코덱 -> 저장 바이트 CRC -> 파일
+        try (OutputStream out = new BufferedOutputStream(
+            new DigestOutputStream(
+                new ProgressOutputStream(
+                    new ProgressOutputStream(
+                        throttle.wrap(
+                            fileStorageService.wrapWithCodec(
+                                new CheckedOutputStream(
+                                    new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE),
+                                    crc32))),
+                        progress),
+                    tableProgress),
+                sha256),
+            BUFFER_SIZE)) {
+          out.write(UTF8_BOM);
+          out.write((table.headerLine() + "\n").getBytes(StandardCharsets.UTF_8));
+          progress.addRows(1);
+          // COPY 하는 동안 줄바꿈 수로 행 수를 누적하고, 끝나면 COPY 가 돌려준 행 수로 보정
+          LineCountingOutputStream rowCounter = new LineCountingOutputStream(out, progress);
+          rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(table.copySql(), rowCounter);
+          rowCounter.correctTo(rows);
+        }
+      } finally {
+        connection.rollback();
+      }
+    }
+
+    log.info("아카이브 테이블 추출 완료: {} {}건", table.name(), rows);
+    return new TableDump(table.name(), entryName, tempFile, rows, tableProgress.getBytesWritten().get(),
+        Files.size(tempFile), crc32.getValue(), HexFormat.of().formatHex(sha256.digest()));
+  }
+
+  private static List<TableDump> awaitAll(List<Future<TableDump>> futures) throws IOException {
+    List<TableDump> dumps = new ArrayList<>();
+    try {
+      for (Future<TableDump> future : futures) {
+        dumps.add(future.get());
+      }
+      return dumps;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("아카이브 테이블 추출 대기 중 인터럽트 발생");
+    } catch (ExecutionException e) {
+      throw new IOException("아카이브 테이블 추출 실패: " + e.getCause().getMessage(), e.getCause());
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private static List<ProfileImage> findProfileImages(Connection connection) throws SQLException {
+    List<ProfileImage> images = new ArrayList<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("""
+            SELECT f.id, f.file_path
+            FROM files f
+            WHERE f.id IN (SELECT e.profile_image_id FROM employees e)
+            ORDER BY f.id
+            """)) {
+      while (resultSet.next()) {
+        images.add(new ProfileImage(resultSet.getLong(1), resultSet.getString(2)));
+      }
+    }
+    return images;
+  }
+
+  /**
+   * 임시 파일을 테이블 순서대로 zip 에 STORED 로 복사하고, 이미지와 manifest.json 을 추가
+   * zip 은 백업 저장 대상에 바로 쓴다. (S3 저장소면 조립하는 대로 업로드)
+   */
+  private BackupFileResult writeArchive(List<TableDump> dumps, List<ProfileImage> profileImages) throws IOException {
+    BackupStorageOutputStream stored = fileStorageService.createBackupFile("backup_archive_", ".zip");
+    List<BackupArchiveManifest.Entry> entries = new ArrayList<>();
+    long uncompressedSize = 0;
+
+    ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(stored, BUFFER_SIZE));
+    try {
+      for (TableDump dump : dumps) {
+        // 이미 압축됐거나 CSV 원본이므로 재압축 없이 저장 (조립 단계를 단순 복사로 유지)
+        ZipEntry entry = new ZipEntry(dump.entryName());
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(dump.storedBytes());
+        entry.setCompressedSize(dump.storedBytes());
+        entry.setCrc(dump.crc32());
+        zip.putNextEntry(entry);
+        Files.copy(dump.file(), zip);
+        zip.closeEntry();
+
+        entries.add(new BackupArchiveManifest.Entry(
+            dump.entryName(), dump.table(), dump.rows(), dump.bytes(), dump.storedBytes(), dump.sha256()));
+        uncompressedSize += dump.bytes();
+      }
+
+      List<BackupArchiveManifest.Image> images = writeImages(zip, profileImages);
+
+      BackupArchiveManifest manifest = new BackupArchiveManifest(
+          FORMAT_VERSION, Instant.now(), fileStorageService.getCodec().name(), entries, images);
+      zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+      zip.write(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(manifest));
+      zip.closeEntry();
+      zip.close();
+    } catch (IOException | RuntimeException e) {
+      stored.abort();
+      IOUtils.closeQuietly(zip);
+      throw e;
+    }
+
+    log.info("아카이브 백업 파일 저장 완료: {} ({}개 테이블)", stored.getLocation(), dumps.size());
+    return new BackupFileResult(stored.getLocation(), BackupCodec.NONE, uncompressedSize, stored.getSize());
+  }
+
+  /**
+   * 프로필 이미지를 images/{sha256}.{확장자} 항목으로 저장 (내용이 같은 이미지는 한 번만 저장)
+   * STORED 항목은 CRC/크기를 먼저 기록해야 하므로 해시 계산 후 한 번 더 읽어 복사한다.
+   * 해시 계산은 FileChannel 과 direct buffer 로 읽고, 복사는 테이블 항목과 같은 바이트 속도 제한을 거친다.
+   */
+  private List<BackupArchiveManifest.Image> writeImages(ZipOutputStream zip, List<ProfileImage> profileImages)
+      throws IOException {
+    List<BackupArchiveManifest.Image> images = new ArrayList<>();
+    Set<String> writtenEntries = new HashSet<>();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    WritableByteChannel zipChannel = Channels.newChannel(throttle.wrapBytes(zip));
+    long writtenBytes = 0;
+    int missing = 0;
+
+    for (ProfileImage profileImage : profileImages) {
+      Path path = Paths.get(profileImage.filePath());
+      if (!Files.isRegularFile(path)) {
+        log.warn("프로필 이미지 파일 없음 - 파일 ID: {}, 경로: {}", profileImage.fileId(), path);
+        images.add(new BackupArchiveManifest.Image(profileImage.fileId(), null, 0));
+        missing++;
+        continue;
+      }
+
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        long size = channel.size();
+        MessageDigest sha256 = newSha256();
+        CRC32 crc32 = new CRC32();
+        long position = 0;
+        while (position < size) {
+          buffer.clear();
+          int read = channel.read(buffer, position);
+          if (read < 0) {
+            break;
+          }
+          position += read;
+          buffer.flip();
+          crc32.update(buffer.duplicate());
+          sha256.update(buffer);
+        }
+
+        String extension = FilenameUtils.getExtension(path.getFileName().toString()).toLowerCase(Locale.ROOT);
+        String entryName = "images/" + HexFormat.of().formatHex(sha256.digest())
+            + (extension.isEmpty() ? "" : "." + extension);
+        if (writtenEntries.add(entryName)) {
+          ZipEntry entry = new ZipEntry(entryName);
+          entry.setMethod(ZipEntry.STORED);
+          entry.setSize(size);
+          entry.setCompressedSize(size);
+          entry.setCrc(crc32.getValue());
+          zip.putNextEntry(entry);
+          for (long transferred = 0; transferred < size; ) {
+            long count = channel.transferTo(transferred, size - transferred, zipChannel);
+            if (count <= 0) {
+              throw new IOException("프로필 이미지를 읽는 중 크기가 바뀌었습니다: " + path);
+            }
+            transferred += count;
+          }
+          zip.closeEntry();
+          writtenBytes += size;
+        }
+        images.add(new BackupArchiveManifest.Image(profileImage.fileId(), entryName, size));
+      }
+    }
+
+    if (!profileImages.isEmpty()) {
+      log.info("프로필 이미지 저장: 참조 {}개, 저장 {}개 ({} bytes), 누락 {}개",
+          profileImages.size(), writtenEntries.size(), writtenBytes, missing);
+    }
+    return images;
+  }
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 미지원", e);
+    }
+  }
+
+  private record ProfileImage(long fileId, String filePath) {
+  }
+
+  private record TableDump(String table, String entryName, Path file, long rows, long bytes,
+      long storedBytes, long crc32, String sha256) {
+  }
+}
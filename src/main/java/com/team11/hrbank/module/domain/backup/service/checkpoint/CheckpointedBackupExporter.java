@@ -0,0 +1,167 @@
+package com.team11.hrbank.module.domain.backup.service.checkpoint;
+
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.domain.backup.BackupExtractMode;
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.service.BackupLeaseService;
+import com.team11.hrbank.module.domain.backup.service.BackupTransactionService;
+import com.team11.hrbank.module.domain.backup.service.data.BackupDataService;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileResult;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileStorageService;
+import com.team11.hrbank.module.domain.backup.service.file.CsvRowEncoder;
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 체크포인트 전체 백업
+ * 직원을 id 순으로 segment-rows 명씩 세그먼트 파일(backup_{이력 id}.parts/employees_NNNNN.csv)에 쓰고,
+ * 세그먼트가 디스크에 확정될 때마다 마지막 직원 id 를 백업 이력에 저장한다.
+ * 노드가 중단되면 다른 노드가 이력의 체크포인트 다음 직원부터 이어서 쓴다.
+ * 세그먼트마다 따로 읽으므로 하나의 스냅샷은 아니지만, 워터마크(last_change_log_id)가 백업 시작 시점이라
+ * 그 이후 변경은 다음 증분 백업에 다시 포함된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckpointedBackupExporter {
+
+  private static final String SEGMENT_PREFIX = "employees_";
+
+  private final BackupDataService backupDataService;
+  private final BackupFileStorageService fileStorageService;
+  private final BackupTransactionService backupTxService;
+  private final BackupLeaseService leaseService;
+  private final BackupProperties backupProperties;
+
+  /**
+   * 전체 백업에 체크포인트를 사용하는지 (아카이브, COPY 추출은 자체 스냅샷을 쓰므로 제외)
+   */
+  public boolean isEnabled() {
+    return backupProperties.getCheckpoint().isEnabled()
+        && !backupProperties.getArchive().isEnabled()
+        && backupProperties.getExtract().getMode() == BackupExtractMode.ENTITY;
+  }
+
+  /**
+   * 중단된 백업을 체크포인트에서 이어서 쓸 수 있는지
+   */
+  public boolean canResume(BackupHistory history) {
+    return isEnabled()
+        && history.getType() == BackupType.FULL
+        && history.getCheckpointSegments() != null
+        && Files.isDirectory(fileStorageService.checkpointDirectory(history.getId()));
+  }
+
+  /**
+   * 세그먼트를 이어 쓴 뒤 하나의 백업 파일로 합친다. (체크포인트가 있으면 그 다음 직원부터)
+   */
+  public BackupFileResult export(BackupHistory history, BackupProgress progress) throws IOException {
+    Long backupId = history.getId();
+    Path directory = Files.createDirectories(fileStorageService.checkpointDirectory(backupId));
+    int segments = history.getCheckpointSegments() != null ? history.getCheckpointSegments() : 0;
+    long lastEmployeeId = history.getCheckpointEmployeeId() != null ? history.getCheckpointEmployeeId() : 0L;
+    if (segments > 0) {
+      log.info("체크포인트에서 백업 재개 - 이력 ID: {}, 세그먼트 {}개, 마지막 직원 ID: {}", backupId, segments, lastEmployeeId);
+    }
+    discardUncommittedSegments(directory, segments);
+
+    int segmentRows = Math.max(1, backupProperties.getCheckpoint().getSegmentRows());
+    while (true) {
+      // lease를 잃었으면 다음 세그먼트를 쓰지 않음 (다른 노드가 체크포인트에서 이어 쓸 수 있음)
+      leaseService.checkHeld();
+      Path segmentPath = segmentPath(directory, segments + 1);
+      long afterId = lastEmployeeId;
+      BackupDataService.EmployeeSegment[] written = new BackupDataService.EmployeeSegment[1];
+      fileStorageService.writeSegment(segmentPath, progress, out -> {
+        CsvRowEncoder encoder = CsvRowEncoder.utf8(out, progress);
+        written[0] = backupDataService.writeEmployeeSegment(afterId, segmentRows, encoder);
+        encoder.flush();
+      });
+
+      if (written[0].rows() == 0) {
+        Files.delete(segmentPath);
+        break;
+      }
+      segments++;
+      lastEmployeeId = written[0].lastEmployeeId();
+      backupTxService.saveCheckpoint(backupId, lastEmployeeId, segments);
+      if (written[0].rows() < segmentRows) {
+        break;
+      }
+    }
+    return assemble(directory, segments);
+  }
+
+  /**
+   * 세그먼트 디렉토리 삭제 (백업 완료/실패 후)
+   */
+  public void discard(Long backupId) {
+    Path directory = fileStorageService.checkpointDirectory(backupId);
+    if (!Files.exists(directory)) {
+      return;
+    }
+    try {
+      FileUtils.deleteDirectory(directory.toFile());
+    } catch (IOException e) {
+      log.error("체크포인트 세그먼트 삭제 실패: {}", directory, e);
+    }
+  }
+
+  // 헤더 + 세그먼트 + 부서 섹션을 기존 전체 백업과 같은 형식의 파일로 합침 (코덱/중복 제거 설정 적용)
+  private BackupFileResult assemble(Path directory, int segments) throws IOException {
+    // 세그먼트를 쓰며 이미 진행률에 반영했으므로 합치는 동안은 집계하지 않음
+    return fileStorageService.saveBackup("backup_", BackupProgress.untracked(), out -> {
+      CsvRowEncoder encoder = CsvRowEncoder.utf8(out);
+      encoder.line("## EMPLOYEES ##");
+      encoder.row(backupDataService.getEmployeeHeaders());
+      encoder.flush();
+      for (int i = 1; i <= segments; i++) {
+        Files.copy(segmentPath(directory, i), out);
+      }
+
+      encoder.line("## DEPARTMENTS ##");
+      encoder.row(backupDataService.getDepartmentHeaders());
+      backupDataService.writeDepartmentData(encoder);
+      encoder.flush();
+    });
+  }
+
+  // 체크포인트 이후에 쓰다 만 세그먼트(임시 파일, 체크포인트 저장 전에 중단된 세그먼트) 삭제
+  private static void discardUncommittedSegments(Path directory, int committedSegments) throws IOException {
+    List<Path> files;
+    try (Stream<Path> list = Files.list(directory)) {
+      files = list.toList();
+    }
+    for (Path file : files) {
+      String fileName = file.getFileName().toString();
+      if (fileName.endsWith(".tmp") || segmentNumber(fileName) > committedSegments) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  private static Path segmentPath(Path directory, int number) {
+    return directory.resolve(SEGMENT_PREFIX + String.format("%05d", number) + ".csv");
+  }
+
+  private static int segmentNumber(String fileName) {
+    if (!fileName.startsWith(SEGMENT_PREFIX) || !fileName.endsWith(".csv")) {
+      return Integer.MAX_VALUE;
+    }
+    try {
+      return Integer.parseInt(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - ".csv".length()));
+    } catch (NumberFormatException e) {
+      return Integer.MAX_VALUE;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 백업 추출용 커넥션 공급
+ * backup.pool.enabled 이면 spring.datasource 접속 정보로 백업 전용 Hikari 풀을 따로 만들어
+ * 장시간 COPY/아카이브 추출이 애플리케이션 풀의 커넥션을 점유하지 않게 한다. 꺼져 있으면 애플리케이션 풀을 그대로 쓴다.
+ * 전용 풀은 DataSource 빈으로 등록하지 않는다. (스프링 부트의 기본 DataSource 자동 설정을 유지)
+ */
+@Slf4j
+@Component
+public class BackupConnectionProvider implements DisposableBean {
+
+  private final DataSource dataSource;
+  private final HikariDataSource dedicatedPool;
+
+  public BackupConnectionProvider(DataSource dataSource, DataSourceProperties dataSourceProperties,
+      BackupProperties backupProperties) {
+    BackupProperties.Pool pool = backupProperties.getPool();
+    if (pool.isEnabled()) {
+      HikariDataSource hikari = dataSourceProperties.initializeDataSourceBuilder()
+          .type(HikariDataSource.class)
+          .build();
+      hikari.setPoolName("backup-pool");
+      hikari.setMaximumPoolSize(pool.getMaximumPoolSize());
+      hikari.setMinimumIdle(0); // 백업이 없는 동안에는 커넥션을 유지하지 않음
+      this.dedicatedPool = hikari;
+      this.dataSource = hikari;
+      log.info("백업 전용 커넥션 풀 사용 - 최대 {}개", pool.getMaximumPoolSize());
+    } else {
+      this.dedicatedPool = null;
+      this.dataSource = dataSource;
+    }
+  }
+
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  /**
+   * 백업 전용 풀 사용 여부 (true 면 스프링 트랜잭션 커넥션과 별개의 커넥션을 사용)
+   */
+  public boolean isDedicated() {
+    return dedicatedPool != null;
+  }
+
+  @Override
+  public void destroy() {
+    if (dedicatedPool != null) {
+      dedicatedPool.close();
+    }
+  }
+}
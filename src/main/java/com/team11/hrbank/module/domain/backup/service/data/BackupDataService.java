@@ -1,64 +1,116 @@
 package com.team11.hrbank.module.domain.backup.service.data;
 
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.domain.backup.IncrementalWindow;
+import com.team11.hrbank.module.domain.backup.repository.BackupDataRepository;
+import com.team11.hrbank.module.domain.backup.service.file.CsvRowEncoder;
 import com.team11.hrbank.module.domain.department.Department;
-import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
 import com.team11.hrbank.module.domain.employee.Employee;
-import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * 백업을 위한 데이터 추출
+ * 서버 사이드 커서로 읽은 엔티티를 CsvRowEncoder 로 바로 써서 행마다 중간 문자열을 만들지 않는다.
+ * 커서는 트랜잭션이 열려 있는 동안에만 유효하므로 호출한 트랜잭션 안에서 사용해야 한다.
+ * 여러 테이블을 쓰는 메서드는 REPEATABLE READ 로 실행해 모든 섹션이 같은 시점의 데이터가 되도록 한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BackupDataService {
 
-  private final EmployeeRepository employeeRepository;
-  private final DepartmentRepository departmentRepository;
-
-  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(
-      ZoneOffset.UTC);
+  private final BackupDataRepository backupDataRepository;
+  private final BackupProperties backupProperties;
+  private final EntityManager entityManager;
 
   /**
-   * 직원 데이터를 CSV 포맷 문자열 스트림으로 추출
-   * @return 각 라인이 CSV 형식으로 포맷된 문자열 스트림
+   * 직원 전체 데이터를 CSV 행으로 쓴다.
+   * @return 기록한 행 수
    */
   @Transactional(readOnly = true)
-  public Stream<String[]> getEmployeeDataForBackup() {
+  public long writeEmployeeData(CsvRowEncoder encoder) throws IOException {
     log.info("직원 데이터 백업 추출 시작");
 
     // 부서 ID를 부서명에 매핑 (N+1 문제 방지)
-    Map<Long, String> departmentMap =
-        departmentRepository.findAll().stream()
-        .collect(Collectors.toMap(Department::getId, Department::getName));
-
-    List<Employee> employees = employeeRepository.findAll();
-    log.info("총 직원 수: {}", employees.size());
-
-    return employees.stream()
-        .map(employee -> new String[] {
-            String.valueOf(employee.getId()),
-            employee.getName(),
-            employee.getEmail(),
-            employee.getEmployeeNumber(),
-            employee.getDepartment() != null ? departmentMap.get(employee.getDepartment().getId()) : "",
-            employee.getPosition(),
-            employee.getHireDate() != null ? DATE_FORMATTER.format(employee.getHireDate()) : "",
-            employee.getStatus() != null ? employee.getStatus().name() : "",
-            employee.getCreatedAt() != null ? employee.getCreatedAt().toString() : ""
-        });
+    Map<Long, String> departmentMap = backupDataRepository.findDepartmentNames();
+
+    return writeEntities(
+        backupDataRepository.streamAllEmployees(backupProperties.getExtract().getFetchSize()),
+        encoder,
+        (csv, employee) -> writeEmployeeRow(csv, employee, departmentMap),
+        "직원");
+  }
+
+  /**
+   * 증분 범위에 변경 이력이 있는 직원 데이터만 쓴다. (증분 백업용)
+   * @param window 직전 백업의 워터마크와 겹침 구간
+   * @return 기록한 행 수
+   */
+  @Transactional(readOnly = true)
+  public long writeChangedEmployeeData(IncrementalWindow window, CsvRowEncoder encoder) throws IOException {
+    log.info("변경 직원 데이터 백업 추출 시작 - 기준 변경 이력 ID: {}, 겹침 구간 시작: {}",
+        window.afterChangeLogId(), window.changedSince());
+
+    Map<Long, String> departmentMap = backupDataRepository.findDepartmentNames();
+
+    return writeEntities(
+        backupDataRepository.streamEmployeesChangedIn(window, backupProperties.getExtract().getFetchSize()),
+        encoder,
+        (csv, employee) -> writeEmployeeRow(csv, employee, departmentMap),
+        "변경 직원");
+  }
+
+  /**
+   * afterId 보다 큰 id 의 직원을 최대 limit 명 CSV 행으로 쓴다. (체크포인트 백업 세그먼트용, 헤더 없음)
+   * 세그먼트마다 짧은 트랜잭션으로 읽으므로 커넥션을 백업 내내 잡고 있지 않는다.
+   * @param afterId 직전 세그먼트의 마지막 직원 id (처음이면 0)
+   * @return 기록한 행 수와 마지막 직원 id
+   */
+  @Transactional(readOnly = true)
+  public EmployeeSegment writeEmployeeSegment(long afterId, int limit, CsvRowEncoder encoder) throws IOException {
+    Map<Long, String> departmentMap = backupDataRepository.findDepartmentNames();
+
+    long[] lastEmployeeId = {afterId};
+    long rows = writeEntities(
+        backupDataRepository.streamEmployeesAfter(afterId, limit, backupProperties.getExtract().getFetchSize()),
+        encoder,
+        (csv, employee) -> {
+          writeEmployeeRow(csv, employee, departmentMap);
+          lastEmployeeId[0] = employee.getId();
+        },
+        "직원 세그먼트");
+    return new EmployeeSegment(rows, lastEmployeeId[0]);
+  }
+
+  /**
+   * 직원 세그먼트 추출 결과
+   */
+  public record EmployeeSegment(long rows, long lastEmployeeId) {}
+
+  private void writeEmployeeRow(CsvRowEncoder encoder, Employee employee, Map<Long, String> departmentMap)
+      throws IOException {
+    encoder
+        .cell(employee.getId())
+        .cell(employee.getName())
+        .cell(employee.getEmail())
+        .cell(employee.getEmployeeNumber())
+        .cell(employee.getDepartment() != null ? departmentMap.get(employee.getDepartment().getId()) : null)
+        .cell(employee.getPosition())
+        .cell(employee.getHireDate())
+        .cell(employee.getStatus() != null ? employee.getStatus().name() : null)
+        .cell(employee.getCreatedAt() != null ? employee.getCreatedAt().toString() : null)
+        .endRow();
   }
 
   /**
@@ -66,30 +118,32 @@ public class BackupDataService {
    * @return 직원 CSV 헤더 배열
    */
   public String[] getEmployeeHeaders() {
-    return new String[] {
-        "ID", "이름", "이메일", "사원번호", "부서", "직위", "입사일", "상태", "생성일"
-    };
+    return BackupTable.EMPLOYEES.headers();
   }
 
   /**
-   * 부서 데이터를 CSV 포맷 문자열 스트림으로 추출
-   * @return 각 라인이 CSV 형식으로 포맷된 문자열 스트림
+   * 부서 전체 데이터를 CSV 행으로 쓴다.
+   * @return 기록한 행 수
    */
   @Transactional(readOnly = true)
-  public Stream<String[]> getDepartmentDataForBackup() {
+  public long writeDepartmentData(CsvRowEncoder encoder) throws IOException {
     log.info("부서 데이터 백업 추출 시작");
 
-    List<Department> departments = departmentRepository.findAll();
-    log.info("총 부서 수: {}", departments.size());
-
-    return departments.stream()
-        .map(dept -> new String[] {
-            String.valueOf(dept.getId()),
-            dept.getName(),
-            dept.getDescription() != null ? dept.getDescription() : "",
-            dept.getEstablishedDate() != null ? DATE_FORMATTER.format(dept.getEstablishedDate()) : "",
-            dept.getCreatedAt() != null ? dept.getCreatedAt().toString() : ""
-        });
+    return writeEntities(
+        backupDataRepository.streamAllDepartments(backupProperties.getExtract().getFetchSize()),
+        encoder,
+        BackupDataService::writeDepartmentRow,
+        "부서");
+  }
+
+  private static void writeDepartmentRow(CsvRowEncoder encoder, Department dept) throws IOException {
+    encoder
+        .cell(dept.getId())
+        .cell(dept.getName())
+        .cell(dept.getDescription())
+        .cell(dept.getEstablishedDate())
+        .cell(dept.getCreatedAt() != null ? dept.getCreatedAt().toString() : null)
+        .endRow();
   }
 
   /**
@@ -97,60 +151,74 @@ public class BackupDataService {
    * @return 부서 CSV 헤더 배열
    */
   public String[] getDepartmentHeaders() {
-    return new String[] {
-        "ID", "부서명", "설명", "설립일", "생성일"
-    };
+    return BackupTable.DEPARTMENTS.headers();
   }
 
   /**
-   * 모든 백업 데이터를 헤더 정보와 함께 스트림으로 반환
-   * @return 모든 엔티티의 데이터를 포함하는 문자열 스트림
+   * 모든 백업 데이터를 섹션 구분자, 헤더와 함께 쓴다.
    */
-  @Transactional(readOnly = true)
-  public Stream<String> getAllDataForBackup() {
-    // 헤더와 데이터를 직접 CSV 문자열로 변환
-    Stream<String> employeeStream = Stream.concat(
-        Stream.of(String.join(",", getEmployeeHeaders())),
-        getEmployeeDataForBackup().map(row -> String.join(",", Arrays.stream(row)
-            .map(BackupDataService::escapeCsvValue)
-            .toArray(String[]::new)))
-    );
-
-    Stream<String> departmentStream = Stream.concat(
-        Stream.of(String.join(",", getDepartmentHeaders())),
-        getDepartmentDataForBackup().map(row -> String.join(",", Arrays.stream(row)
-            .map(BackupDataService::escapeCsvValue)
-            .toArray(String[]::new)))
-    );
-
-    // 엔티티 구분을 위한 헤더 + CSV 데이터 스트림
-    return Stream.concat(
-        Stream.of("## EMPLOYEES ##"),
-        Stream.concat(
-            employeeStream,
-            Stream.concat(
-                Stream.of("## DEPARTMENTS ##"),
-                departmentStream
-            )
-        )
-    );
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public void writeAllDataForBackup(CsvRowEncoder encoder) throws IOException {
+    // 엔티티 구분을 위한 헤더 + CSV 데이터
+    encoder.line("## EMPLOYEES ##");
+    encoder.row(getEmployeeHeaders());
+    writeEmployeeData(encoder);
+
+    encoder.line("## DEPARTMENTS ##");
+    encoder.row(getDepartmentHeaders());
+    writeDepartmentData(encoder);
   }
 
   /**
-   *  쉼표, 쌍따옴표 등 이스케이프 처리
+   * 증분 백업 데이터를 쓴다.
+   * 변경된 직원의 현재 상태 + 삭제된 직원의 사원번호 + 부서 전체(변경 이력이 없어 항상 전체 포함)
+   * @param window 직전 백업의 워터마크와 겹침 구간
    */
-  private static String escapeCsvValue(String value) {
-    if (value == null) {
-      return "";
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public void writeIncrementalDataForBackup(IncrementalWindow window, CsvRowEncoder encoder) throws IOException {
+    List<String> deletedEmployeeNumbers = backupDataRepository.findDeletedEmployeeNumbersIn(window);
+    log.info("삭제된 직원 수: {}", deletedEmployeeNumbers.size());
+
+    encoder.line("## EMPLOYEES ##");
+    encoder.row(getEmployeeHeaders());
+    writeChangedEmployeeData(window, encoder);
+
+    encoder.line("## DELETED_EMPLOYEES ##");
+    encoder.row("사원번호");
+    for (String employeeNumber : deletedEmployeeNumbers) {
+      encoder.row(employeeNumber);
     }
 
-    boolean needsQuotes = value.contains(",") || value.contains("\"") || value.contains("\n");
+    encoder.line("## DEPARTMENTS ##");
+    encoder.row(getDepartmentHeaders());
+    writeDepartmentData(encoder);
+  }
 
-    if (needsQuotes) {
-      String escaped = value.replace("\"", "\"\"");
-      return "\"" + escaped + "\"";
+  /**
+   * 엔티티 스트림을 행으로 쓰면서 clear-interval 마다 영속성 컨텍스트를 비운다.
+   * 읽은 엔티티가 1차 캐시에 쌓이지 않으므로 테이블 크기와 무관하게 메모리 사용량이 일정하다.
+   * @return 기록한 행 수
+   */
+  private <T> long writeEntities(Stream<T> entities, CsvRowEncoder encoder,
+      RowWriter<T> rowWriter, String entityName) throws IOException {
+    int clearInterval = Math.max(1, backupProperties.getExtract().getClearInterval());
+    long count = 0;
+
+    try (entities) {
+      Iterator<T> iterator = entities.iterator();
+      while (iterator.hasNext()) {
+        rowWriter.write(encoder, iterator.next());
+        if (++count % clearInterval == 0) {
+          entityManager.clear();
+        }
+      }
     }
+    log.info("{} 데이터 백업 추출 완료: {}건", entityName, count);
+    return count;
+  }
 
-    return value;
+  @FunctionalInterface
+  private interface RowWriter<T> {
+    void write(CsvRowEncoder encoder, T entity) throws IOException;
   }
-}
\ No newline at end of file
+}
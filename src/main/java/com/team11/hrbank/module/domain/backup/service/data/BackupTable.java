@@ -0,0 +1,92 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import java.util.List;
+
+/**
+ * COPY 로 추출하는 백업 대상 테이블 정의
+ * 날짜는 yyyy-MM-dd, 시각은 Instant.toString() 과 같은 UTC ISO-8601 형식으로 맞춘다.
+ * @param name 테이블(아카이브 항목) 이름
+ * @param headers CSV 헤더
+ * @param selectSql id 순으로 정렬된 추출 쿼리
+ */
+public record BackupTable(String name, String[] headers, String selectSql) {
+
+  public static final BackupTable EMPLOYEES = new BackupTable(
+      "employees",
+      new String[] {"ID", "이름", "이메일", "사원번호", "부서", "직위", "입사일", "상태", "생성일"},
+      """
+      SELECT e.id, e.name, e.email, e.employee_number, d.name, e."position",
+             to_char(e.hire_date, 'YYYY-MM-DD'), e.status, %s
+      FROM employees e
+      LEFT JOIN departments d ON d.id = e.department_id
+      ORDER BY e.id
+      """.formatted(utcTimestamp("e.created_at")));
+
+  public static final BackupTable DEPARTMENTS = new BackupTable(
+      "departments",
+      new String[] {"ID", "부서명", "설명", "설립일", "생성일"},
+      """
+      SELECT d.id, d.name, d.description, to_char(d.established_date, 'YYYY-MM-DD'), %s
+      FROM departments d
+      ORDER BY d.id
+      """.formatted(utcTimestamp("d.created_at")));
+
+  public static final BackupTable CHANGE_LOGS = new BackupTable(
+      "change_logs",
+      new String[] {"ID", "유형", "직원 ID", "사원번호", "메모", "IP 주소", "생성일"},
+      """
+      SELECT c.id, c.type, c.employee_id, c.employee_number, c.memo, host(c.ip_address), %s
+      FROM change_logs c
+      ORDER BY c.id
+      """.formatted(utcTimestamp("c.created_at")));
+
+  public static final BackupTable CHANGE_LOG_DIFFS = new BackupTable(
+      "change_log_diffs",
+      new String[] {"변경 이력 ID", "변경 내용"},
+      """
+      SELECT cd.change_log_id, cd.changes::text
+      FROM change_log_diffs cd
+      ORDER BY cd.change_log_id
+      """);
+
+  public static final BackupTable FILES = new BackupTable(
+      "files",
+      new String[] {"ID", "파일명", "형식", "경로", "크기", "코덱", "압축 전 크기", "생성일"},
+      """
+      SELECT f.id, f.file_name, f.format, f.file_path, f.size, f.codec, f.uncompressed_size, %s
+      FROM files f
+      ORDER BY f.id
+      """.formatted(utcTimestamp("f.created_at")));
+
+  public static final BackupTable EMPLOYEE_PROFILE_IMAGES = new BackupTable(
+      "employee_profile_images",
+      new String[] {"직원 ID", "파일 ID"},
+      """
+      SELECT e.id, e.profile_image_id
+      FROM employees e
+      WHERE e.profile_image_id IS NOT NULL
+      ORDER BY e.id
+      """);
+
+  /**
+   * 테이블별 아카이브 백업 대상 (아카이브 항목 순서)
+   */
+  public static List<BackupTable> archiveTables() {
+    return List.of(EMPLOYEES, DEPARTMENTS, CHANGE_LOGS, CHANGE_LOG_DIFFS, FILES);
+  }
+
+  public String copySql() {
+    return "COPY (" + selectSql + ") TO STDOUT WITH (FORMAT csv)";
+  }
+
+  public String headerLine() {
+    return String.join(",", headers);
+  }
+
+  /**
+   * timestamptz 컬럼을 Instant.toString() 과 같은 UTC ISO-8601 문자열로 바꾸는 SQL 식
+   */
+  public static String utcTimestamp(String column) {
+    return "to_char(" + column + " AT TIME ZONE 'UTC', 'YYYY-MM-DD\"T\"HH24:MI:SS.US\"Z\"')";
+  }
+}
@@ -0,0 +1,94 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import com.team11.hrbank.module.domain.backup.service.file.LineCountingOutputStream;
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL COPY TO STDOUT 기반 전체 백업 추출기
+ * 엔티티/문자열 변환 없이 드라이버가 받은 CSV 바이트를 그대로 백업 파일로 흘려보낸다.
+ * 섹션 구분자와 헤더, 컬럼 순서/포맷은 BackupDataService 의 엔티티 추출 결과와 동일하게 맞춘다. (BackupTable 참고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CopyBackupDataExtractor {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final DataSource dataSource;
+  private final BackupConnectionProvider connectionProvider;
+
+  /**
+   * 직원/부서 전체 데이터를 섹션 구분자와 함께 out 에 쓴다.
+   * 기본은 현재 스프링 트랜잭션의 커넥션을 사용하므로 트랜잭션 안에서 호출해야 한다.
+   * 백업 전용 풀을 쓰면 전용 커넥션에서 REPEATABLE READ 읽기 전용 트랜잭션을 직접 열어 두 테이블을 같은 스냅샷으로 읽는다.
+   * @param out 백업 파일 스트림 (닫지 않음)
+   * @param progress COPY 하는 동안 행 수를 누적할 진행 카운터 (테이블이 끝나면 COPY 가 돌려준 행 수로 보정)
+   */
+  public void writeFullBackup(OutputStream out, BackupProgress progress) throws IOException {
+    BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+    try {
+      if (connectionProvider.isDedicated()) {
+        try (Connection connection = connectionProvider.getDataSource().getConnection()) {
+          connection.setAutoCommit(false);
+          connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+          connection.setReadOnly(true);
+          try {
+            copyTables(connection, buffered, progress);
+          } finally {
+            connection.rollback();
+          }
+        }
+      } else {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+          copyTables(connection, buffered, progress);
+        } finally {
+          DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+      }
+      buffered.flush();
+    } catch (SQLException e) {
+      throw new IOException("COPY 백업 추출 실패: " + e.getMessage(), e);
+    }
+  }
+
+  private static void copyTables(Connection connection, OutputStream out, BackupProgress progress)
+      throws SQLException, IOException {
+    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+    // COPY 하는 동안 줄바꿈 수로 행 수를 누적하고, 테이블이 끝나면 COPY 가 돌려준 행 수로 보정
+    LineCountingOutputStream rowCounter = new LineCountingOutputStream(out, progress);
+
+    writeLine(out, "## EMPLOYEES ##");
+    writeLine(out, BackupTable.EMPLOYEES.headerLine());
+    progress.addRows(2);
+    long employeeRows = pgConnection.getCopyAPI().copyOut(BackupTable.EMPLOYEES.copySql(), rowCounter);
+    rowCounter.correctTo(employeeRows);
+    log.info("직원 데이터 COPY 추출 완료: {}건", employeeRows);
+
+    writeLine(out, "## DEPARTMENTS ##");
+    writeLine(out, BackupTable.DEPARTMENTS.headerLine());
+    progress.addRows(2);
+    long departmentRows = pgConnection.getCopyAPI().copyOut(BackupTable.DEPARTMENTS.copySql(), rowCounter);
+    rowCounter.correctTo(departmentRows);
+    log.info("부서 데이터 COPY 추출 완료: {}건", departmentRows);
+  }
+
+  private static void writeLine(OutputStream out, String line) throws IOException {
+    out.write(line.getBytes(StandardCharsets.UTF_8));
+    out.write('\n');
+  }
+}
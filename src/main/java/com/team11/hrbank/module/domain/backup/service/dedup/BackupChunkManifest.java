@@ -0,0 +1,25 @@
+package com.team11.hrbank.module.domain.backup.service.dedup;
+
+import java.util.List;
+
+/**
+ * 중복 제거 백업의 manifest (.csv.manifest)
+ * 청크를 순서대로 이어 붙이면 원래 백업 CSV 가 된다.
+ * @param formatVersion manifest 형식 버전
+ * @param chunkCodec 청크 저장 코덱 (NONE, GZIP)
+ * @param size 원래 백업 CSV 크기 (byte)
+ * @param chunks 청크 목록 (순서대로)
+ */
+public record BackupChunkManifest(
+    int formatVersion,
+    String chunkCodec,
+    long size,
+    List<Chunk> chunks
+) {
+
+  /**
+   * @param hash 압축 전 청크 내용의 SHA-256 (hex)
+   * @param size 압축 전 청크 크기
+   */
+  public record Chunk(String hash, int size) {}
+}
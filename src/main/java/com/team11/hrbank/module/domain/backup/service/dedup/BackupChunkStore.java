@@ -0,0 +1,181 @@
+package com.team11.hrbank.module.domain.backup.service.dedup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 백업 청크 저장소
+ * 청크는 압축 전 내용의 SHA-256 으로 backup-files/chunks/{앞 2자리}/{hash}[.gz] 에 한 번만 저장된다.
+ * 임시 파일에 쓴 뒤 이동하므로 중간에 실패해도 깨진 청크가 남지 않는다.
+ */
+@Slf4j
+@Component
+public class BackupChunkStore {
+
+  static final int FORMAT_VERSION = 1;
+
+  private final Path chunkDir;
+  private final BackupProperties backupProperties;
+  private final ObjectMapper objectMapper;
+
+  public BackupChunkStore(FileStorageProperties fileStorageProperties, BackupProperties backupProperties,
+      ObjectMapper objectMapper) {
+    this.chunkDir = Paths.get(fileStorageProperties.getBackupFiles()).resolve("chunks");
+    this.backupProperties = backupProperties;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * 중복 제거 백업 스트림 생성 (close 시 manifestPath 에 manifest 를 쓴다)
+   */
+  public DedupBackupOutputStream create(Path manifestPath) {
+    BackupProperties.Dedup dedup = backupProperties.getDedup();
+    return new DedupBackupOutputStream(this, manifestPath, backupProperties.getCompression().getCodec(),
+        dedup.getMinChunkSize(), dedup.getAvgChunkSize(), dedup.getMaxChunkSize());
+  }
+
+  /**
+   * 청크 저장 (같은 hash 의 청크가 이미 있으면 쓰지 않음)
+   * @return 새로 저장했으면 저장된 크기, 이미 있으면 -1
+   */
+  long put(String hash, byte[] data, int length, BackupCodec codec) throws IOException {
+    Path target = chunkPath(hash, codec);
+    if (Files.exists(target)) {
+      // 재사용 시각을 남겨 정리 작업이 방금 다시 참조된 청크를 지우지 않게 한다
+      Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+      return -1;
+    }
+    Files.createDirectories(target.getParent());
+    Path temp = Files.createTempFile(chunkDir, "chunk_", ".tmp");
+    try {
+      try (OutputStream out = openChunkOutput(temp, codec)) {
+        out.write(data, 0, length);
+      }
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+      return Files.size(target);
+    } catch (FileAlreadyExistsException e) {
+      return -1; // 동시에 같은 청크를 저장한 경우
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  void writeManifest(Path manifestPath, BackupChunkManifest manifest) throws IOException {
+    objectMapper.writeValue(manifestPath.toFile(), manifest);
+  }
+
+  public BackupChunkManifest readManifest(Path manifestPath) throws IOException {
+    try (InputStream in = Files.newInputStream(manifestPath)) {
+      return objectMapper.readValue(in, BackupChunkManifest.class);
+    }
+  }
+
+  /**
+   * manifest 의 청크를 순서대로 이어 읽는 스트림 (원래 백업 CSV)
+   */
+  public InputStream openManifest(Path manifestPath) throws IOException {
+    BackupChunkManifest manifest = readManifest(manifestPath);
+    return new ChunkSequenceInputStream(this, manifest.chunks(), BackupCodec.valueOf(manifest.chunkCodec()));
+  }
+
+  /**
+   * 다운로드용 리소스 (길이는 원래 CSV 크기, Range 요청 시 앞쪽 청크는 읽지 않고 건너뜀)
+   */
+  public Resource manifestResource(Path manifestPath) throws IOException {
+    return new ChunkedBackupResource(this, manifestPath, readManifest(manifestPath));
+  }
+
+  /**
+   * 어떤 manifest 도 참조하지 않는 청크 삭제
+   * 진행 중인 백업이 쓰거나 재사용한 청크는 아직 manifest 에 없으므로 gracePeriod 안에 수정된 청크는 남긴다.
+   * @return 삭제한 청크의 디스크 크기 합
+   */
+  public long deleteUnreferencedChunks(Duration gracePeriod) throws IOException {
+    if (!Files.isDirectory(chunkDir)) {
+      return 0;
+    }
+    Set<String> referenced = collectReferencedHashes();
+    FileTime threshold = FileTime.from(Instant.now().minus(gracePeriod));
+
+    long reclaimed = 0;
+    int deleted = 0;
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(chunkDir, 2)) {
+      files = walk.filter(Files::isRegularFile).toList();
+    }
+    for (Path file : files) {
+      String fileName = file.getFileName().toString();
+      int dot = fileName.indexOf('.');
+      String hash = dot < 0 ? fileName : fileName.substring(0, dot);
+      // 중단된 쓰기의 임시 파일(chunk_*.tmp)도 함께 정리
+      if (referenced.contains(hash) || Files.getLastModifiedTime(file).compareTo(threshold) > 0) {
+        continue;
+      }
+      long size = Files.size(file);
+      if (Files.deleteIfExists(file)) {
+        reclaimed += size;
+        deleted++;
+      }
+    }
+    if (deleted > 0) {
+      log.info("참조되지 않는 청크 삭제: {}개 ({} bytes)", deleted, reclaimed);
+    }
+    return reclaimed;
+  }
+
+  private Set<String> collectReferencedHashes() throws IOException {
+    Set<String> referenced = new HashSet<>();
+    List<Path> manifests;
+    try (Stream<Path> list = Files.list(chunkDir.getParent())) {
+      manifests = list.filter(path -> path.getFileName().toString().endsWith(BackupCodec.DEDUP.getExtension()))
+          .toList();
+    }
+    for (Path manifest : manifests) {
+      try {
+        readManifest(manifest).chunks().forEach(chunk -> referenced.add(chunk.hash()));
+      } catch (NoSuchFileException e) {
+        // 목록을 읽은 뒤 삭제된 manifest
+      }
+    }
+    return referenced;
+  }
+
+  InputStream openChunk(String hash, BackupCodec codec) throws IOException {
+    InputStream in = Files.newInputStream(chunkPath(hash, codec));
+    return codec == BackupCodec.GZIP ? new GZIPInputStream(in) : in;
+  }
+
+  Path chunkPath(String hash, BackupCodec codec) {
+    return chunkDir.resolve(hash.substring(0, 2)).resolve(hash + codec.getExtension());
+  }
+
+  private static OutputStream openChunkOutput(Path path, BackupCodec codec) throws IOException {
+    OutputStream out = new BufferedOutputStream(Files.newOutputStream(path));
+    return codec == BackupCodec.GZIP ? new GZIPOutputStream(out) : out;
+  }
+}
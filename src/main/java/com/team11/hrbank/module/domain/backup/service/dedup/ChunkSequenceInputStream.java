@@ -0,0 +1,99 @@
+package com.team11.hrbank.module.domain.backup.service.dedup;
+
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * manifest 의 청크를 순서대로 이어 읽는 InputStream
+ * skip 은 통째로 건너뛸 수 있는 청크를 열지 않고 넘긴다. (Range 다운로드 이어받기)
+ */
+class ChunkSequenceInputStream extends InputStream {
+
+  private final BackupChunkStore chunkStore;
+  private final List<BackupChunkManifest.Chunk> chunks;
+  private final BackupCodec codec;
+  private int nextIndex;
+  private InputStream current;
+
+  ChunkSequenceInputStream(BackupChunkStore chunkStore, List<BackupChunkManifest.Chunk> chunks, BackupCodec codec) {
+    this.chunkStore = chunkStore;
+    this.chunks = chunks;
+    this.codec = codec;
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] single = new byte[1];
+    return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    while (true) {
+      if (current == null && !openNext()) {
+        return -1;
+      }
+      int n = current.read(b, off, len);
+      if (n > 0) {
+        return n;
+      }
+      closeCurrent();
+    }
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+    while (skipped < n) {
+      if (current == null) {
+        // 아직 열지 않은 청크는 크기만 보고 통째로 건너뜀
+        if (nextIndex >= chunks.size()) {
+          break;
+        }
+        int chunkSize = chunks.get(nextIndex).size();
+        if (chunkSize <= n - skipped) {
+          nextIndex++;
+          skipped += chunkSize;
+          continue;
+        }
+        openNext();
+      }
+      long s = current.skip(n - skipped);
+      if (s > 0) {
+        skipped += s;
+      } else if (current.read() == -1) {
+        closeCurrent();
+      } else {
+        skipped++;
+      }
+    }
+    return skipped;
+  }
+
+  @Override
+  public void close() throws IOException {
+    closeCurrent();
+    nextIndex = chunks.size();
+  }
+
+  private boolean openNext() throws IOException {
+    if (nextIndex >= chunks.size()) {
+      return false;
+    }
+    current = chunkStore.openChunk(chunks.get(nextIndex++).hash(), codec);
+    return true;
+  }
+
+  private void closeCurrent() throws IOException {
+    if (current != null) {
+      current.close();
+      current = null;
+    }
+  }
+}
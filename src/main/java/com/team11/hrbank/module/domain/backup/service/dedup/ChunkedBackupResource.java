@@ -0,0 +1,56 @@
+package com.team11.hrbank.module.domain.backup.service.dedup;
+
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 중복 제거 백업을 원래 CSV 로 내려받기 위한 리소스
+ */
+class ChunkedBackupResource extends AbstractResource {
+
+  private final BackupChunkStore chunkStore;
+  private final Path manifestPath;
+  private final BackupChunkManifest manifest;
+
+  ChunkedBackupResource(BackupChunkStore chunkStore, Path manifestPath, BackupChunkManifest manifest) {
+    this.chunkStore = chunkStore;
+    this.manifestPath = manifestPath;
+    this.manifest = manifest;
+  }
+
+  @Override
+  public InputStream getInputStream() {
+    return new ChunkSequenceInputStream(chunkStore, manifest.chunks(), BackupCodec.valueOf(manifest.chunkCodec()));
+  }
+
+  @Override
+  public boolean exists() {
+    return Files.exists(manifestPath);
+  }
+
+  @Override
+  public long contentLength() {
+    return manifest.size();
+  }
+
+  @Override
+  public long lastModified() throws IOException {
+    return Files.getLastModifiedTime(manifestPath).toMillis();
+  }
+
+  @Override
+  public String getFilename() {
+    String fileName = manifestPath.getFileName().toString();
+    return fileName.substring(0, fileName.length() - BackupCodec.DEDUP.getExtension().length());
+  }
+
+  @Override
+  public String getDescription() {
+    return "chunked backup [" + manifestPath + "]";
+  }
+}
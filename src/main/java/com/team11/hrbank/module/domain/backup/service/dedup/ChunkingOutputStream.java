@@ -0,0 +1,115 @@
+package com.team11.hrbank.module.domain.backup.service.dedup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.SplittableRandom;
+
+/**
+ * content-defined chunking (FastCDC 방식 gear hash) OutputStream
+ * 청크 경계를 바이트 위치가 아닌 내용으로 정하므로 앞부분에 행이 추가/삭제돼도 그 뒤 청크 경계는 그대로 유지된다.
+ * 평균 크기 전에는 더 엄격한 마스크, 이후에는 느슨한 마스크를 써서 청크 크기를 평균 근처로 모은다. (normalized chunking)
+ * 최소 크기 전에는 해시를 계산하지 않으며, 최대 크기에 닿으면 강제로 자른다.
+ */
+public abstract class ChunkingOutputStream extends OutputStream {
+
+  // 해시 값은 마지막 64바이트에만 의존하므로 최소 크기 64바이트 전부터 계산하면 충분
+  private static final int HASH_WINDOW = 64;
+  // 고정 시드: 노드/재시작과 무관하게 같은 내용은 같은 경계로 잘려야 중복 제거가 된다
+  private static final long[] GEAR = new SplittableRandom(0x4842_414E_4B31_31L).longs(256).toArray();
+
+  private final int minSize;
+  /** 경계 탐색 시작 위치 (min 직전 HASH_WINDOW 바이트부터 해시를 채움, min 이 창보다 작으면 처음부터) */
+  private final int scanStart;
+  private final int avgSize;
+  private final int maxSize;
+  private final long strictMask;
+  private final long looseMask;
+  private final byte[] buffer;
+  private int length;
+  private int scanned;
+  private long hash;
+  private boolean closed;
+
+  protected ChunkingOutputStream(int minSize, int avgSize, int maxSize) {
+    if (minSize <= 0 || minSize > avgSize || avgSize > maxSize || Integer.bitCount(avgSize) != 1) {
+      throw new IllegalArgumentException(String.format(
+          "청크 크기 설정이 올바르지 않습니다. (min=%d, avg=%d, max=%d, avg 는 2의 거듭제곱)", minSize, avgSize, maxSize));
+    }
+    int bits = Integer.numberOfTrailingZeros(avgSize);
+    this.minSize = minSize;
+    this.scanStart = Math.max(0, minSize - HASH_WINDOW);
+    this.avgSize = avgSize;
+    this.maxSize = maxSize;
+    this.strictMask = -1L << (64 - (bits + 1));
+    this.looseMask = -1L << (64 - Math.max(1, bits - 1));
+    this.buffer = new byte[maxSize];
+  }
+
+  /**
+   * 잘린 청크 처리 (data 는 호출이 끝나면 재사용되므로 보관하려면 복사해야 함)
+   */
+  protected abstract void onChunk(byte[] data, int length) throws IOException;
+
+  /**
+   * 마지막 청크까지 처리한 뒤 호출
+   */
+  protected void onFinish() throws IOException {
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    buffer[length++] = (byte) b;
+    cutChunks();
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      int n = Math.min(len, maxSize - length);
+      System.arraycopy(b, off, buffer, length, n);
+      length += n;
+      off += n;
+      len -= n;
+      cutChunks();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (length > 0) {
+      emit(length);
+    }
+    onFinish();
+  }
+
+  private void cutChunks() throws IOException {
+    int boundary;
+    while ((boundary = findBoundary()) > 0) {
+      emit(boundary);
+    }
+  }
+
+  private int findBoundary() {
+    for (int i = Math.max(scanned, scanStart); i < length; i++) {
+      hash = (hash << 1) + GEAR[buffer[i] & 0xFF];
+      int size = i + 1;
+      if (size >= maxSize || (size >= minSize && (hash & (size < avgSize ? strictMask : looseMask)) == 0)) {
+        return size;
+      }
+    }
+    scanned = Math.max(scanned, length);
+    return -1;
+  }
+
+  private void emit(int size) throws IOException {
+    onChunk(buffer, size);
+    length -= size;
+    System.arraycopy(buffer, size, buffer, 0, length);
+    scanned = 0;
+    hash = 0;
+  }
+}
@@ -0,0 +1,70 @@
+package com.team11.hrbank.module.domain.backup.service.dedup;
+
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 백업 CSV 를 청크로 잘라 청크 저장소에 넣고, close 시 청크 목록을 manifest 로 남기는 스트림
+ * 이미 저장된 청크는 다시 쓰지 않으므로 거의 바뀌지 않은 백업은 바뀐 청크만큼만 디스크에 쓴다.
+ */
+@Slf4j
+public class DedupBackupOutputStream extends ChunkingOutputStream {
+
+  private final BackupChunkStore chunkStore;
+  private final Path manifestPath;
+  private final BackupCodec chunkCodec;
+  private final MessageDigest sha256;
+  private final List<BackupChunkManifest.Chunk> chunks = new ArrayList<>();
+  private long size;
+  private int newChunks;
+  private long newBytes;
+
+  DedupBackupOutputStream(BackupChunkStore chunkStore, Path manifestPath, BackupCodec chunkCodec,
+      int minChunkSize, int avgChunkSize, int maxChunkSize) {
+    super(minChunkSize, avgChunkSize, maxChunkSize);
+    this.chunkStore = chunkStore;
+    this.manifestPath = manifestPath;
+    this.chunkCodec = chunkCodec;
+    try {
+      this.sha256 = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 미지원", e);
+    }
+  }
+
+  @Override
+  protected void onChunk(byte[] data, int length) throws IOException {
+    sha256.update(data, 0, length);
+    String hash = HexFormat.of().formatHex(sha256.digest());
+    long stored = chunkStore.put(hash, data, length, chunkCodec);
+    if (stored >= 0) {
+      newChunks++;
+      newBytes += stored;
+    }
+    chunks.add(new BackupChunkManifest.Chunk(hash, length));
+    size += length;
+  }
+
+  @Override
+  protected void onFinish() throws IOException {
+    chunkStore.writeManifest(manifestPath,
+        new BackupChunkManifest(BackupChunkStore.FORMAT_VERSION, chunkCodec.name(), size, chunks));
+    log.info("중복 제거 백업 저장: 청크 {}개 중 신규 {}개 ({} bytes), 원본 {} bytes",
+        chunks.size(), newChunks, newBytes, size);
+  }
+
+  /**
+   * 원래 백업 CSV 크기 (close 이후 확정)
+   */
+  public long getSize() {
+    return size;
+  }
+}
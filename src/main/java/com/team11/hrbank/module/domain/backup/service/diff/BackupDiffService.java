@@ -0,0 +1,201 @@
+package com.team11.hrbank.module.domain.backup.service.diff;
+
+import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.exception.BackupException;
+import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
+import com.team11.hrbank.module.domain.backup.service.file.CsvRowEncoder;
+import com.team11.hrbank.module.domain.backup.service.restore.BackupFileReader;
+import com.team11.hrbank.module.domain.backup.service.restore.BackupSectionReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 두 전체 백업 비교
+ * 백업 파일의 각 섹션은 id 순으로 정렬되어 있으므로 두 파일을 동시에 한 행씩 읽는 merge join 으로 비교한다.
+ * 어느 파일도 메모리에 올리지 않으며 결과는 바로 출력 스트림에 쓴다.
+ * 결과 CSV 는 섹션마다 "변경, 변경 내역, 백업 헤더..." 형식이며,
+ * ADDED/CHANGED 는 b 의 행을, REMOVED 는 a 의 행을 담고 CHANGED 의 변경 내역은 "컬럼: 이전 -> 이후" 목록이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackupDiffService {
+
+  private static final List<String> SECTIONS = List.of("EMPLOYEES", "DEPARTMENTS");
+  private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  private final BackupHistoryRepository backupHistoryRepository;
+  private final BackupFileReader backupFileReader;
+
+  /**
+   * 백업 a -> b 사이에 추가/삭제/변경된 행을 CSV 로 쓴다.
+   * @param fromBackupId 기준 백업 (COMPLETED 상태의 전체 백업)
+   * @param toBackupId 비교 대상 백업 (COMPLETED 상태의 전체 백업)
+   */
+  public void writeDiff(Long fromBackupId, Long toBackupId, OutputStream out) throws IOException {
+    String fromFile = resolveBackupFile(fromBackupId);
+    String toFile = resolveBackupFile(toBackupId);
+
+    out.write(UTF8_BOM);
+    CsvRowEncoder encoder = CsvRowEncoder.utf8(out);
+    try (BackupFileReader.SectionCursor fromCursor = backupFileReader.openSections(fromFile);
+        BackupFileReader.SectionCursor toCursor = backupFileReader.openSections(toFile)) {
+      for (String section : SECTIONS) {
+        BackupSectionReader from = fromCursor.seek(section);
+        BackupSectionReader to = toCursor.seek(section);
+        if (from == null || to == null || from.header() == null || to.header() == null) {
+          throw new BackupException("비교할 섹션이 없습니다: " + section);
+        }
+        if (!from.header().toList().equals(to.header().toList())) {
+          throw new BackupException("두 백업의 " + section + " 헤더가 다릅니다.");
+        }
+        DiffCount count = diffSection(section, from, to, encoder);
+        log.info("백업 비교 {} -> {} {}: 추가 {}건, 삭제 {}건, 변경 {}건",
+            fromBackupId, toBackupId, section, count.added, count.removed, count.changed);
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    encoder.flush();
+  }
+
+  private DiffCount diffSection(String section, BackupSectionReader from, BackupSectionReader to,
+      CsvRowEncoder encoder) throws IOException {
+    CSVRecord header = to.header();
+    encoder.line("## " + section + " ##");
+    encoder.cell("변경").cell("변경 내역");
+    for (String column : header) {
+      encoder.cell(column);
+    }
+    encoder.endRow();
+
+    DiffCount count = new DiffCount();
+    SortedRows left = new SortedRows(section, from);
+    SortedRows right = new SortedRows(section, to);
+    while (left.current != null || right.current != null) {
+      int compare = left.current == null ? 1
+          : right.current == null ? -1
+          : Long.compare(left.currentId, right.currentId);
+      if (compare < 0) {
+        writeRow(encoder, "REMOVED", null, left.current);
+        count.removed++;
+        left.advance();
+      } else if (compare > 0) {
+        writeRow(encoder, "ADDED", null, right.current);
+        count.added++;
+        right.advance();
+      } else {
+        String changes = describeChanges(header, left.current, right.current);
+        if (changes != null) {
+          writeRow(encoder, "CHANGED", changes, right.current);
+          count.changed++;
+        }
+        left.advance();
+        right.advance();
+      }
+    }
+    return count;
+  }
+
+  // 바뀐 컬럼만 "컬럼: 이전 -> 이후" 로 나열, 같으면 null
+  private static String describeChanges(CSVRecord header, CSVRecord before, CSVRecord after) {
+    StringBuilder changes = null;
+    for (int i = 1; i < header.size(); i++) {
+      String oldValue = i < before.size() ? before.get(i) : "";
+      String newValue = i < after.size() ? after.get(i) : "";
+      if (sameValue(oldValue, newValue)) {
+        continue;
+      }
+      changes = changes == null ? new StringBuilder() : changes.append("; ");
+      changes.append(header.get(i)).append(": ").append(oldValue).append(" -> ").append(newValue);
+    }
+    return changes != null ? changes.toString() : null;
+  }
+
+  // ENTITY 추출(Instant.toString)과 COPY 추출(마이크로초 6자리)의 시각 표기 차이는 같은 값으로 본다
+  private static boolean sameValue(String oldValue, String newValue) {
+    if (oldValue.equals(newValue)) {
+      return true;
+    }
+    if (oldValue.endsWith("Z") && newValue.endsWith("Z")) {
+      try {
+        return Instant.parse(oldValue).equals(Instant.parse(newValue));
+      } catch (DateTimeParseException e) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private static void writeRow(CsvRowEncoder encoder, String change, String changes, CSVRecord row)
+      throws IOException {
+    encoder.cell(change).cell(changes);
+    for (String value : row) {
+      encoder.cell(value);
+    }
+    encoder.endRow();
+  }
+
+  private String resolveBackupFile(Long backupId) {
+    BackupHistory history = backupHistoryRepository.findById(backupId)
+        .orElseThrow(() -> new ResourceNotFoundException("백업 이력을 찾을 수 없습니다. ID: " + backupId));
+    if (history.getStatus() != BackupStatus.COMPLETED || history.getFile() == null) {
+      throw new IllegalArgumentException("완료된 백업만 비교할 수 있습니다. ID: " + backupId);
+    }
+    if (history.getType() != BackupType.FULL) {
+      throw new IllegalArgumentException("증분 백업은 비교할 수 없습니다. 전체 백업을 지정하세요. ID: " + backupId);
+    }
+    return history.getFile().getFilePath();
+  }
+
+  /**
+   * id(첫 컬럼) 오름차순을 확인하며 읽는 섹션 행
+   */
+  private static final class SortedRows {
+
+    private final String section;
+    private final BackupSectionReader reader;
+    private CSVRecord current;
+    private long currentId = Long.MIN_VALUE;
+
+    SortedRows(String section, BackupSectionReader reader) {
+      this.section = section;
+      this.reader = reader;
+      advance();
+    }
+
+    void advance() {
+      long previousId = currentId;
+      current = reader.nextRow();
+      if (current == null) {
+        return;
+      }
+      try {
+        currentId = Long.parseLong(current.get(0));
+      } catch (NumberFormatException e) {
+        throw new BackupException(section + " 섹션의 id 가 숫자가 아닙니다: " + current.get(0));
+      }
+      if (currentId <= previousId) {
+        throw new BackupException(section + " 섹션이 id 순으로 정렬되어 있지 않습니다. (레코드 " + current.getRecordNumber() + ")");
+      }
+    }
+  }
+
+  private static final class DiffCount {
+    private long added;
+    private long removed;
+    private long changed;
+  }
+}
@@ -0,0 +1,15 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 백업 파일 본문을 OutputStream 에 직접 쓰는 콜백
+ * 파일 생성, BOM, 압축은 BackupFileStorageService 가 처리하고 구현체는 본문 바이트만 쓴다.
+ * 전달받은 스트림은 닫지 않는다.
+ */
+@FunctionalInterface
+public interface BackupContentWriter {
+
+  void writeTo(OutputStream out) throws IOException;
+}
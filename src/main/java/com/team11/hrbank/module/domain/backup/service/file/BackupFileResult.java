@@ -0,0 +1,13 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+
+/**
+ * 저장된 백업 파일 정보
+ * @param filePath 저장된 파일 위치 (로컬 경로 또는 s3://bucket/key)
+ * @param codec 적용된 압축 코덱
+ * @param uncompressedSize 압축 전 CSV 크기 (byte)
+ * @param storedSize 저장소에 기록된 크기 (byte)
+ */
+public record BackupFileResult(String filePath, BackupCodec codec, long uncompressedSize, long storedSize) {
+}
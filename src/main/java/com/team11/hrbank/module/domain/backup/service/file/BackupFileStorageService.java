@@ -1,36 +1,71 @@
 package com.team11.hrbank.module.domain.backup.service.file;
 
+import com.team11.hrbank.module.common.config.BackupProperties;
 import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import com.team11.hrbank.module.domain.backup.service.dedup.BackupChunkStore;
+import com.team11.hrbank.module.domain.backup.service.dedup.DedupBackupOutputStream;
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+import com.team11.hrbank.module.domain.backup.service.storage.BackupStorageOutputStream;
+import com.team11.hrbank.module.domain.backup.service.storage.BackupStorageRouter;
+import com.team11.hrbank.module.domain.backup.service.throttle.BackupThrottle;
+import com.team11.hrbank.module.domain.file.File;
+import com.team11.hrbank.module.domain.file.exception.FileDownloadException;
+import com.team11.hrbank.module.domain.file.service.FileDownload;
+import com.team11.hrbank.module.domain.file.service.FileDownloadResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 /**
  * 백업 데이터를 CSV 파일로 저장하는 서비스 (OOM 방지 적용)
+ * 원격 저장소/중복 제거 백업 파일의 다운로드 리소스도 만든다. (FileService 는 저장 방식을 모름)
  */
 @Slf4j
 @Service
-public class BackupFileStorageService {
+public class BackupFileStorageService implements FileDownloadResolver {
     private final Path backupDir;
     private final Path errorLogDir;
+    private final BackupProperties backupProperties;
+    private final ExecutorService compressionExecutor;
+    private final BackupThrottle throttle;
+    private final BackupChunkStore chunkStore;
+    private final BackupStorageRouter storageRouter;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
     private static DateTimeFormatter FILE_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss").withZone(ZoneId.systemDefault());
 
-    public BackupFileStorageService(FileStorageProperties properties){
+    public BackupFileStorageService(FileStorageProperties properties, BackupProperties backupProperties,
+        @Qualifier("backupCompressionExecutor") ExecutorService compressionExecutor, BackupThrottle throttle,
+        BackupChunkStore chunkStore, BackupStorageRouter storageRouter){
         this.backupDir = createDirectoryIfNotExists(Paths.get(properties.getBackupFiles()));
         this.errorLogDir = createDirectoryIfNotExists(Paths.get(properties.getErrorLogs()));
+        this.backupProperties = backupProperties;
+        this.compressionExecutor = compressionExecutor;
+        this.throttle = throttle;
+        this.chunkStore = chunkStore;
+        this.storageRouter = storageRouter;
     }
 
     private Path createDirectoryIfNotExists(Path directory) {
@@ -48,35 +83,139 @@ public class BackupFileStorageService {
 
 
     /**
-     * 백업 데이터 csv 파일로 저장
-     * @param backupDataStream 각행의 데이터가 csv 형식으로 포멧된 문자열 스트림
-     * @return 저장된 파일 경로
+     * 백업 파일 생성 후 본문 쓰기를 contentWriter 에 위임
+     * backup.storage.type 저장소에 바로 쓰므로 S3 저장소면 로컬 사본 없이 쓰는 대로 업로드된다.
+     * backup.compression.codec 이 GZIP이면 블록 단위 병렬 gzip으로 압축해 .csv.gz 로 저장한다.
+     * backup.dedup.enabled 이고 로컬 저장소면 청크 저장소에 나눠 저장하고 .csv.manifest 만 남긴다. (청크별로 코덱 적용)
+     * @param filenamePrefix 파일명 접두어 (예: backup_, backup_incremental_)
+     * @param progress 쓰는 동안 행/바이트 수를 누적할 진행 카운터
+     * @param contentWriter BOM 이후의 CSV 본문을 쓰는 콜백
+     * @return 저장된 파일 정보
      */
-    public String saveBackupToCsv(Stream<String> backupDataStream) throws IOException {
-        String filename = "backup_" + FILE_TIMESTAMP_FORMAT.format(Instant.now()) + ".csv";
-        Path filePath = backupDir.resolve(filename);
-
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
-            CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT)){
-
-            writer.write("\uFEFF"); //BOM 추가 (excel 한글 인코딩 인식)
-
-
-            try {
-                backupDataStream.forEach(line -> {
-                    try {
-                        writer.write(line);
-                        writer.newLine();
-                    } catch (IOException e) {
-                        throw new UncheckedIOException("csv 쓰기 실패", e);
-                    }
-                });
-            } catch (UncheckedIOException e) {
-                throw e.getCause();//원래 ioexception로 재변환뒤 위로 던짐
+    public BackupFileResult saveBackup(String filenamePrefix, BackupProgress progress,
+        BackupContentWriter contentWriter) throws IOException {
+        if (backupProperties.getDedup().isEnabled()) {
+            if (storageRouter.isLocalTarget()) {
+                return saveDedupBackup(filenamePrefix, progress, contentWriter);
             }
+            log.warn("중복 제거는 로컬 저장소에서만 지원되어 일반 백업 파일로 저장합니다.");
         }
-        log.info("백업 파일 저장 완료: {}", filePath);
-        return filePath.toString();
+        BackupCodec codec = getCodec();
+        BackupStorageOutputStream stored = createBackupFile(filenamePrefix, ".csv" + codec.getExtension());
+
+        ParallelGzipOutputStream gzipStream = null;
+        OutputStream out = stored;
+        if (codec == BackupCodec.GZIP) {
+            gzipStream = createGzipStream(out);
+            out = gzipStream;
+        }
+
+        // backup.throttle 설정 시 압축 전 CSV 기준으로 쓰기 속도 제한
+        OutputStream target = new ProgressOutputStream(throttle.wrap(out), progress);
+        try {
+            target.write(UTF8_BOM); //BOM 추가 (excel 한글 인코딩 인식)
+            contentWriter.writeTo(target);
+            target.close();
+        } catch (IOException | RuntimeException e) {
+            // 먼저 버려야 아래 close 가 쓰다 만 파일을 확정하지 않는다
+            stored.abort();
+            IOUtils.closeQuietly(target);
+            throw e;
+        }
+
+        long uncompressedSize = gzipStream != null ? gzipStream.getUncompressedSize() : stored.getSize();
+        log.info("백업 파일 저장 완료: {} (코덱: {}, 압축 전 {} bytes, 저장 {} bytes)",
+            stored.getLocation(), codec, uncompressedSize, stored.getSize());
+        return new BackupFileResult(stored.getLocation(), codec, uncompressedSize, stored.getSize());
+    }
+
+    private BackupFileResult saveDedupBackup(String filenamePrefix, BackupProgress progress,
+        BackupContentWriter contentWriter) throws IOException {
+        // 파일 전체를 압축하면 앞부분 변경이 뒤쪽 바이트를 모두 바꿔 중복 제거가 안 되므로 압축은 청크 단위로만 한다
+        Path manifestPath = newBackupFilePath(filenamePrefix, ".csv" + BackupCodec.DEDUP.getExtension());
+        DedupBackupOutputStream dedupStream = chunkStore.create(manifestPath);
+
+        try (OutputStream target = new ProgressOutputStream(throttle.wrap(dedupStream), progress)) {
+            target.write(UTF8_BOM);
+            contentWriter.writeTo(target);
+        }
+        return new BackupFileResult(manifestPath.toString(), BackupCodec.DEDUP, dedupStream.getSize(),
+            Files.size(manifestPath));
+    }
+
+    /**
+     * 체크포인트 세그먼트 파일 쓰기 (BOM, 압축 없음)
+     * 임시 파일에 쓰고 디스크에 동기화한 뒤 이름을 바꾸므로 세그먼트 파일이 보이면 내용이 모두 기록된 것이다.
+     * @param segmentPath 세그먼트 파일 경로
+     * @param progress 쓰는 동안 행/바이트 수를 누적할 진행 카운터
+     * @param contentWriter 세그먼트 본문을 쓰는 콜백
+     */
+    public void writeSegment(Path segmentPath, BackupProgress progress, BackupContentWriter contentWriter)
+        throws IOException {
+        Path tempPath = segmentPath.resolveSibling(segmentPath.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(tempPath.toFile())) {
+            OutputStream target = new ProgressOutputStream(throttle.wrap(new BufferedOutputStream(file)), progress);
+            contentWriter.writeTo(target);
+            target.flush();
+            file.getFD().sync();
+        }
+        Files.move(tempPath, segmentPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 백업 이력별 체크포인트 세그먼트 디렉토리 (재개하는 노드도 같은 경로를 찾을 수 있도록 이력 id 기준)
+     */
+    public Path checkpointDirectory(Long backupId) {
+        return backupDir.resolve("backup_" + backupId + ".parts");
+    }
+
+    /**
+     * 백업 디렉토리 안의 새 백업 파일 경로 (접두어 + 타임스탬프 + 확장자)
+     */
+    public Path newBackupFilePath(String filenamePrefix, String extension) {
+        return backupDir.resolve(newBackupFileName(filenamePrefix, extension));
+    }
+
+    /**
+     * 새 백업 파일명 (접두어 + 타임스탬프 + 확장자)
+     */
+    public String newBackupFileName(String filenamePrefix, String extension) {
+        return filenamePrefix + FILE_TIMESTAMP_FORMAT.format(Instant.now()) + extension;
+    }
+
+    /**
+     * 백업 저장 대상에 새 백업 파일을 쓰는 스트림 (close 하면 확정, 실패 시 abort)
+     */
+    public BackupStorageOutputStream createBackupFile(String filenamePrefix, String extension) throws IOException {
+        return storageRouter.target().create(newBackupFileName(filenamePrefix, extension));
+    }
+
+    /**
+     * 백업 디렉토리 안에 임시 작업 디렉토리 생성 (같은 파일시스템이라 결과 파일로 바로 옮길 수 있음)
+     */
+    public Path createWorkDirectory(String prefix) throws IOException {
+        return Files.createTempDirectory(backupDir, prefix);
+    }
+
+    /**
+     * 설정된 압축 코덱
+     */
+    public BackupCodec getCodec() {
+        return backupProperties.getCompression().getCodec();
+    }
+
+    /**
+     * 설정된 코덱으로 out 을 감싼다. (NONE 이면 그대로 반환)
+     */
+    public OutputStream wrapWithCodec(OutputStream out) {
+        return getCodec() == BackupCodec.GZIP ? createGzipStream(out) : out;
+    }
+
+    private ParallelGzipOutputStream createGzipStream(OutputStream out) {
+        BackupProperties.Compression compression = backupProperties.getCompression();
+        int threads = compression.getThreads() > 0 ? compression.getThreads() : Runtime.getRuntime().availableProcessors();
+        // 압축 중인 블록 + 쓰기 대기 블록까지 스레드 수의 2배로 제한
+        return new ParallelGzipOutputStream(out, compressionExecutor, compression.getBlockSize(), threads * 2);
     }
 
     /**
@@ -168,4 +307,46 @@ public class BackupFileStorageService {
             return null;
         }
     }
+
+    /**
+     * 원격 저장소에 있거나 청크로 나눠 저장한(중복 제거) 백업 파일인지
+     */
+    @Override
+    public boolean supports(File file) {
+        return storageRouter.isRemote(file.getFilePath()) || BackupCodec.DEDUP.name().equals(file.getCodec());
+    }
+
+    /**
+     * 백업 파일 다운로드 리소스
+     * 원격 저장소 객체는 내용이 바뀌지 않으므로 파일 ID + 저장 크기 + 생성 시각으로 ETag 를 만들고,
+     * 중복 제거 백업은 manifest 의 청크를 이어 붙여 원래 CSV 로 내려준다.
+     */
+    @Override
+    public FileDownload resolve(File file) {
+        if (storageRouter.isRemote(file.getFilePath())) {
+            Resource resource = storageRouter.resource(file.getFilePath(), file.getFileName());
+            long lastModified = file.getCreatedAt() != null ? file.getCreatedAt().toEpochMilli() : -1;
+            return new FileDownload(file, resource, eTag(file.getId(), file.getSize(), lastModified), lastModified);
+        }
+
+        Path manifestPath = Paths.get(file.getFilePath());
+        if (!Files.exists(manifestPath)) {
+            log.warn("백업 manifest 파일이 물리적으로 존재하지 않습니다 {}", manifestPath);
+            return new FileDownload(file, new ByteArrayResource(new byte[0]), null, -1);
+        }
+        try {
+            Resource resource = chunkStore.manifestResource(manifestPath);
+            long lastModified = Files.getLastModifiedTime(manifestPath).toMillis();
+            return new FileDownload(file, resource, eTag(file.getId(), resource.contentLength(), lastModified),
+                lastModified);
+        } catch (IOException e) {
+            log.error("백업 manifest 읽기 실패: {}", e.getMessage());
+            throw new FileDownloadException("파일을 읽을 수 없습니다: " + file.getId(), e);
+        }
+    }
+
+    // 파일 ID + 크기 + 수정 시각: 내용이 바뀌면 이어받기(If-Range)와 캐시가 무효화된다
+    private static String eTag(Long fileId, long size, long lastModified) {
+        return "\"" + fileId + "-" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+    }
 }
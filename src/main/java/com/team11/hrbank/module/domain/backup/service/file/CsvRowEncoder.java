@@ -0,0 +1,176 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 백업 CSV 행 인코더
+ * 셀 값을 중간 문자열(String[], 이스케이프 결과, join 결과) 없이 Writer 에 바로 쓴다.
+ * 값은 한 번만 훑으며, 쉼표/쌍따옴표/줄바꿈이 있으면 따옴표로 감싸고 쌍따옴표는 두 번 쓴다.
+ * null 과 빈 문자열은 빈 셀로 쓴다. 스레드 안전하지 않다.
+ * 진행 카운터를 넘기면 행을 끝낼 때마다 행 수를 누적한다. (따옴표 안의 줄바꿈은 행으로 세지 않음)
+ */
+public final class CsvRowEncoder implements Flushable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Writer writer;
+  private final BackupProgress progress;
+  private final char[] scratch = new char[20];
+  private boolean rowStarted;
+
+  public CsvRowEncoder(Writer writer) {
+    this(writer, null);
+  }
+
+  public CsvRowEncoder(Writer writer, BackupProgress progress) {
+    this.writer = writer;
+    this.progress = progress;
+  }
+
+  /**
+   * UTF-8 버퍼 Writer 로 감싼 인코더 생성 (out 은 닫지 않는다)
+   */
+  public static CsvRowEncoder utf8(OutputStream out) {
+    return utf8(out, null);
+  }
+
+  /**
+   * 쓴 행 수를 progress 에 누적하는 UTF-8 인코더 생성 (out 은 닫지 않는다)
+   */
+  public static CsvRowEncoder utf8(OutputStream out, BackupProgress progress) {
+    return new CsvRowEncoder(
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE), progress);
+  }
+
+  public CsvRowEncoder cell(String value) throws IOException {
+    separator();
+    if (value != null) {
+      writeEscaped(value);
+    }
+    return this;
+  }
+
+  public CsvRowEncoder cell(long value) throws IOException {
+    separator();
+    writeLong(value);
+    return this;
+  }
+
+  /**
+   * yyyy-MM-dd 형식 날짜 셀
+   */
+  public CsvRowEncoder cell(LocalDate value) throws IOException {
+    separator();
+    if (value == null) {
+      return this;
+    }
+    int year = value.getYear();
+    if (year < 1000 || year > 9999) {
+      writer.write(value.toString());
+      return this;
+    }
+    writeLong(year);
+    writer.write('-');
+    writeTwoDigits(value.getMonthValue());
+    writer.write('-');
+    writeTwoDigits(value.getDayOfMonth());
+    return this;
+  }
+
+  public void endRow() throws IOException {
+    writer.write('\n');
+    rowStarted = false;
+    if (progress != null) {
+      progress.addRows(1);
+    }
+  }
+
+  /**
+   * 셀 배열을 한 행으로 쓴다.
+   */
+  public void row(String... cells) throws IOException {
+    for (String cell : cells) {
+      cell(cell);
+    }
+    endRow();
+  }
+
+  /**
+   * 이스케이프 없이 한 줄을 그대로 쓴다. (섹션 구분자 등)
+   */
+  public void line(String line) throws IOException {
+    writer.write(line);
+    endRow();
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  private void separator() throws IOException {
+    if (rowStarted) {
+      writer.write(',');
+    } else {
+      rowStarted = true;
+    }
+  }
+
+  private void writeEscaped(String value) throws IOException {
+    int length = value.length();
+
+    // 특수문자가 처음 나오는 위치까지 스캔
+    int i = 0;
+    while (i < length && !needsQuote(value.charAt(i))) {
+      i++;
+    }
+    if (i == length) {
+      writer.write(value, 0, length);
+      return;
+    }
+
+    // 이미 스캔한 앞부분은 그대로 쓰고, 나머지는 이어서 스캔하며 쌍따옴표만 두 번 쓴다
+    writer.write('"');
+    int segmentStart = 0;
+    for (; i < length; i++) {
+      if (value.charAt(i) == '"') {
+        writer.write(value, segmentStart, i - segmentStart + 1);
+        writer.write('"');
+        segmentStart = i + 1;
+      }
+    }
+    writer.write(value, segmentStart, length - segmentStart);
+    writer.write('"');
+  }
+
+  private static boolean needsQuote(char c) {
+    return c == ',' || c == '"' || c == '\n' || c == '\r';
+  }
+
+  private void writeLong(long value) throws IOException {
+    if (value < 0) {
+      writer.write(Long.toString(value));
+      return;
+    }
+    int position = scratch.length;
+    do {
+      scratch[--position] = (char) ('0' + (value % 10));
+      value /= 10;
+    } while (value > 0);
+    writer.write(scratch, position, scratch.length - position);
+  }
+
+  private void writeTwoDigits(int value) throws IOException {
+    writer.write('0' + value / 10);
+    writer.write('0' + value % 10);
+  }
+}
@@ -0,0 +1,58 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * COPY TO STDOUT 이 흘려보내는 CSV 의 줄바꿈 수를 행 수로 BackupProgress 에 바로 누적하는 OutputStream
+ * 테이블 하나를 다 읽을 때까지 기다리지 않으므로 긴 COPY 도중에도 ETA 를 계산할 수 있다.
+ * 셀 안의 줄바꿈도 한 행으로 세는 근사치이므로, COPY 가 끝나면 correctTo 로 드라이버가 돌려준 정확한 행 수에 맞춘다.
+ * '\n' 은 UTF-8 다중 바이트 문자 안에 나타나지 않으므로 바이트 단위로 센다.
+ */
+public class LineCountingOutputStream extends FilterOutputStream {
+
+  private final BackupProgress progress;
+  /** 마지막 보정 이후 누적한 줄 수 */
+  private long lines;
+
+  public LineCountingOutputStream(OutputStream out, BackupProgress progress) {
+    super(out);
+    this.progress = progress;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    out.write(b);
+    if (b == '\n') {
+      lines++;
+      progress.addRows(1);
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+    long newLines = 0;
+    for (int i = off; i < off + len; i++) {
+      if (b[i] == '\n') {
+        newLines++;
+      }
+    }
+    if (newLines > 0) {
+      lines += newLines;
+      progress.addRows(newLines);
+    }
+  }
+
+  /**
+   * 지금까지 센 줄 수를 정확한 행 수로 보정하고 다음 테이블을 위해 카운트를 비운다.
+   * @param rows COPY 가 돌려준 행 수
+   */
+  public void correctTo(long rows) {
+    progress.addRows(rows - lines);
+    lines = 0;
+  }
+}
@@ -0,0 +1,150 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 입력을 blockSize 단위 블록으로 나눠 각각 독립된 gzip 멤버로 병렬 압축하고, 입력 순서대로 이어 쓰는 OutputStream.
+ * 이어 붙인 gzip 멤버는 그 자체로 유효한 gzip 파일이므로 gunzip, GZIPInputStream 으로 그대로 풀 수 있다.
+ * 동시에 압축 중인 블록 수를 maxInFlight 로 제한해 메모리 사용량이 파일 크기와 무관하게 일정하다.
+ * 스레드 안전하지 않으며 한 스레드에서만 쓴다.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+  private final OutputStream out;
+  private final ExecutorService executor;
+  private final int blockSize;
+  private final int maxInFlight;
+  private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+
+  private byte[] buffer;
+  private int position;
+  private long uncompressedSize;
+  private boolean anyBlockSubmitted;
+  private boolean closed;
+
+  public ParallelGzipOutputStream(OutputStream out, ExecutorService executor, int blockSize, int maxInFlight) {
+    if (blockSize <= 0 || maxInFlight <= 0) {
+      throw new IllegalArgumentException("blockSize, maxInFlight는 0보다 커야 합니다.");
+    }
+    this.out = out;
+    this.executor = executor;
+    this.blockSize = blockSize;
+    this.maxInFlight = maxInFlight;
+    this.buffer = new byte[blockSize];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    buffer[position++] = (byte) b;
+    uncompressedSize++;
+    if (position == blockSize) {
+      submitBlock();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    while (len > 0) {
+      int n = Math.min(len, blockSize - position);
+      System.arraycopy(b, off, buffer, position, n);
+      position += n;
+      off += n;
+      len -= n;
+      uncompressedSize += n;
+      if (position == blockSize) {
+        submitBlock();
+      }
+    }
+  }
+
+  /**
+   * 압축이 끝난 블록만 내보낸다. 작은 블록이 생기지 않도록 채워지는 중인 블록은 압축하지 않는다.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+      writeNextBlock();
+    }
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      // 빈 입력이어도 유효한 gzip 파일이 되도록 멤버 하나는 기록
+      if (position > 0 || !anyBlockSubmitted) {
+        submitBlock();
+      }
+      while (!pending.isEmpty()) {
+        writeNextBlock();
+      }
+    } finally {
+      pending.forEach(future -> future.cancel(true));
+      pending.clear();
+      out.close();
+    }
+  }
+
+  /**
+   * 압축 전 누적 바이트 수
+   */
+  public long getUncompressedSize() {
+    return uncompressedSize;
+  }
+
+  private void submitBlock() throws IOException {
+    byte[] block = buffer;
+    int length = position;
+    pending.addLast(executor.submit(() -> compress(block, length)));
+    anyBlockSubmitted = true;
+
+    buffer = new byte[blockSize];
+    position = 0;
+
+    while (pending.size() >= maxInFlight) {
+      writeNextBlock();
+    }
+  }
+
+  private void writeNextBlock() throws IOException {
+    Future<byte[]> next = pending.pollFirst();
+    try {
+      out.write(next.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("블록 압축 대기 중 인터럽트 발생");
+    } catch (ExecutionException e) {
+      throw new IOException("블록 압축 실패", e.getCause());
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("이미 닫힌 스트림입니다.");
+    }
+  }
+
+  private static byte[] compress(byte[] block, int length) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, length / 4));
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 8192)) {
+      gzip.write(block, 0, length);
+    }
+    return compressed.toByteArray();
+  }
+}
@@ -0,0 +1,37 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 지나가는 바이트 수를 BackupProgress 에 누적하는 OutputStream
+ * 추출 방식(엔티티/COPY)과 무관하게 압축 전 CSV 기준으로 집계된다.
+ * 행 수는 셀 안의 줄바꿈과 구분할 수 없으므로 여기서 세지 않고 CsvRowEncoder/LineCountingOutputStream 으로 누적한다.
+ * 쓰기 전마다 중단 요청을 확인해 lease를 잃은 백업은 다음 버퍼를 쓰기 전에 중단된다.
+ */
+public class ProgressOutputStream extends FilterOutputStream {
+
+  private final BackupProgress progress;
+
+  public ProgressOutputStream(OutputStream out, BackupProgress progress) {
+    super(out);
+    this.progress = progress;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    progress.checkAborted();
+    out.write(b);
+    progress.addBytes(1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    progress.checkAborted();
+    out.write(b, off, len);
+    progress.addBytes(len);
+  }
+}
@@ -0,0 +1,88 @@
+package com.team11.hrbank.module.domain.backup.service.progress;
+
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 진행 중인 백업 한 건의 진행 카운터
+ * 파일을 쓰는 스레드가 갱신하고 진행률 조회 API가 읽는다.
+ */
+@Getter
+public class BackupProgress {
+
+  private final Long backupId;
+  private final Instant startedAt;
+  /** 예상 행 수 (섹션 구분자/헤더 포함, DB 통계 기반 추정치, 0이면 알 수 없음) */
+  private final long estimatedRows;
+  private final AtomicLong rowsWritten = new AtomicLong();
+  private final AtomicLong bytesWritten = new AtomicLong();
+  private volatile BackupStatus status = BackupStatus.IN_PROGRESS;
+  private volatile Instant finishedAt;
+  /** 중단 사유 (중단 요청이 없으면 null) */
+  private volatile String abortReason;
+
+  public BackupProgress(Long backupId, long estimatedRows) {
+    this.backupId = backupId;
+    this.startedAt = Instant.now();
+    this.estimatedRows = estimatedRows;
+  }
+
+  /**
+   * 추적하지 않는 백업용 (카운터만 쌓이고 조회되지 않음)
+   */
+  public static BackupProgress untracked() {
+    return new BackupProgress(null, 0);
+  }
+
+  public void addRows(long rows) {
+    rowsWritten.addAndGet(rows);
+  }
+
+  public void addBytes(long bytes) {
+    bytesWritten.addAndGet(bytes);
+  }
+
+  /**
+   * 중단 요청 (lease를 잃은 경우 등)
+   */
+  public void abort(String reason) {
+    this.abortReason = reason;
+  }
+
+  /**
+   * 중단 요청이 있으면 IOException (파일을 쓰는 도중 확인)
+   */
+  public void checkAborted() throws IOException {
+    String reason = abortReason;
+    if (reason != null) {
+      throw new IOException(reason);
+    }
+  }
+
+  public void finish(BackupStatus status) {
+    this.status = status;
+    this.finishedAt = Instant.now();
+  }
+
+  /**
+   * 지금까지의 행 처리 속도로 계산한 남은 시간 (초)
+   * @return 완료되었으면 0, 예상 행 수를 모르거나 아직 쓴 행이 없으면 null
+   */
+  public Long getEtaSeconds() {
+    if (status != BackupStatus.IN_PROGRESS) {
+      return 0L;
+    }
+    long rows = rowsWritten.get();
+    if (estimatedRows <= 0 || rows == 0) {
+      return null;
+    }
+    long remainingRows = Math.max(0, estimatedRows - rows);
+    long elapsedMillis = Duration.between(startedAt, Instant.now()).toMillis();
+    return elapsedMillis * remainingRows / rows / 1000;
+  }
+}
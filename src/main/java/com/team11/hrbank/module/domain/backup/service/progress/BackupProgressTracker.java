@@ -0,0 +1,56 @@
+package com.team11.hrbank.module.domain.backup.service.progress;
+
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 백업 이력 ID별 진행 카운터 보관소
+ * 완료된 백업도 마지막 값을 조회할 수 있도록 일정 시간 보관한 뒤 정리한다.
+ */
+@Component
+public class BackupProgressTracker {
+
+  private static final Duration FINISHED_RETENTION = Duration.ofMinutes(10);
+
+  private final Map<Long, BackupProgress> progresses = new ConcurrentHashMap<>();
+
+  public BackupProgress start(Long backupId, long estimatedRows) {
+    purgeFinished();
+    BackupProgress progress = new BackupProgress(backupId, estimatedRows);
+    progresses.put(backupId, progress);
+    return progress;
+  }
+
+  public BackupProgress get(Long backupId) {
+    return progresses.get(backupId);
+  }
+
+  public void finish(Long backupId, BackupStatus status) {
+    BackupProgress progress = progresses.get(backupId);
+    if (progress != null) {
+      progress.finish(status);
+    }
+  }
+
+  /**
+   * 진행 중인 백업 모두 중단 요청 (파일을 쓰는 스레드가 다음 쓰기에서 예외로 중단)
+   */
+  public void abortInProgress(String reason) {
+    progresses.values().forEach(progress -> {
+      if (progress.getStatus() == BackupStatus.IN_PROGRESS) {
+        progress.abort(reason);
+      }
+    });
+  }
+
+  private void purgeFinished() {
+    Instant threshold = Instant.now().minus(FINISHED_RETENTION);
+    progresses.values().removeIf(progress ->
+        progress.getFinishedAt() != null && progress.getFinishedAt().isBefore(threshold));
+  }
+}
@@ -0,0 +1,142 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import com.team11.hrbank.module.domain.backup.service.dedup.BackupChunkStore;
+import com.team11.hrbank.module.domain.backup.service.storage.BackupStorageRouter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.input.BOMInputStream;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 백업 파일 형식(.csv, .csv.gz, 중복 제거 .csv.manifest, 아카이브 .zip)에 맞게 열어 섹션 단위로 읽는다.
+ * 파일은 위치(files.file_path)에 맞는 백업 저장소에서 스트리밍으로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BackupFileReader {
+
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private final BackupChunkStore chunkStore;
+  private final BackupStorageRouter storageRouter;
+
+  /**
+   * 섹션 구분자가 있는 백업 파일 열기 (아카이브 제외)
+   * @param location 백업 파일 위치 (로컬 경로 또는 s3://bucket/key)
+   */
+  public BackupSectionReader open(String location) throws IOException {
+    String fileName = location.toLowerCase(Locale.ROOT);
+    // 중복 제거 manifest 는 로컬 청크 저장소에만 있다
+    InputStream in = fileName.endsWith(BackupCodec.DEDUP.getExtension())
+        ? chunkStore.openManifest(Paths.get(location))
+        : storageRouter.open(location);
+    try {
+      in = new BufferedInputStream(in, BUFFER_SIZE);
+      if (fileName.endsWith(".gz")) {
+        in = new GZIPInputStream(in, BUFFER_SIZE);
+      }
+      return BackupSectionReader.of(openReader(in));
+    } catch (IOException | RuntimeException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  /**
+   * 섹션을 파일에 나오는 순서대로 찾아가며 읽는 커서
+   * 아카이브는 섹션(항목)마다 다시 열고, 그 외 형식은 한 번 연 스트림을 끝까지 이어서 읽는다.
+   */
+  public SectionCursor openSections(String location) {
+    return new SectionCursor(location);
+  }
+
+  /**
+   * 백업 파일 원본 바이트 스트림 (아카이브 zip 을 직접 읽을 때 사용, 버퍼링됨)
+   */
+  public InputStream openRaw(String location) throws IOException {
+    return new BufferedInputStream(storageRouter.open(location), BUFFER_SIZE);
+  }
+
+  static InputStreamReader openReader(InputStream in) throws IOException {
+    InputStream withoutBom = BOMInputStream.builder().setInputStream(in).get();
+    return new InputStreamReader(withoutBom, StandardCharsets.UTF_8);
+  }
+
+  public final class SectionCursor implements Closeable {
+
+    private final String location;
+    private final boolean archive;
+    private BackupSectionReader reader;
+
+    private SectionCursor(String location) {
+      this.location = location;
+      this.archive = location.toLowerCase(Locale.ROOT).endsWith(".zip");
+    }
+
+    /**
+     * 지정한 섹션으로 이동 (헤더는 reader.header() 로 조회)
+     * 아카이브가 아니면 앞서 찾은 섹션보다 뒤에 있는 섹션만 찾을 수 있다.
+     * @return 섹션 위치의 reader, 섹션이 없으면 null
+     */
+    public BackupSectionReader seek(String section) throws IOException {
+      if (archive) {
+        close();
+        reader = openArchiveEntry(section);
+        return reader;
+      }
+      if (reader == null) {
+        reader = open(location);
+      }
+      String current;
+      while ((current = reader.nextSection()) != null) {
+        if (current.equals(section)) {
+          return reader;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (reader != null) {
+        reader.close();
+        reader = null;
+      }
+    }
+
+    // 항목 이름(employees.csv[.gz])이 section 인 항목까지 건너뛴 뒤 그 항목만 읽는 reader
+    private BackupSectionReader openArchiveEntry(String section) throws IOException {
+      ZipInputStream zip = new ZipInputStream(openRaw(location));
+      try {
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+          String entryName = entry.getName();
+          int extensionIndex = entryName.indexOf('.');
+          if (extensionIndex > 0 && entryName.substring(0, extensionIndex).toUpperCase(Locale.ROOT).equals(section)) {
+            InputStream content = entryName.endsWith(".gz") ? new GZIPInputStream(zip, BUFFER_SIZE) : zip;
+            BackupSectionReader entryReader = BackupSectionReader.ofSingleSection(openReader(content), section);
+            entryReader.nextSection();
+            return entryReader;
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        zip.close();
+        throw e;
+      }
+      zip.close();
+      return null;
+    }
+  }
+}
@@ -0,0 +1,326 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.dto.BackupRestoreDto;
+import com.team11.hrbank.module.domain.backup.exception.BackupException;
+import com.team11.hrbank.module.domain.backup.exception.BackupRestoreException;
+import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileStorageService;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogHighWaterMark;
+import com.team11.hrbank.module.domain.employee.service.HeadcountRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 백업 파일 복원
+ * 백업 파일(.csv, .csv.gz, 아카이브 .zip)을 BackupStagingLoader 로 임시 스테이징 테이블에 적재한 뒤,
+ * 집합 단위 INSERT ... SELECT 로 부서 -> 직원 순서로 옮긴다. 행마다 save() 를 호출하지 않는다.
+ * 백업 파일의 직원 행은 부서를 이름으로 가리키므로 직원의 department_id 는 복원된 부서의 id 로 다시 매핑한다.
+ * 부서/직원 id 는 백업 값을 유지하고, 복원 후 identity 시퀀스를 최대 id 뒤로 맞추며 직원 수 집계를 다시 만든다.
+ * 아카이브에 프로필 이미지가 담겨 있으면 이미지를 새 파일로 복사하고 직원에 다시 연결한다.
+ * 복원한 직원마다 CREATED 변경 이력을 남겨 다음 백업이 건너뛰지 않고 복원된 데이터를 포함하도록 한다.
+ * 증분 백업은 부모를 따라 전체 백업까지 올라가 전체 백업을 스테이징한 뒤, 증분 백업을 오래된 순서로 스테이징 테이블에 반영한다.
+ * 전체가 하나의 트랜잭션이며, 대상 테이블(employees, departments)이 비어 있을 때만 복원한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackupRestoreService {
+
+  private final BackupHistoryRepository backupHistoryRepository;
+  private final BackupStagingLoader stagingLoader;
+  private final DataSource dataSource;
+  private final HeadcountRollupService headcountRollupService;
+  private final ChangeLogHighWaterMark changeLogHighWaterMark;
+  private final BackupFileStorageService fileStorageService;
+  private final FileStorageProperties fileStorageProperties;
+
+  /**
+   * 백업 복원 (증분 백업이면 전체 백업부터 체인 전체를 반영)
+   * @param backupId 복원할 백업 이력 ID (COMPLETED 상태의 전체 또는 증분 백업)
+   * @param ipAddress 요청자 IP (복원 변경 이력에 기록)
+   * @return 복원 결과 (건수, 초당 행 수)
+   */
+  @Transactional
+  public BackupRestoreDto restore(Long backupId, String ipAddress) {
+    BackupHistory history = backupHistoryRepository.findById(backupId)
+        .orElseThrow(() -> new ResourceNotFoundException("백업 이력을 찾을 수 없습니다. ID: " + backupId));
+    List<BackupHistory> chain = restoreChain(history);
+
+    String backupFile = chain.get(0).getFile().getFilePath();
+    long startNanos = System.nanoTime();
+    log.info("백업 복원 시작 - 백업 ID: {}, 파일: {}, 반영할 증분 백업: {}개", backupId, backupFile, chain.size() - 1);
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    Path imageDirectory = null;
+    try {
+      assertTargetTablesEmpty(connection);
+      stagingLoader.createStagingTables(connection);
+      imageDirectory = fileStorageService.createWorkDirectory("restore_images_");
+      stagingLoader.load(backupFile, connection, imageDirectory);
+      if (chain.size() > 1) {
+        stagingLoader.createIncrementalStagingTables(connection);
+        for (BackupHistory incremental : chain.subList(1, chain.size())) {
+          log.info("증분 백업 반영 - 백업 ID: {}, 파일: {}", incremental.getId(), incremental.getFile().getFilePath());
+          stagingLoader.applyIncremental(incremental.getFile().getFilePath(), connection);
+        }
+      }
+
+      long departments = executeUpdate(connection, """
+          INSERT INTO departments (id, name, description, established_date, created_at)
+          SELECT backup_id, name, description, established_date, COALESCE(created_at, now())
+          FROM restore_departments
+          ORDER BY backup_id
+          """);
+      long unmapped = queryLong(connection, """
+          SELECT count(*)
+          FROM restore_employees s
+          LEFT JOIN departments d ON d.name = s.department_name
+          WHERE s.department_name IS NOT NULL AND d.id IS NULL
+          """);
+      long employees = executeUpdate(connection, """
+          INSERT INTO employees (id, name, email, employee_number, department_id, "position", hire_date, status, created_at)
+          SELECT s.backup_id, s.name, s.email, s.employee_number, d.id, s."position", s.hire_date, s.status,
+                 COALESCE(s.created_at, now())
+          FROM restore_employees s
+          LEFT JOIN departments d ON d.name = s.department_name
+          ORDER BY s.backup_id
+          """);
+      long images = restoreProfileImages(connection, imageDirectory);
+      resetIdentity(connection, "departments");
+      resetIdentity(connection, "employees");
+      headcountRollupService.rebuild();
+      recordRestoreChangeLogs(connection, backupId, ipAddress);
+
+      long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+      long rowsPerSecond = (departments + employees) * 1000 / elapsedMillis;
+      if (unmapped > 0) {
+        log.warn("부서명을 찾지 못해 부서 없이 복원된 직원: {}명", unmapped);
+      }
+      log.info("백업 복원 완료 - 부서 {}건, 직원 {}건, 프로필 이미지 {}건, {} ms ({} rows/s)",
+          departments, employees, images, elapsedMillis, rowsPerSecond);
+      return new BackupRestoreDto(backupId, departments, employees, unmapped, elapsedMillis, rowsPerSecond);
+    } catch (IOException | UncheckedIOException | SQLException e) {
+      // 파일/DB 오류는 복원 조건 위반(BackupRestoreException, 409)과 구분해 500 으로 처리
+      throw new BackupException("백업 복원 실패: " + e.getMessage(), e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+      if (imageDirectory != null) {
+        FileUtils.deleteQuietly(imageDirectory.toFile());
+      }
+    }
+  }
+
+  /**
+   * 복원할 백업 체인 (전체 백업이 처음, 복원 대상이 마지막)
+   * 증분 백업이면 부모를 따라 전체 백업까지 올라간다. 체인의 모든 백업은 완료 상태이고 파일이 있어야 한다.
+   */
+  static List<BackupHistory> restoreChain(BackupHistory target) {
+    List<BackupHistory> chain = new ArrayList<>();
+    Set<Long> visited = new HashSet<>();
+    BackupHistory current = target;
+    while (true) {
+      if (current.getStatus() != BackupStatus.COMPLETED || current.getFile() == null) {
+        throw new BackupRestoreException(String.format("완료된 백업만 복원할 수 있습니다. 백업 ID: %d, 상태: %s",
+            current.getId(), current.getStatus()));
+      }
+      if (!visited.add(current.getId())) {
+        throw new BackupRestoreException("증분 백업 체인이 순환합니다. 백업 ID: " + current.getId());
+      }
+      chain.add(current);
+      if (current.getType() != BackupType.INCREMENTAL) {
+        break;
+      }
+      if (current.getParentBackup() == null) {
+        throw new BackupRestoreException("증분 백업의 부모 백업을 찾을 수 없습니다. 백업 ID: " + current.getId());
+      }
+      current = current.getParentBackup();
+    }
+    Collections.reverse(chain);
+    return chain;
+  }
+
+  /**
+   * 아카이브의 프로필 이미지를 복원해 직원에 연결
+   * 직원이 참조하던 이미지마다 프로필 이미지 디렉토리에 새 파일로 복사하고 files 행을 만든 뒤,
+   * 그 이미지를 참조하던 직원의 profile_image_id 를 새 파일 id 로 바꾼다. (파일 id 는 백업 값을 유지하지 않음)
+   * 복사한 파일은 트랜잭션이 커밋되지 않으면 삭제한다.
+   * @return 복원한 이미지 파일 수
+   */
+  private long restoreProfileImages(Connection connection, Path imageDirectory) throws SQLException, IOException {
+    List<RestoredImage> images = new ArrayList<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("""
+            SELECT i.file_id, i.entry_name, f.file_name, f.format
+            FROM restore_image_files i
+            LEFT JOIN restore_files f ON f.backup_id = i.file_id
+            WHERE i.entry_name IS NOT NULL
+              AND EXISTS (SELECT 1 FROM restore_profile_images p
+                          JOIN restore_employees s ON s.backup_id = p.employee_id
+                          WHERE p.file_id = i.file_id)
+            ORDER BY i.file_id
+            """)) {
+      while (resultSet.next()) {
+        images.add(new RestoredImage(resultSet.getLong(1), resultSet.getString(2),
+            resultSet.getString(3), resultSet.getString(4)));
+      }
+    }
+    if (images.isEmpty()) {
+      return 0;
+    }
+
+    Path profileDirectory = Files.createDirectories(Paths.get(fileStorageProperties.getProfileImages()));
+    List<Path> copiedFiles = new ArrayList<>();
+    deleteOnRollback(copiedFiles);
+    List<Long> backupFileIds = new ArrayList<>();
+    try (PreparedStatement insertFile = connection.prepareStatement("""
+        INSERT INTO files (file_name, format, size, file_path, created_at)
+        VALUES (?, ?, ?, ?, now())
+        """, new String[] {"id"})) {
+      for (RestoredImage image : images) {
+        Path source = imageDirectory.resolve(FilenameUtils.getName(image.entryName()));
+        if (!Files.isRegularFile(source)) {
+          log.warn("아카이브에 이미지 항목이 없어 연결하지 않음 - 파일 ID: {}, 항목: {}", image.fileId(), image.entryName());
+          continue;
+        }
+        String fileName = image.fileName() != null ? FilenameUtils.getName(image.fileName()) : source.getFileName().toString();
+        Path target = profileDirectory.resolve(System.currentTimeMillis() + "_" + UUID.randomUUID() + "_" + fileName);
+        Files.copy(source, target);
+        copiedFiles.add(target);
+
+        insertFile.setString(1, fileName);
+        insertFile.setString(2, image.format() != null ? image.format() : FilenameUtils.getExtension(fileName));
+        insertFile.setLong(3, Files.size(target));
+        insertFile.setString(4, target.toString());
+        insertFile.addBatch();
+        backupFileIds.add(image.fileId());
+      }
+      if (backupFileIds.isEmpty()) {
+        return 0;
+      }
+      insertFile.executeBatch();
+
+      // 배치 INSERT 의 생성 키는 addBatch 순서대로 반환된다
+      try (ResultSet keys = insertFile.getGeneratedKeys();
+          PreparedStatement link = connection.prepareStatement("""
+              UPDATE employees e
+              SET profile_image_id = ?
+              FROM restore_profile_images p
+              WHERE p.file_id = ? AND e.id = p.employee_id
+              """)) {
+        for (Long backupFileId : backupFileIds) {
+          if (!keys.next()) {
+            throw new SQLException("생성된 파일 id 수가 이미지 수보다 적습니다: " + backupFileIds.size());
+          }
+          link.setLong(1, keys.getLong(1));
+          link.setLong(2, backupFileId);
+          link.addBatch();
+        }
+        link.executeBatch();
+      }
+    }
+    return backupFileIds.size();
+  }
+
+  // 트랜잭션이 커밋되지 않으면 복사한 이미지 파일 삭제
+  private static void deleteOnRollback(List<Path> files) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          files.forEach(file -> FileUtils.deleteQuietly(file.toFile()));
+        }
+      }
+    });
+  }
+
+  /**
+   * 복원한 직원마다 CREATED 변경 이력 기록 (집합 단위 INSERT 한 번)
+   * 변경 이력 최대 id 가 올라가므로 다음 백업이 변경 없음으로 건너뛰지 않고, 증분 백업이면 복원된 직원 전체를 포함한다.
+   */
+  private void recordRestoreChangeLogs(Connection connection, Long backupId, String ipAddress) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("""
+        WITH inserted AS (
+            INSERT INTO change_logs (type, employee_id, employee_number, memo, ip_address, created_at)
+            SELECT 'CREATED', id, employee_number, ?, ?::inet, now()
+            FROM employees
+            ORDER BY id
+            RETURNING id
+        )
+        SELECT MAX(id) FROM inserted
+        """)) {
+      statement.setString(1, "백업 복원 (백업 ID: " + backupId + ")");
+      statement.setString(2, ipAddress);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        long maxChangeLogId = resultSet.getLong(1);
+        if (!resultSet.wasNull()) {
+          changeLogHighWaterMark.bumpAfterCommit(maxChangeLogId);
+        }
+      }
+    }
+  }
+
+  private static void assertTargetTablesEmpty(Connection connection) throws SQLException {
+    long existing = queryLong(connection,
+        "SELECT (SELECT count(*) FROM (SELECT 1 FROM employees LIMIT 1) e)"
+            + " + (SELECT count(*) FROM (SELECT 1 FROM departments LIMIT 1) d)");
+    if (existing > 0) {
+      throw new BackupRestoreException("복원 대상 테이블(employees, departments)이 비어 있지 않습니다.");
+    }
+  }
+
+  private static void resetIdentity(Connection connection, String table) throws SQLException {
+    queryLong(connection, "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'),"
+        + " COALESCE((SELECT MAX(id) FROM " + table + "), 0) + 1, false)");
+  }
+
+  private static long executeUpdate(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      return statement.executeUpdate(sql);
+    }
+  }
+
+  private static long queryLong(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(sql)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  /**
+   * 복원할 프로필 이미지 (백업 당시 files.id, 아카이브 항목, 원래 파일명/형식)
+   */
+  private record RestoredImage(long fileId, String entryName, String fileName, String format) {
+  }
+}
@@ -0,0 +1,138 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * 백업 CSV 스트리밍 파서
+ * "## EMPLOYEES ##" 같은 섹션 구분자로 나뉜 백업 파일을 한 행씩 읽는다. 파일 전체를 메모리에 올리지 않는다.
+ * 각 섹션의 첫 행은 헤더로 간주한다. 따옴표 안의 쉼표/줄바꿈은 CSV 규칙대로 처리한다.
+ *
+ * <pre>
+ * while ((section = reader.nextSection()) != null) {
+ *   while ((row = reader.nextRow()) != null) { ... }
+ * }
+ * </pre>
+ */
+public final class BackupSectionReader implements Closeable {
+
+  private static final String MARKER_PREFIX = "## ";
+  private static final String MARKER_SUFFIX = " ##";
+
+  private final CSVParser parser;
+  private final Iterator<CSVRecord> records;
+  private String implicitSection;
+  private CSVRecord pending;
+  private CSVRecord header;
+
+  private BackupSectionReader(Reader reader, String implicitSection) throws IOException {
+    this.parser = CSVFormat.DEFAULT.parse(reader);
+    this.records = parser.iterator();
+    this.implicitSection = implicitSection;
+  }
+
+  /**
+   * 섹션 구분자가 있는 백업 파일 (전체/증분 CSV)
+   */
+  public static BackupSectionReader of(Reader reader) throws IOException {
+    return new BackupSectionReader(reader, null);
+  }
+
+  /**
+   * 구분자 없이 헤더 + 데이터만 있는 단일 섹션 (아카이브 항목)
+   * @param section 섹션 이름 (예: EMPLOYEES)
+   */
+  public static BackupSectionReader ofSingleSection(Reader reader, String section) throws IOException {
+    return new BackupSectionReader(reader, section);
+  }
+
+  /**
+   * 다음 섹션으로 이동하고 헤더 행을 읽는다. 현재 섹션에 남은 행은 건너뛴다.
+   * @return 섹션 이름, 더 이상 없으면 null
+   */
+  public String nextSection() {
+    String section;
+    if (implicitSection != null) {
+      section = implicitSection;
+      implicitSection = null;
+    } else {
+      CSVRecord marker;
+      while ((marker = next()) != null && sectionName(marker) == null) {
+        // 이전 섹션의 남은 행 건너뜀
+      }
+      if (marker == null) {
+        return null;
+      }
+      section = sectionName(marker);
+    }
+
+    CSVRecord headerRecord = next();
+    if (headerRecord != null && sectionName(headerRecord) != null) {
+      pending = headerRecord; // 헤더 없이 다음 섹션이 바로 시작됨
+      headerRecord = null;
+    }
+    header = headerRecord;
+    return section;
+  }
+
+  /**
+   * 현재 섹션의 헤더 (헤더가 없는 빈 섹션이면 null)
+   */
+  public CSVRecord header() {
+    return header;
+  }
+
+  /**
+   * 현재 섹션의 다음 데이터 행
+   * @return 데이터 행, 섹션 끝 또는 파일 끝이면 null
+   */
+  public CSVRecord nextRow() {
+    if (header == null) {
+      return null;
+    }
+    CSVRecord record = next();
+    if (record != null && sectionName(record) != null) {
+      pending = record;
+      return null;
+    }
+    return record;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private CSVRecord next() {
+    if (pending != null) {
+      CSVRecord record = pending;
+      pending = null;
+      return record;
+    }
+    try {
+      return records.hasNext() ? records.next() : null;
+    } catch (IllegalStateException e) {
+      // 잘못된 CSV (닫히지 않은 따옴표 등) 는 IllegalStateException 으로 올라온다
+      throw new UncheckedIOException(new IOException("백업 CSV 파싱 실패: " + e.getMessage(), e));
+    }
+  }
+
+  private static String sectionName(CSVRecord record) {
+    if (record.size() != 1) {
+      return null;
+    }
+    String value = record.get(0);
+    if (value.length() > MARKER_PREFIX.length() + MARKER_SUFFIX.length()
+        && value.startsWith(MARKER_PREFIX) && value.endsWith(MARKER_SUFFIX)) {
+      return value.substring(MARKER_PREFIX.length(), value.length() - MARKER_SUFFIX.length());
+    }
+    return null;
+  }
+}
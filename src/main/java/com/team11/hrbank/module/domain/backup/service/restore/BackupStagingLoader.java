@@ -0,0 +1,324 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.domain.backup.exception.BackupRestoreException;
+import com.team11.hrbank.module.domain.backup.service.archive.BackupArchiveManifest;
+import com.team11.hrbank.module.domain.backup.service.file.CsvRowEncoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 백업 파일 -> 임시 스테이징 테이블 적재
+ * 백업 파일(.csv, .csv.gz, 아카이브 .zip, 중복 제거 .csv.manifest)을 스트리밍으로 읽어 COPY FROM STDIN 으로 스테이징 테이블에 넣는다.
+ * 복원(BackupRestoreService)과 시점 재구성(PointInTimeService)이 함께 사용한다.
+ * 이미지 디렉토리를 주면 아카이브의 프로필 이미지 항목(images/*)을 그 디렉토리에 풀고,
+ * 파일/직원-이미지 매핑 항목과 manifest 의 이미지 목록도 스테이징한다. (복원 시 이미지 재연결용)
+ * 증분 백업 파일은 전체 백업을 스테이징한 뒤 applyIncremental 로 스테이징 테이블 위에 차례로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackupStagingLoader {
+
+  private static final int BUFFER_SIZE = BackupFileReader.BUFFER_SIZE;
+  private static final String IMAGE_ENTRY_PREFIX = "images/";
+  private static final String MANIFEST_ENTRY = "manifest.json";
+  // images/{sha256}.{확장자} 항목만 풀어 zip 항목 이름으로 디렉토리 밖에 쓰지 않도록 함
+  private static final Pattern IMAGE_FILE_NAME = Pattern.compile("[0-9a-f]{64}(\\.[A-Za-z0-9]+)?");
+
+  private final BackupFileReader fileReader;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 트랜잭션이 끝나면 함께 사라지는 스테이징 테이블 생성 (제약조건 없이 타입 변환만 수행)
+   * restore_employees(backup_id, name, email, employee_number, department_name, "position", hire_date, status, created_at)
+   * restore_departments(backup_id, name, description, established_date, created_at)
+   * restore_files(backup_id, file_name, format, file_path, size, codec, uncompressed_size, created_at)
+   * restore_profile_images(employee_id, file_id), restore_image_files(file_id, entry_name)
+   */
+  public void createStagingTables(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("""
+          CREATE TEMP TABLE restore_employees (
+              backup_id BIGINT, name TEXT, email TEXT, employee_number TEXT, department_name TEXT,
+              "position" TEXT, hire_date DATE, status TEXT, created_at TIMESTAMPTZ
+          ) ON COMMIT DROP
+          """);
+      statement.execute("""
+          CREATE TEMP TABLE restore_departments (
+              backup_id BIGINT, name TEXT, description TEXT, established_date DATE, created_at TIMESTAMPTZ
+          ) ON COMMIT DROP
+          """);
+      statement.execute("""
+          CREATE TEMP TABLE restore_files (
+              backup_id BIGINT, file_name TEXT, format TEXT, file_path TEXT, size BIGINT, codec TEXT,
+              uncompressed_size BIGINT, created_at TIMESTAMPTZ
+          ) ON COMMIT DROP
+          """);
+      statement.execute("CREATE TEMP TABLE restore_profile_images (employee_id BIGINT, file_id BIGINT) ON COMMIT DROP");
+      statement.execute("CREATE TEMP TABLE restore_image_files (file_id BIGINT, entry_name TEXT) ON COMMIT DROP");
+    }
+  }
+
+  /**
+   * 증분 백업 반영용 스테이징 테이블 생성 (증분 백업 파일마다 비우고 다시 적재)
+   * restore_delta_employees, restore_delta_departments 는 restore_employees, restore_departments 와 같은 컬럼
+   * restore_delta_deleted_employees(employee_number)
+   */
+  public void createIncrementalStagingTables(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TEMP TABLE restore_delta_employees (LIKE restore_employees) ON COMMIT DROP");
+      statement.execute("CREATE TEMP TABLE restore_delta_departments (LIKE restore_departments) ON COMMIT DROP");
+      statement.execute("CREATE TEMP TABLE restore_delta_deleted_employees (employee_number TEXT) ON COMMIT DROP");
+    }
+  }
+
+  /**
+   * 증분 백업 파일 하나를 스테이징 테이블에 반영 (체인 순서대로 호출)
+   * 삭제된 사원번호의 직원을 지우고, 변경된 직원은 id 또는 사원번호가 같은 행을 현재 상태로 교체하며, 부서는 통째로 교체한다.
+   * 직원 행은 부서를 이름으로 가리키므로 이름이 바뀐 부서를 가리키던 기존 직원 행은 새 이름으로 옮긴다.
+   * @param backupFile 증분 백업 파일 위치 (.csv, .csv.gz, 중복 제거 .csv.manifest)
+   * @param connection createStagingTables, createIncrementalStagingTables 를 호출한 커넥션
+   */
+  public void applyIncremental(String backupFile, Connection connection) throws IOException, SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("TRUNCATE restore_delta_employees, restore_delta_departments, restore_delta_deleted_employees");
+    }
+    CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+    try (BackupSectionReader reader = fileReader.open(backupFile)) {
+      String section;
+      while ((section = reader.nextSection()) != null) {
+        StagingTable table = StagingTable.bySection(section);
+        if (table == null || table.deltaTableName == null) {
+          log.warn("증분 반영 대상이 아닌 섹션 건너뜀: {}", section);
+          continue;
+        }
+        long rows = copySection(reader, table, table.deltaTableName, copyManager);
+        log.info("증분 {} 섹션 스테이징 완료: {}건", section, rows);
+      }
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      statement.executeUpdate("""
+          DELETE FROM restore_employees s
+          USING restore_delta_deleted_employees d
+          WHERE s.employee_number = d.employee_number
+          """);
+      // id 와 사원번호 중 하나만 같아도 같은 직원으로 보고 교체 (OR 조인 대신 두 번 나눠 해시 조인)
+      statement.executeUpdate("""
+          DELETE FROM restore_employees s
+          USING restore_delta_employees d
+          WHERE s.backup_id = d.backup_id
+          """);
+      statement.executeUpdate("""
+          DELETE FROM restore_employees s
+          USING restore_delta_employees d
+          WHERE s.employee_number = d.employee_number
+          """);
+      statement.executeUpdate("INSERT INTO restore_employees SELECT * FROM restore_delta_employees");
+
+      // 증분 백업은 부서 전체를 담는다 (DEPARTMENTS 섹션이 없으면 부서는 그대로 둠)
+      if (queryExists(statement, "SELECT EXISTS (SELECT 1 FROM restore_delta_departments)")) {
+        statement.executeUpdate("""
+            UPDATE restore_employees s
+            SET department_name = n.name
+            FROM restore_departments o
+            JOIN restore_delta_departments n ON n.backup_id = o.backup_id
+            WHERE s.department_name = o.name AND n.name <> o.name
+            """);
+        statement.executeUpdate("TRUNCATE restore_departments");
+        statement.executeUpdate("INSERT INTO restore_departments SELECT * FROM restore_delta_departments");
+      }
+    }
+  }
+
+  /**
+   * 백업 파일 형식에 맞게 열어 섹션별로 스테이징 테이블에 적재
+   * @param backupFile 전체 백업 파일 위치 (.csv, .csv.gz, 아카이브 .zip, 중복 제거 .csv.manifest)
+   * @param connection 스테이징 테이블을 만든 커넥션
+   */
+  public void load(String backupFile, Connection connection) throws IOException, SQLException {
+    load(backupFile, connection, null);
+  }
+
+  /**
+   * 백업 파일을 스테이징 테이블에 적재하고, 아카이브면 프로필 이미지도 함께 적재
+   * @param imageDirectory 이미지 항목을 풀 디렉토리 (null 이면 이미지 관련 항목은 건너뜀)
+   */
+  public void load(String backupFile, Connection connection, Path imageDirectory) throws IOException, SQLException {
+    CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+    if (backupFile.toLowerCase(Locale.ROOT).endsWith(".zip")) {
+      try (InputStream in = fileReader.openRaw(backupFile)) {
+        loadArchive(in, copyManager, connection, imageDirectory);
+      }
+      return;
+    }
+    try (BackupSectionReader reader = fileReader.open(backupFile)) {
+      loadSections(reader, copyManager, false);
+    }
+  }
+
+  // 아카이브: 항목 이름(employees.csv[.gz])이 곧 섹션, 복원 대상이 아닌 항목은 건너뜀
+  private void loadArchive(InputStream in, CopyManager copyManager, Connection connection, Path imageDirectory)
+      throws IOException, SQLException {
+    try (ZipInputStream zip = new ZipInputStream(in)) {
+      ZipEntry entry;
+      while ((entry = zip.getNextEntry()) != null) {
+        String entryName = entry.getName();
+        if (imageDirectory != null && entryName.startsWith(IMAGE_ENTRY_PREFIX)) {
+          extractImage(zip, entryName, imageDirectory);
+          continue;
+        }
+        if (imageDirectory != null && entryName.equals(MANIFEST_ENTRY)) {
+          loadImageFiles(zip, connection);
+          continue;
+        }
+        int extensionIndex = entryName.indexOf('.');
+        StagingTable table = extensionIndex > 0
+            ? StagingTable.bySection(entryName.substring(0, extensionIndex).toUpperCase(Locale.ROOT))
+            : null;
+        if (table == null || table == StagingTable.DELETED_EMPLOYEES || (table.imageOnly && imageDirectory == null)) {
+          continue;
+        }
+        InputStream content = CloseShieldInputStream.wrap(zip);
+        if (entryName.endsWith(".gz")) {
+          content = new GZIPInputStream(content, BUFFER_SIZE);
+        }
+        try (BackupSectionReader reader = BackupSectionReader.ofSingleSection(BackupFileReader.openReader(content), table.name())) {
+          loadSections(reader, copyManager, imageDirectory != null);
+        }
+      }
+    }
+  }
+
+  // 프로필 이미지 항목을 디렉토리에 {sha256}.{확장자} 이름으로 풂
+  private static void extractImage(ZipInputStream zip, String entryName, Path imageDirectory) throws IOException {
+    String fileName = FilenameUtils.getName(entryName);
+    if (!IMAGE_FILE_NAME.matcher(fileName).matches()) {
+      log.warn("올바르지 않은 이미지 항목 건너뜀: {}", entryName);
+      return;
+    }
+    Files.copy(zip, imageDirectory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  // manifest 의 이미지 목록(files.id -> 이미지 항목)을 restore_image_files 에 적재
+  private void loadImageFiles(ZipInputStream zip, Connection connection) throws IOException, SQLException {
+    BackupArchiveManifest manifest = objectMapper.readValue(CloseShieldInputStream.wrap(zip), BackupArchiveManifest.class);
+    if (manifest.images() == null || manifest.images().isEmpty()) {
+      return;
+    }
+    try (PreparedStatement statement = connection.prepareStatement(
+        "INSERT INTO restore_image_files (file_id, entry_name) VALUES (?, ?)")) {
+      for (BackupArchiveManifest.Image image : manifest.images()) {
+        statement.setObject(1, image.fileId());
+        statement.setString(2, image.name());
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+    log.info("manifest 이미지 목록 스테이징 완료: {}건", manifest.images().size());
+  }
+
+  private void loadSections(BackupSectionReader reader, CopyManager copyManager, boolean includeImageTables)
+      throws IOException, SQLException {
+    String section;
+    while ((section = reader.nextSection()) != null) {
+      StagingTable table = StagingTable.bySection(section);
+      if (table == StagingTable.DELETED_EMPLOYEES) {
+        throw new BackupRestoreException("증분 백업 파일은 단독으로 복원할 수 없습니다.");
+      }
+      if (table == null || (table.imageOnly && !includeImageTables)) {
+        log.warn("복원 대상이 아닌 섹션 건너뜀: {}", section);
+        continue;
+      }
+      long rows = copySection(reader, table, table.tableName, copyManager);
+      log.info("{} 섹션 스테이징 완료: {}건", section, rows);
+    }
+  }
+
+  // 파싱한 행을 다시 CSV 로 인코딩해 COPY FROM STDIN 으로 흘려보낸다
+  private static long copySection(BackupSectionReader reader, StagingTable table, String tableName,
+      CopyManager copyManager) throws IOException, SQLException {
+    String copySql = "COPY " + tableName + " FROM STDIN WITH (FORMAT csv)";
+    try (PGCopyOutputStream copyStream = new PGCopyOutputStream(copyManager.copyIn(copySql), BUFFER_SIZE)) {
+      CsvRowEncoder encoder = CsvRowEncoder.utf8(copyStream);
+      CSVRecord row;
+      while ((row = reader.nextRow()) != null) {
+        if (row.size() != table.columns) {
+          throw new BackupRestoreException(String.format("%s 섹션 %d번째 레코드의 컬럼 수가 올바르지 않습니다. (기대: %d, 실제: %d)",
+              table.name(), row.getRecordNumber(), table.columns, row.size()));
+        }
+        for (String value : row) {
+          encoder.cell(value);
+        }
+        encoder.endRow();
+      }
+      encoder.flush();
+      return copyStream.endCopy();
+    }
+  }
+
+  private static boolean queryExists(Statement statement, String sql) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery(sql)) {
+      return resultSet.next() && resultSet.getBoolean(1);
+    }
+  }
+
+  /**
+   * 백업 섹션 -> 스테이징 테이블 (컬럼 순서는 BackupTable 헤더와 같다)
+   * deltaTableName 은 증분 백업 반영 시 적재할 테이블 (null 이면 증분 반영 대상 아님)
+   */
+  private enum StagingTable {
+    EMPLOYEES("restore_employees", "restore_delta_employees", 9, false),
+    DEPARTMENTS("restore_departments", "restore_delta_departments", 5, false),
+    // 증분 백업 전용
+    DELETED_EMPLOYEES(null, "restore_delta_deleted_employees", 1, false),
+    // 아카이브 전용, 이미지를 복원할 때만 적재
+    FILES("restore_files", null, 8, true),
+    EMPLOYEE_PROFILE_IMAGES("restore_profile_images", null, 2, true);
+
+    private final String tableName;
+    private final String deltaTableName;
+    private final int columns;
+    private final boolean imageOnly;
+
+    StagingTable(String tableName, String deltaTableName, int columns, boolean imageOnly) {
+      this.tableName = tableName;
+      this.deltaTableName = deltaTableName;
+      this.columns = columns;
+      this.imageOnly = imageOnly;
+    }
+
+    static StagingTable bySection(String section) {
+      for (StagingTable table : values()) {
+        if (table.name().equals(section)) {
+          return table;
+        }
+      }
+      return null;
+    }
+  }
+}
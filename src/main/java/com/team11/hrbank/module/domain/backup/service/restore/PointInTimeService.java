@@ -0,0 +1,307 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.exception.BackupException;
+import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
+import com.team11.hrbank.module.domain.backup.service.data.BackupTable;
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시점 재구성 (point-in-time)
+ * 지정 시각 이전에 끝난 가장 최근 COMPLETED 전체 백업을 스테이징 테이블에 적재하고,
+ * 그 백업의 change_logs 워터마크 이후 ~ 지정 시각까지의 ChangeLog/DiffEntry 를 id 순으로 재생한 뒤
+ * 결과 직원 목록을 백업 파일과 같은 CSV 형식으로 쓴다. 실제 employees 테이블은 바꾸지 않는다.
+ * 기준 백업이 없으면 빈 테이블에서 처음 변경 이력부터 재생한다.
+ *
+ * CREATED 이력에는 diff 가 없으므로 생성 시점 값은 이후 첫 변경의 before 값, 변경이 없으면 현재 값으로 채운다.
+ * (삭제된 직원은 DELETED 이력의 before 값에 모든 필드가 남아 있다)
+ * 생성 시점 값은 재생 전에 집합 단위 쿼리 한 번으로 restore_created 에 모아 두고, 재생 중에는 그 행을 옮기기만 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointInTimeService {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int FETCH_SIZE = 1000;
+  private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+  private static final TypeReference<List<DiffEntry>> DIFF_ENTRIES = new TypeReference<>() {};
+
+  // DiffEntry.propertyName -> 스테이징 컬럼 ("부서명"은 삭제 이력에서 사용)
+  private static final Map<String, String> DIFF_COLUMNS = Map.of(
+      "이름", "name",
+      "이메일", "email",
+      "부서", "department_name",
+      "부서명", "department_name",
+      "직함", "\"position\"",
+      "입사일", "hire_date",
+      "상태", "status");
+
+  private static final BackupTable RECONSTRUCTED_EMPLOYEES = new BackupTable(
+      "employees",
+      BackupTable.EMPLOYEES.headers(),
+      """
+      SELECT backup_id, name, email, employee_number, department_name, "position",
+             to_char(hire_date, 'YYYY-MM-DD'), status, %s
+      FROM restore_employees
+      ORDER BY backup_id NULLS LAST, employee_number
+      """.formatted(BackupTable.utcTimestamp("created_at")));
+
+  private final BackupHistoryRepository backupHistoryRepository;
+  private final BackupStagingLoader stagingLoader;
+  private final DataSource dataSource;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 지정 시각의 직원 목록을 CSV (BOM + 헤더 + 행) 로 out 에 쓴다.
+   * 스테이징 테이블을 만들어야 하므로 읽기 전용이 아닌 트랜잭션에서 실행한다. (스테이징 테이블은 커밋 시 삭제됨)
+   * 쓰는 동안 스냅샷과 커넥션을 잡고 있으므로 out 은 응답 스트림이 아닌 임시 파일처럼 바로 쓰이는 대상이어야 한다.
+   * @param target 재구성할 시각
+   * @param out 결과 스트림 (닫지 않음)
+   */
+  @Transactional(isolation = Isolation.REPEATABLE_READ)
+  public void writeEmployeesAsOf(Instant target, OutputStream out) throws IOException {
+    long startNanos = System.nanoTime();
+    BackupHistory base = backupHistoryRepository
+        .findTopByStatusAndTypeAndEndedAtLessThanEqualOrderByEndedAtDesc(BackupStatus.COMPLETED, BackupType.FULL, target)
+        .orElse(null);
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      stagingLoader.createStagingTables(connection);
+      long fromId = 0;
+      if (base != null) {
+        stagingLoader.load(base.getFile().getFilePath(), connection);
+        fromId = replayStartId(connection, base);
+      }
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("CREATE INDEX ON restore_employees (employee_number)");
+        statement.execute("ANALYZE restore_employees");
+      }
+
+      long toId = queryLong(connection,
+          "SELECT COALESCE(MAX(id), 0) FROM change_logs WHERE created_at <= ?", Timestamp.from(target));
+      long replayed = 0;
+      if (fromId < toId) {
+        resolveCreatedValues(connection, fromId, toId);
+        replayed = replay(connection, fromId, toId);
+      }
+      log.info("시점 재구성 - 기준 백업: {}, 변경 이력 {}건 재생 (id {} ~ {}], {} ms",
+          base != null ? base.getId() : "없음", replayed, fromId, toId, (System.nanoTime() - startNanos) / 1_000_000);
+
+      BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+      buffered.write(UTF8_BOM);
+      buffered.write((RECONSTRUCTED_EMPLOYEES.headerLine() + "\n").getBytes(StandardCharsets.UTF_8));
+      connection.unwrap(PGConnection.class).getCopyAPI().copyOut(RECONSTRUCTED_EMPLOYEES.copySql(), buffered);
+      buffered.flush();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    } catch (SQLException e) {
+      throw new BackupException("시점 재구성 실패: " + e.getMessage(), e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  // 기준 백업에 반영된 마지막 변경 이력 id (워터마크가 없는 이전 백업은 시작 시각 기준)
+  private static long replayStartId(Connection connection, BackupHistory base) throws SQLException {
+    if (base.getLastChangeLogId() != null) {
+      return base.getLastChangeLogId();
+    }
+    return queryLong(connection,
+        "SELECT COALESCE(MAX(id), 0) FROM change_logs WHERE created_at < ?", Timestamp.from(base.getStartAt()));
+  }
+
+  /**
+   * (fromId, toId] 범위 CREATED 이력마다 생성 시점 직원 값을 restore_created 에 모은다.
+   * 필드마다 생성 이후 첫 변경(수정/삭제)의 비어 있지 않은 before 값, 없으면 현재 employees 의 값을 사용한다.
+   * 이후 변경 이력은 조인 한 번으로 모으므로 직원마다 change_logs 를 다시 조회하지 않는다.
+   */
+  private static void resolveCreatedValues(Connection connection, long fromId, long toId) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("""
+          CREATE TEMP TABLE restore_created (
+              change_log_id BIGINT PRIMARY KEY, employee_number TEXT, employee_id BIGINT, name TEXT, email TEXT,
+              department_name TEXT, "position" TEXT, hire_date TEXT, status TEXT, created_at TIMESTAMPTZ
+          ) ON COMMIT DROP
+          """);
+    }
+    try (PreparedStatement statement = connection.prepareStatement("""
+        INSERT INTO restore_created
+        WITH created AS (
+            SELECT id, employee_number, created_at
+            FROM change_logs
+            WHERE type = 'CREATED' AND id > ? AND id <= ?
+        ),
+        befores AS (
+            SELECT DISTINCT ON (cr.id, v.column_name) cr.id AS change_log_id, v.column_name, v.before
+            FROM created cr
+            JOIN change_logs c ON c.employee_number = cr.employee_number AND c.id > cr.id
+            JOIN change_log_diffs d ON d.change_log_id = c.id
+            CROSS JOIN LATERAL jsonb_array_elements(d.changes) AS entry(value)
+            CROSS JOIN LATERAL (
+                SELECT CASE entry.value ->> 'propertyName'
+                           WHEN '이름' THEN 'name'
+                           WHEN '이메일' THEN 'email'
+                           WHEN '부서' THEN 'department_name'
+                           WHEN '부서명' THEN 'department_name'
+                           WHEN '직함' THEN 'position'
+                           WHEN '입사일' THEN 'hire_date'
+                           WHEN '상태' THEN 'status'
+                       END AS column_name,
+                       NULLIF(entry.value ->> 'before', '') AS before
+            ) v
+            WHERE v.column_name IS NOT NULL AND v.before IS NOT NULL
+            ORDER BY cr.id, v.column_name, c.id
+        )
+        SELECT cr.id AS change_log_id,
+               cr.employee_number,
+               e.id AS employee_id,
+               COALESCE(max(b.before) FILTER (WHERE b.column_name = 'name'), e.name) AS name,
+               COALESCE(max(b.before) FILTER (WHERE b.column_name = 'email'), e.email) AS email,
+               COALESCE(max(b.before) FILTER (WHERE b.column_name = 'department_name'), dept.name) AS department_name,
+               COALESCE(max(b.before) FILTER (WHERE b.column_name = 'position'), e."position") AS "position",
+               COALESCE(max(b.before) FILTER (WHERE b.column_name = 'hire_date'), e.hire_date::text) AS hire_date,
+               COALESCE(max(b.before) FILTER (WHERE b.column_name = 'status'), e.status) AS status,
+               COALESCE(e.created_at, cr.created_at) AS created_at
+        FROM created cr
+        LEFT JOIN befores b ON b.change_log_id = cr.id
+        LEFT JOIN employees e ON e.employee_number = cr.employee_number
+        LEFT JOIN departments dept ON dept.id = e.department_id
+        GROUP BY cr.id, cr.employee_number, cr.created_at, e.id, dept.name
+        """)) {
+      statement.setLong(1, fromId);
+      statement.setLong(2, toId);
+      statement.executeUpdate();
+    }
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE restore_created");
+    }
+  }
+
+  /**
+   * (fromId, toId] 범위의 변경 이력을 id 순으로 스테이징 테이블에 적용
+   * @return 적용한 변경 이력 수
+   */
+  private long replay(Connection connection, long fromId, long toId) throws SQLException, IOException {
+    Map<String, PreparedStatement> updates = new HashMap<>();
+    long count = 0;
+    try (PreparedStatement select = connection.prepareStatement("""
+            SELECT c.id, c.type, c.employee_number, d.changes::text
+            FROM change_logs c
+            LEFT JOIN change_log_diffs d ON d.change_log_id = c.id
+            WHERE c.id > ? AND c.id <= ?
+            ORDER BY c.id
+            """);
+        PreparedStatement delete = connection.prepareStatement(
+            "DELETE FROM restore_employees WHERE employee_number = ?");
+        PreparedStatement insertCreated = connection.prepareStatement("""
+            INSERT INTO restore_employees
+                (backup_id, name, email, employee_number, department_name, "position", hire_date, status, created_at)
+            SELECT r.employee_id, r.name, r.email, r.employee_number, r.department_name, r."position",
+                   CAST(r.hire_date AS DATE), r.status, r.created_at
+            FROM restore_created r
+            WHERE r.change_log_id = ?
+              AND NOT EXISTS (SELECT 1 FROM restore_employees s WHERE s.employee_number = r.employee_number)
+            """)) {
+      select.setFetchSize(FETCH_SIZE);
+      select.setLong(1, fromId);
+      select.setLong(2, toId);
+      try (ResultSet rs = select.executeQuery()) {
+        while (rs.next()) {
+          long changeLogId = rs.getLong(1);
+          HistoryType type = HistoryType.valueOf(rs.getString(2));
+          String employeeNumber = rs.getString(3);
+          switch (type) {
+            case CREATED -> {
+              // 기준 백업 스냅샷에 이미 포함된 직원은 건너뜀
+              insertCreated.setLong(1, changeLogId);
+              insertCreated.executeUpdate();
+            }
+            case UPDATED -> applyUpdate(connection, updates, employeeNumber, parseDiff(rs.getString(4)));
+            case DELETED -> {
+              delete.setString(1, employeeNumber);
+              delete.executeUpdate();
+            }
+          }
+          count++;
+        }
+      }
+    } finally {
+      for (PreparedStatement statement : updates.values()) {
+        statement.close();
+      }
+    }
+    return count;
+  }
+
+  private static void applyUpdate(Connection connection, Map<String, PreparedStatement> updates,
+      String employeeNumber, List<DiffEntry> changes) throws SQLException {
+    for (DiffEntry change : changes) {
+      String column = DIFF_COLUMNS.get(change.getPropertyName());
+      if (column == null) {
+        continue; // 메모, 프로필 이미지 등 CSV 에 없는 항목
+      }
+      PreparedStatement update = updates.get(column);
+      if (update == null) {
+        update = connection.prepareStatement(
+            "UPDATE restore_employees SET " + column + " = CAST(? AS " + columnType(column) + ") WHERE employee_number = ?");
+        updates.put(column, update);
+      }
+      update.setString(1, emptyToNull(change.getAfter()));
+      update.setString(2, employeeNumber);
+      update.executeUpdate();
+    }
+  }
+
+  private List<DiffEntry> parseDiff(String json) throws IOException {
+    return json != null ? objectMapper.readValue(json, DIFF_ENTRIES) : List.of();
+  }
+
+  private static String columnType(String column) {
+    return "hire_date".equals(column) ? "DATE" : "TEXT";
+  }
+
+  private static String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  private static long queryLong(Connection connection, String sql, Object parameter) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setObject(1, parameter);
+      try (ResultSet rs = statement.executeQuery()) {
+        rs.next();
+        return rs.getLong(1);
+      }
+    }
+  }
+}
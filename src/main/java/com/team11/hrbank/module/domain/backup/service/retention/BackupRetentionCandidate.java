@@ -0,0 +1,8 @@
+package com.team11.hrbank.module.domain.backup.service.retention;
+
+import java.time.Instant;
+
+/**
+ * 보관 정책 계산용 완료 백업 요약 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record BackupRetentionCandidate(Long id, Instant startAt, Long parentBackupId) {}
@@ -0,0 +1,83 @@
+package com.team11.hrbank.module.domain.backup.service.retention;
+
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 완료 백업 보관 정책 (시간별 N개 / 일별 N개 / 주별 N개)
+ * 각 단위(시/일/주)마다 최근 N개 구간에서 가장 최신 백업 하나씩을 남긴다.
+ * 가장 최근 백업(다음 증분 백업의 부모)과 남긴 증분 백업이 의존하는 부모 체인도 함께 남긴다.
+ */
+public class BackupRetentionPolicy {
+
+  private final int keepHourly;
+  private final int keepDaily;
+  private final int keepWeekly;
+  private final ZoneId zone;
+
+  public BackupRetentionPolicy(int keepHourly, int keepDaily, int keepWeekly, ZoneId zone) {
+    this.keepHourly = keepHourly;
+    this.keepDaily = keepDaily;
+    this.keepWeekly = keepWeekly;
+    this.zone = zone;
+  }
+
+  /**
+   * 남길 백업 id 계산
+   * @param backups 완료된 백업 전체
+   */
+  public Set<Long> selectRetained(List<BackupRetentionCandidate> backups) {
+    List<BackupRetentionCandidate> newestFirst = backups.stream()
+        .sorted(Comparator.comparing(BackupRetentionCandidate::startAt)
+            .thenComparing(BackupRetentionCandidate::id).reversed())
+        .toList();
+
+    Set<Long> retained = new HashSet<>();
+    if (!newestFirst.isEmpty()) {
+      retained.add(newestFirst.get(0).id());
+    }
+    retainPerBucket(newestFirst, keepHourly, time -> time.truncatedTo(ChronoUnit.HOURS), retained);
+    retainPerBucket(newestFirst, keepDaily, time -> time.truncatedTo(ChronoUnit.DAYS), retained);
+    retainPerBucket(newestFirst, keepWeekly, time -> time.truncatedTo(ChronoUnit.DAYS)
+        .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), retained);
+
+    // 증분 백업은 부모 체인이 있어야 복원 가능하므로 조상까지 남긴다
+    Map<Long, Long> parents = new HashMap<>();
+    for (BackupRetentionCandidate backup : backups) {
+      if (backup.parentBackupId() != null) {
+        parents.put(backup.id(), backup.parentBackupId());
+      }
+    }
+    for (Long id : Set.copyOf(retained)) {
+      Long parentId = parents.get(id);
+      while (parentId != null && retained.add(parentId)) {
+        parentId = parents.get(parentId);
+      }
+    }
+    return retained;
+  }
+
+  private void retainPerBucket(List<BackupRetentionCandidate> newestFirst, int limit,
+      Function<ZonedDateTime, ZonedDateTime> bucketOf, Set<Long> retained) {
+    Set<ZonedDateTime> buckets = new HashSet<>();
+    for (BackupRetentionCandidate backup : newestFirst) {
+      if (buckets.size() >= limit) {
+        return;
+      }
+      // 최신순이므로 구간마다 처음 만난 백업이 그 구간의 마지막 백업
+      if (buckets.add(bucketOf.apply(backup.startAt().atZone(zone)))) {
+        retained.add(backup.id());
+      }
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.team11.hrbank.module.domain.backup.service.retention;
+
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.domain.backup.BackupCodec;
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.dto.BackupRetentionDto;
+import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
+import com.team11.hrbank.module.domain.backup.service.BackupLeaseService;
+import com.team11.hrbank.module.domain.backup.service.BackupTransactionService;
+import com.team11.hrbank.module.domain.backup.service.dedup.BackupChunkStore;
+import com.team11.hrbank.module.domain.backup.service.storage.BackupStorageRouter;
+import com.team11.hrbank.module.domain.file.File;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 백업 보관 정책 실행
+ * 정책(시간별/일별/주별 N개)에서 벗어난 완료 백업과 오래된 실패/건너뜀 이력을 찾아
+ * interval 마다 batch-size 개씩 이력, 파일 메타데이터, 실제 파일(백업 파일, 에러 로그) 순으로 삭제한다.
+ * 삭제할 이력이 남지 않으면 어떤 manifest 도 참조하지 않는 중복 제거 청크를 정리한다.
+ * 보관 정책 lease(backup-retention)를 가진 노드 하나만 실행하며, 삭제 한 건마다 lease를 연장한다.
+ * 스케줄러 스레드 풀(spring.task.scheduling.pool.size)이 여러 개라 정리가 길어져도 백업 lease heartbeat 는 밀리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackupRetentionService {
+
+  private final BackupHistoryRepository backupHistoryRepository;
+  private final BackupTransactionService backupTxService;
+  private final BackupLeaseService leaseService;
+  private final BackupStorageRouter storageRouter;
+  private final BackupChunkStore chunkStore;
+  private final BackupProperties backupProperties;
+
+  private final AtomicLong deletedBackups = new AtomicLong();
+  private final AtomicLong deletedFiles = new AtomicLong();
+  private final AtomicLong reclaimedBytes = new AtomicLong();
+  // 시작 직후 한 번은 이전 실행에서 남은 청크/임시 파일을 정리
+  private final AtomicBoolean chunkSweepNeeded = new AtomicBoolean(true);
+  private volatile Instant lastRunAt;
+  private volatile int pendingDeletions;
+
+  @Scheduled(fixedDelayString = "${backup.retention.interval:PT1M}",
+      initialDelayString = "${backup.retention.interval:PT1M}")
+  public void scheduledRetention() {
+    if (!backupProperties.getRetention().isEnabled()) {
+      return;
+    }
+    Long leaseToken;
+    try {
+      leaseToken = leaseService.tryAcquire(BackupLeaseService.RETENTION_LEASE_NAME);
+    } catch (RuntimeException e) {
+      log.error("백업 보관 정책 lease 획득 실패", e);
+      return;
+    }
+    if (leaseToken == null) {
+      // 다른 노드가 실행 중
+      return;
+    }
+    try {
+      runOnce(leaseToken);
+    } catch (RuntimeException e) {
+      log.error("백업 보관 정책 실행 실패", e);
+    } finally {
+      leaseService.release(BackupLeaseService.RETENTION_LEASE_NAME, leaseToken);
+    }
+  }
+
+  /**
+   * 삭제 대상 중 최대 batch-size 개 삭제 (보관 정책 lease를 보유한 상태에서 호출)
+   * lease를 잃으면 남은 대상은 lease를 가져간 노드에 맡기고 중단한다.
+   * @param leaseToken 보관 정책 lease 펜싱 토큰
+   * @return 삭제한 백업 이력 수
+   */
+  public int runOnce(long leaseToken) {
+    BackupProperties.Retention retention = backupProperties.getRetention();
+    List<Long> deletable = findDeletableBackupIds();
+    List<Long> batch = deletable.subList(0, Math.min(deletable.size(), Math.max(1, retention.getBatchSize())));
+
+    int deleted = 0;
+    long reclaimed = 0;
+    for (Long backupId : batch) {
+      if (!leaseService.renew(BackupLeaseService.RETENTION_LEASE_NAME, leaseToken)) {
+        log.warn("백업 보관 정책 lease를 잃어 중단 - 남은 대상은 다음 실행에서 처리");
+        break;
+      }
+      try {
+        File file = backupTxService.deleteBackupHistory(backupId);
+        deleted++;
+        if (file != null) {
+          reclaimed += deleteActualFile(file);
+          if (BackupCodec.DEDUP.name().equals(file.getCodec())) {
+            chunkSweepNeeded.set(true);
+          }
+        }
+      } catch (RuntimeException e) {
+        // 다른 노드가 먼저 삭제한 경우 등, 다음 실행에서 다시 계산
+        log.warn("백업 이력 삭제 실패 - 이력 ID: {}", backupId, e);
+      }
+    }
+    pendingDeletions = deletable.size() - deleted;
+
+    if (pendingDeletions == 0 && leaseService.renew(BackupLeaseService.RETENTION_LEASE_NAME, leaseToken)
+        && chunkSweepNeeded.getAndSet(false)) {
+      reclaimed += sweepChunks(retention);
+    }
+
+    deletedBackups.addAndGet(deleted);
+    reclaimedBytes.addAndGet(reclaimed);
+    lastRunAt = Instant.now();
+    if (deleted > 0) {
+      log.info("백업 보관 정책 실행: 이력 {}건 삭제, {} bytes 확보, 남은 삭제 대상 {}건",
+          deleted, reclaimed, pendingDeletions);
+    }
+    return deleted;
+  }
+
+  public BackupRetentionDto getStatus() {
+    return new BackupRetentionDto(backupProperties.getRetention().isEnabled(), lastRunAt, pendingDeletions,
+        deletedBackups.get(), deletedFiles.get(), reclaimedBytes.get());
+  }
+
+  /**
+   * 삭제 대상 백업 이력 id (자식 이력이 먼저 삭제되도록 id 역순)
+   */
+  private List<Long> findDeletableBackupIds() {
+    BackupProperties.Retention retention = backupProperties.getRetention();
+    List<BackupRetentionCandidate> completed = backupHistoryRepository.findRetentionCandidates();
+    Set<Long> retained = new BackupRetentionPolicy(retention.getKeepHourly(), retention.getKeepDaily(),
+        retention.getKeepWeekly(), ZoneId.systemDefault()).selectRetained(completed);
+
+    List<Long> deletable = new ArrayList<>();
+    for (BackupRetentionCandidate candidate : completed) {
+      if (!retained.contains(candidate.id())) {
+        deletable.add(candidate.id());
+      }
+    }
+    deletable.addAll(backupHistoryRepository.findIdsByStatusInAndStartAtBefore(
+        List.of(BackupStatus.FAILED, BackupStatus.SKIPPED), Instant.now().minus(retention.getFailedMaxAge())));
+    deletable.sort(Comparator.reverseOrder());
+    return deletable;
+  }
+
+  private long deleteActualFile(File file) {
+    String location = file.getFilePath();
+    try {
+      if (!storageRouter.delete(location)) {
+        return 0;
+      }
+      deletedFiles.incrementAndGet();
+      return file.getSize() != null ? file.getSize() : 0;
+    } catch (IOException | RuntimeException e) {
+      log.error("메타데이터는 삭제되었지만 실제 파일은 삭제 실패: {}", location, e);
+      return 0;
+    }
+  }
+
+  private long sweepChunks(BackupProperties.Retention retention) {
+    // 진행 중인 백업이 있으면 manifest 가 아직 없으므로 다음 실행으로 미룸
+    if (backupTxService.isBackupInProgress()) {
+      chunkSweepNeeded.set(true);
+      return 0;
+    }
+    try {
+      return chunkStore.deleteUnreferencedChunks(retention.getChunkGracePeriod());
+    } catch (IOException e) {
+      log.error("청크 정리 실패", e);
+      chunkSweepNeeded.set(true);
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import com.team11.hrbank.module.domain.backup.BackupStorageType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 백업 파일 저장소 SPI
+ * 위치(location)는 files.file_path 에 그대로 저장되는 문자열이다. (로컬은 파일 경로, S3 는 s3://bucket/key)
+ */
+public interface BackupStorage {
+
+  BackupStorageType type();
+
+  /**
+   * 이 저장소가 관리하는 위치인지 여부
+   */
+  boolean supports(String location);
+
+  /**
+   * 새 백업 파일을 쓰는 스트림 (close 하면 확정, abort 하면 버림)
+   * @param fileName 파일명 (예: backup_20250101_000000.csv.gz)
+   */
+  BackupStorageOutputStream create(String fileName) throws IOException;
+
+  InputStream open(String location) throws IOException;
+
+  long size(String location) throws IOException;
+
+  /**
+   * @return 삭제 여부 (이미 없으면 false)
+   */
+  boolean delete(String location) throws IOException;
+}
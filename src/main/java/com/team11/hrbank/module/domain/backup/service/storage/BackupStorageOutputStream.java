@@ -0,0 +1,26 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import java.io.OutputStream;
+
+/**
+ * 저장소에 백업 파일을 쓰는 스트림
+ * close 가 정상 종료되어야 저장소에 파일이 확정된다. 쓰는 중 실패하면 abort 로 쓰던 내용을 버린다.
+ * abort 이후의 close 는 아무 일도 하지 않는다.
+ */
+public abstract class BackupStorageOutputStream extends OutputStream {
+
+  /**
+   * 확정되면 파일이 놓일 위치
+   */
+  public abstract String getLocation();
+
+  /**
+   * 지금까지 쓴 바이트 수 (저장되는 크기)
+   */
+  public abstract long getSize();
+
+  /**
+   * 쓰던 내용을 버린다. (예외를 던지지 않음)
+   */
+  public abstract void abort();
+}
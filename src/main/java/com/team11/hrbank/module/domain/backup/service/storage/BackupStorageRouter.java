@@ -0,0 +1,109 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.domain.backup.BackupStorageType;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 새 백업은 backup.storage.type 저장소에 쓰고, 기존 백업은 위치 형식으로 저장소를 골라 읽고 지운다.
+ * 저장 대상을 바꿔도 이전 저장소에 남은 백업을 계속 복원/다운로드/정리할 수 있다.
+ * (S3 저장소는 backup.storage.s3.bucket 이 설정되어 있는 동안 등록되므로 S3 에서 LOCAL 로 바꿔도 버킷 설정은 남겨 둔다)
+ */
+@Component
+public class BackupStorageRouter {
+
+  private final List<BackupStorage> storages;
+  private final BackupStorage target;
+
+  public BackupStorageRouter(List<BackupStorage> storages, BackupProperties backupProperties) {
+    this.storages = storages;
+    BackupStorageType type = backupProperties.getStorage().getType();
+    this.target = storages.stream()
+        .filter(storage -> storage.type() == type)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException(type == BackupStorageType.S3
+            ? "S3 백업 저장소를 쓰려면 backup.storage.s3.bucket 을 설정해야 합니다."
+            : "백업 저장소를 찾을 수 없습니다: " + type));
+  }
+
+  /**
+   * 새 백업 파일을 저장할 저장소
+   */
+  public BackupStorage target() {
+    return target;
+  }
+
+  /**
+   * 새 백업이 로컬 디렉토리에 저장되는지 여부 (중복 제거 청크 저장소는 로컬 전용)
+   */
+  public boolean isLocalTarget() {
+    return target.type() == BackupStorageType.LOCAL;
+  }
+
+  /**
+   * 로컬 파일 경로가 아닌 위치인지 여부
+   */
+  public boolean isRemote(String location) {
+    return forLocation(location).type() != BackupStorageType.LOCAL;
+  }
+
+  public BackupStorage forLocation(String location) {
+    for (BackupStorage storage : storages) {
+      if (storage.supports(location)) {
+        return storage;
+      }
+    }
+    throw new IllegalStateException("위치를 처리할 백업 저장소가 없습니다: " + location);
+  }
+
+  public InputStream open(String location) throws IOException {
+    return forLocation(location).open(location);
+  }
+
+  public long size(String location) throws IOException {
+    return forLocation(location).size(location);
+  }
+
+  public boolean delete(String location) throws IOException {
+    return forLocation(location).delete(location);
+  }
+
+  /**
+   * 다운로드용 Resource (요청마다 저장소에서 새로 스트리밍)
+   */
+  public Resource resource(String location, String fileName) {
+    BackupStorage storage = forLocation(location);
+    return new AbstractResource() {
+      @Override
+      public boolean exists() {
+        return true;
+      }
+
+      @Override
+      public InputStream getInputStream() throws IOException {
+        return storage.open(location);
+      }
+
+      @Override
+      public long contentLength() throws IOException {
+        return storage.size(location);
+      }
+
+      @Override
+      public String getFilename() {
+        return fileName;
+      }
+
+      @Override
+      public String getDescription() {
+        return "backup storage [" + location + "]";
+      }
+    };
+  }
+}
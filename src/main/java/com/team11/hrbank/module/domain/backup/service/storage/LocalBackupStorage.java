@@ -0,0 +1,121 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.backup.BackupStorageType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 로컬 백업 디렉토리 저장소
+ * 저장 대상이 S3 여도 이전에 로컬에 만든 백업과 에러 로그를 읽고 지울 수 있도록 항상 등록된다.
+ */
+@Slf4j
+@Component
+public class LocalBackupStorage implements BackupStorage {
+
+  private final Path backupDir;
+
+  public LocalBackupStorage(FileStorageProperties properties) {
+    this.backupDir = Paths.get(properties.getBackupFiles());
+  }
+
+  @Override
+  public BackupStorageType type() {
+    return BackupStorageType.LOCAL;
+  }
+
+  @Override
+  public boolean supports(String location) {
+    return !location.contains("://");
+  }
+
+  @Override
+  public BackupStorageOutputStream create(String fileName) throws IOException {
+    Path path = backupDir.resolve(fileName);
+    return new LocalOutputStream(path, Files.newOutputStream(path));
+  }
+
+  @Override
+  public InputStream open(String location) throws IOException {
+    return Files.newInputStream(Paths.get(location));
+  }
+
+  @Override
+  public long size(String location) throws IOException {
+    return Files.size(Paths.get(location));
+  }
+
+  @Override
+  public boolean delete(String location) throws IOException {
+    return Files.deleteIfExists(Paths.get(location));
+  }
+
+  private static final class LocalOutputStream extends BackupStorageOutputStream {
+
+    private final Path path;
+    private final OutputStream out;
+    private long size;
+    private boolean closed;
+
+    private LocalOutputStream(Path path, OutputStream out) {
+      this.path = path;
+      this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      size += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!closed) {
+        closed = true;
+        out.close();
+      }
+    }
+
+    @Override
+    public String getLocation() {
+      return path.toString();
+    }
+
+    @Override
+    public long getSize() {
+      return size;
+    }
+
+    @Override
+    public void abort() {
+      try {
+        close();
+      } catch (IOException e) {
+        log.debug("중단된 백업 파일 닫기 실패: {}", path, e);
+      }
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        log.warn("중단된 백업 파일 삭제 실패: {}", path, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import java.util.List;
+
+/**
+ * MultipartUploadOutputStream 이 사용하는 객체 저장소 멀티파트 업로드 호출
+ * S3 SDK 호출을 이 인터페이스 뒤에 두어 업로드 순서/실패 처리를 저장소 없이 검증할 수 있게 한다.
+ * uploadPart 는 여러 스레드에서 동시에 호출된다.
+ */
+interface MultipartUploadClient {
+
+  /**
+   * @return 업로드 id
+   */
+  String createMultipartUpload(String key);
+
+  /**
+   * @return 파트 ETag
+   */
+  String uploadPart(String key, String uploadId, int partNumber, byte[] data, int length);
+
+  /**
+   * @param parts 파트 번호 오름차순
+   */
+  void completeMultipartUpload(String key, String uploadId, List<UploadedPart> parts);
+
+  void abortMultipartUpload(String key, String uploadId);
+
+  /**
+   * 파트 하나보다 작은 객체는 멀티파트 없이 한 번에 업로드
+   */
+  void putObject(String key, byte[] data, int length);
+
+  record UploadedPart(int partNumber, String eTag) {}
+}
@@ -0,0 +1,216 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 쓰는 대로 part-size 단위로 잘라 멀티파트 업로드하는 스트림 (로컬 임시 파일 없음)
+ * 가득 찬 파트는 업로드 스레드 풀에 넘기고 다음 파트를 이어서 채우므로 추출/압축과 업로드가 겹쳐 진행된다.
+ * 동시에 업로드 중인 파트는 maxInFlight 개로 제한해 메모리는 part-size x (maxInFlight + 1) 을 넘지 않는다.
+ * 첫 파트가 차기 전에 닫히면 멀티파트 없이 한 번에 업로드한다.
+ * 파트 업로드가 하나라도 실패하면 이후 write/close 에서 예외를 던지고 업로드를 중단(abort)한다.
+ * 스레드 안전하지 않다.
+ */
+@Slf4j
+class MultipartUploadOutputStream extends BackupStorageOutputStream {
+
+  // S3 멀티파트 업로드 파트 수 상한
+  static final int MAX_PARTS = 10_000;
+  // 마지막 파트를 제외한 파트의 최소 크기
+  static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+  private final MultipartUploadClient client;
+  private final String key;
+  private final String location;
+  private final int partSize;
+  private final ExecutorService executor;
+  private final Semaphore inFlight;
+  private final List<Future<MultipartUploadClient.UploadedPart>> parts = new ArrayList<>();
+
+  private byte[] buffer;
+  private int count;
+  private long size;
+  private String uploadId;
+  private boolean closed;
+
+  MultipartUploadOutputStream(MultipartUploadClient client, String key, String location, int partSize,
+      int maxInFlight, ExecutorService executor) {
+    this.client = client;
+    this.key = key;
+    this.location = location;
+    this.partSize = partSize;
+    this.executor = executor;
+    this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+    this.buffer = new byte[partSize];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    buffer[count++] = (byte) b;
+    size++;
+    if (count == partSize) {
+      uploadBufferedPart();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    size += len;
+    while (len > 0) {
+      int n = Math.min(len, partSize - count);
+      System.arraycopy(b, off, buffer, count, n);
+      count += n;
+      off += n;
+      len -= n;
+      if (count == partSize) {
+        uploadBufferedPart();
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (uploadId == null) {
+        client.putObject(key, buffer, count);
+        return;
+      }
+      if (count > 0) {
+        submitPart();
+      }
+      List<MultipartUploadClient.UploadedPart> uploaded = new ArrayList<>(parts.size());
+      for (Future<MultipartUploadClient.UploadedPart> part : parts) {
+        uploaded.add(await(part));
+      }
+      client.completeMultipartUpload(key, uploadId, uploaded);
+      log.info("멀티파트 업로드 완료: {} ({}개 파트, {} bytes)", location, uploaded.size(), size);
+    } catch (IOException | RuntimeException e) {
+      abortUpload();
+      throw e;
+    } finally {
+      buffer = null;
+    }
+  }
+
+  @Override
+  public String getLocation() {
+    return location;
+  }
+
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  @Override
+  public void abort() {
+    if (closed && buffer == null) {
+      return;
+    }
+    closed = true;
+    buffer = null;
+    abortUpload();
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("이미 닫힌 업로드 스트림입니다: " + location);
+    }
+  }
+
+  private void uploadBufferedPart() throws IOException {
+    try {
+      if (uploadId == null) {
+        uploadId = client.createMultipartUpload(key);
+      }
+      submitPart();
+    } catch (IOException | RuntimeException e) {
+      abort();
+      throw e;
+    }
+  }
+
+  // 현재 버퍼를 다음 파트로 업로드 스레드에 넘기고 새 버퍼로 교체
+  private void submitPart() throws IOException {
+    if (parts.size() >= MAX_PARTS) {
+      throw new IOException("멀티파트 업로드 파트 수 한도(" + MAX_PARTS + ")를 넘었습니다. part-size 를 늘리세요.");
+    }
+    failFast();
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("파트 업로드 대기 중 인터럽트");
+    }
+
+    int partNumber = parts.size() + 1;
+    byte[] data = buffer;
+    int length = count;
+    String id = uploadId;
+    try {
+      parts.add(executor.submit(() -> {
+        try {
+          return new MultipartUploadClient.UploadedPart(partNumber, client.uploadPart(key, id, partNumber, data, length));
+        } finally {
+          inFlight.release();
+        }
+      }));
+    } catch (RuntimeException e) {
+      inFlight.release();
+      throw e;
+    }
+    buffer = closed ? null : new byte[partSize];
+    count = 0;
+  }
+
+  // 이미 끝난 파트 중 실패한 것이 있으면 나머지를 쓰기 전에 중단
+  private void failFast() throws IOException {
+    for (Future<MultipartUploadClient.UploadedPart> part : parts) {
+      if (part.isDone()) {
+        await(part);
+      }
+    }
+  }
+
+  private static MultipartUploadClient.UploadedPart await(Future<MultipartUploadClient.UploadedPart> part)
+      throws IOException {
+    try {
+      return part.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("파트 업로드 대기 중 인터럽트");
+    } catch (ExecutionException e) {
+      throw new IOException("파트 업로드 실패", e.getCause());
+    }
+  }
+
+  private void abortUpload() {
+    for (Future<MultipartUploadClient.UploadedPart> part : parts) {
+      part.cancel(true);
+    }
+    if (uploadId == null) {
+      return;
+    }
+    try {
+      client.abortMultipartUpload(key, uploadId);
+      log.info("멀티파트 업로드 중단: {}", location);
+    } catch (RuntimeException e) {
+      log.warn("멀티파트 업로드 중단 실패 (버킷 수명 주기 정책으로 정리 필요): {}", location, e);
+    }
+    uploadId = null;
+  }
+}
@@ -0,0 +1,92 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.domain.backup.BackupStorageType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * S3 호환 객체 저장소 (backup.storage.type=s3)
+ * 위치는 s3://{bucket}/{prefix}{fileName} 형식이며 업로드는 MultipartUploadOutputStream 으로 스트리밍한다.
+ * 저장 대상과 무관하게 backup.storage.s3.bucket 이 설정되어 있으면 등록되므로, LOCAL 로 바꾼 뒤에도 기존 s3:// 백업을 읽고 지울 수 있다.
+ */
+@Component
+@ConditionalOnExpression("T(org.springframework.util.StringUtils).hasText('${backup.storage.s3.bucket:}')")
+public class S3BackupStorage implements BackupStorage {
+
+  private static final String SCHEME = "s3://";
+
+  private final S3Client s3Client;
+  private final BackupProperties.S3 properties;
+  private final ExecutorService uploadExecutor;
+  private final MultipartUploadClient uploadClient;
+
+  public S3BackupStorage(S3Client backupS3Client, BackupProperties backupProperties,
+      @Qualifier("backupUploadExecutor") ExecutorService uploadExecutor) {
+    this.properties = backupProperties.getStorage().getS3();
+    if (properties.getPartSize() < MultipartUploadOutputStream.MIN_PART_SIZE) {
+      throw new IllegalStateException("backup.storage.s3.part-size 는 5MB 이상이어야 합니다.");
+    }
+    this.s3Client = backupS3Client;
+    this.uploadExecutor = uploadExecutor;
+    this.uploadClient = new S3MultipartUploadClient(backupS3Client, properties.getBucket());
+  }
+
+  @Override
+  public BackupStorageType type() {
+    return BackupStorageType.S3;
+  }
+
+  @Override
+  public boolean supports(String location) {
+    return location.startsWith(SCHEME + properties.getBucket() + "/");
+  }
+
+  @Override
+  public BackupStorageOutputStream create(String fileName) {
+    String key = (properties.getPrefix() != null ? properties.getPrefix() : "") + fileName;
+    return new MultipartUploadOutputStream(uploadClient, key, SCHEME + properties.getBucket() + "/" + key,
+        properties.getPartSize(), properties.getUploadThreads(), uploadExecutor);
+  }
+
+  @Override
+  public InputStream open(String location) {
+    return s3Client.getObject(GetObjectRequest.builder()
+        .bucket(properties.getBucket())
+        .key(keyOf(location))
+        .build());
+  }
+
+  @Override
+  public long size(String location) {
+    return s3Client.headObject(HeadObjectRequest.builder()
+        .bucket(properties.getBucket())
+        .key(keyOf(location))
+        .build()).contentLength();
+  }
+
+  @Override
+  public boolean delete(String location) {
+    String key = keyOf(location);
+    try {
+      s3Client.headObject(HeadObjectRequest.builder().bucket(properties.getBucket()).key(key).build());
+    } catch (NoSuchKeyException e) {
+      return false;
+    }
+    s3Client.deleteObject(DeleteObjectRequest.builder().bucket(properties.getBucket()).key(key).build());
+    return true;
+  }
+
+  private String keyOf(String location) {
+    return location.substring(SCHEME.length() + properties.getBucket().length() + 1);
+  }
+}
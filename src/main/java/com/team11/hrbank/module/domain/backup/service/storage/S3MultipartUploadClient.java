@@ -0,0 +1,81 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+/**
+ * S3 SDK 멀티파트 업로드 호출
+ * 파트 버퍼는 ByteArrayInputStream 으로 감싸 넘기므로 SDK 가 다시 복사하지 않는다.
+ */
+class S3MultipartUploadClient implements MultipartUploadClient {
+
+  private final S3Client s3Client;
+  private final String bucket;
+
+  S3MultipartUploadClient(S3Client s3Client, String bucket) {
+    this.s3Client = s3Client;
+    this.bucket = bucket;
+  }
+
+  @Override
+  public String createMultipartUpload(String key) {
+    return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .build()).uploadId();
+  }
+
+  @Override
+  public String uploadPart(String key, String uploadId, int partNumber, byte[] data, int length) {
+    return s3Client.uploadPart(UploadPartRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .partNumber(partNumber)
+            .contentLength((long) length)
+            .build(),
+        RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length)).eTag();
+  }
+
+  @Override
+  public void completeMultipartUpload(String key, String uploadId, List<UploadedPart> parts) {
+    List<CompletedPart> completedParts = parts.stream()
+        .map(part -> CompletedPart.builder().partNumber(part.partNumber()).eTag(part.eTag()).build())
+        .toList();
+    s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .uploadId(uploadId)
+        .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+        .build());
+  }
+
+  @Override
+  public void abortMultipartUpload(String key, String uploadId) {
+    s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .uploadId(uploadId)
+        .build());
+  }
+
+  @Override
+  public void putObject(String key, byte[] data, int length) {
+    s3Client.putObject(PutObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentLength((long) length)
+            .build(),
+        RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length));
+  }
+}
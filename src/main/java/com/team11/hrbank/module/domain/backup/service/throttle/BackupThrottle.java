@@ -0,0 +1,49 @@
+package com.team11.hrbank.module.domain.backup.service.throttle;
+
+import com.team11.hrbank.module.common.config.BackupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+
+/**
+ * 백업 쓰기 속도 제한
+ * backup.throttle 의 bytes-per-second, rows-per-second 를 토큰 버킷으로 적용한다. (0 이하면 제한 없음)
+ * 압축 전 CSV 기준이며, 버킷은 노드 전체에서 공유하므로 아카이브 백업의 병렬 워커 합계에도 같은 한도가 적용된다.
+ * 쓰기가 막히면 COPY/커서 읽기도 함께 느려져 DB 와 디스크 부하가 일정하게 유지된다.
+ */
+@Slf4j
+@Component
+public class BackupThrottle {
+
+  private final TokenBucket bytesBucket;
+  private final TokenBucket rowsBucket;
+
+  public BackupThrottle(BackupProperties backupProperties) {
+    BackupProperties.Throttle throttle = backupProperties.getThrottle();
+    this.bytesBucket = throttle.getBytesPerSecond() > 0 ? new TokenBucket(throttle.getBytesPerSecond()) : null;
+    this.rowsBucket = throttle.getRowsPerSecond() > 0 ? new TokenBucket(throttle.getRowsPerSecond()) : null;
+    if (isEnabled()) {
+      log.info("백업 속도 제한 사용 - {} bytes/s, {} rows/s",
+          throttle.getBytesPerSecond(), throttle.getRowsPerSecond());
+    }
+  }
+
+  public boolean isEnabled() {
+    return bytesBucket != null || rowsBucket != null;
+  }
+
+  /**
+   * 속도 제한이 설정돼 있으면 out 을 감싼다. (제한이 없으면 그대로 반환)
+   */
+  public OutputStream wrap(OutputStream out) {
+    return isEnabled() ? new ThrottledOutputStream(out, bytesBucket, rowsBucket) : out;
+  }
+
+  /**
+   * 바이트 속도 제한만 적용해 out 을 감싼다. (CSV 가 아닌 바이너리 항목용 - 줄바꿈을 행으로 세지 않음)
+   */
+  public OutputStream wrapBytes(OutputStream out) {
+    return bytesBucket != null ? new ThrottledOutputStream(out, bytesBucket, null) : out;
+  }
+}
@@ -0,0 +1,50 @@
+package com.team11.hrbank.module.domain.backup.service.throttle;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 쓰기 전에 바이트/행(줄바꿈) 토큰을 가져가는 OutputStream
+ * 버킷이 null 이면 해당 기준은 제한하지 않는다.
+ */
+class ThrottledOutputStream extends FilterOutputStream {
+
+  private final TokenBucket bytesBucket;
+  private final TokenBucket rowsBucket;
+
+  ThrottledOutputStream(OutputStream out, TokenBucket bytesBucket, TokenBucket rowsBucket) {
+    super(out);
+    this.bytesBucket = bytesBucket;
+    this.rowsBucket = rowsBucket;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    throttle(1, b == '\n' ? 1 : 0);
+    out.write(b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    int lines = 0;
+    if (rowsBucket != null) {
+      for (int i = off; i < off + len; i++) {
+        if (b[i] == '\n') {
+          lines++;
+        }
+      }
+    }
+    throttle(len, lines);
+    out.write(b, off, len);
+  }
+
+  private void throttle(long bytes, long rows) throws IOException {
+    if (bytesBucket != null) {
+      bytesBucket.acquire(bytes);
+    }
+    if (rowsBucket != null) {
+      rowsBucket.acquire(rows);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.team11.hrbank.module.domain.backup.service.throttle;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용량 기반 토큰 버킷
+ * 토큰이 모자라면 빚(음수)으로 먼저 가져가고, 빚을 갚는 데 필요한 시간만큼 호출 스레드를 재운다.
+ * 여러 스레드가 같은 버킷을 나눠 써도 합계가 ratePerSecond 를 넘지 않는다. 최대 1초 분량까지 몰아 쓸 수 있다.
+ */
+public final class TokenBucket {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final long ratePerSecond;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(long ratePerSecond) {
+    this(ratePerSecond, System.nanoTime());
+  }
+
+  TokenBucket(long ratePerSecond, long startNanos) {
+    if (ratePerSecond <= 0) {
+      throw new IllegalArgumentException("초당 허용량은 0보다 커야 합니다: " + ratePerSecond);
+    }
+    this.ratePerSecond = ratePerSecond;
+    this.tokens = ratePerSecond;
+    this.lastRefillNanos = startNanos;
+  }
+
+  /**
+   * permits 만큼 토큰을 가져가고 필요하면 대기
+   */
+  public void acquire(long permits) throws InterruptedIOException {
+    if (permits <= 0) {
+      return;
+    }
+    long waitNanos = reserve(permits, System.nanoTime());
+    if (waitNanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("백업 속도 제한 대기 중 인터럽트 발생");
+    }
+  }
+
+  /**
+   * 토큰을 예약하고 기다려야 할 시간(ns)을 반환
+   */
+  synchronized long reserve(long permits, long nowNanos) {
+    long elapsed = nowNanos - lastRefillNanos;
+    if (elapsed > 0) {
+      tokens = Math.min(ratePerSecond, tokens + (double) elapsed * ratePerSecond / NANOS_PER_SECOND);
+      lastRefillNanos = nowNanos;
+    }
+    tokens -= permits;
+    return tokens >= 0 ? 0 : (long) (-tokens * NANOS_PER_SECOND / ratePerSecond);
+  }
+}
@@ -27,6 +27,14 @@ public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long>,
   @Query("SELECT COUNT(c) FROM ChangeLog c")
   long countAll();
 
+  // 변경 이력 최대 id (백업 변경 감지용, PK 인덱스로 조회)
+  @Query("SELECT MAX(c.id) FROM ChangeLog c")
+  Long findMaxId();
+
+  // 워터마크 이하 id 중 지정 시각 이후 생성된 변경 이력 수 (증분 백업 겹침 구간의 늦은 커밋 감지용)
+  @Query("SELECT COUNT(c) FROM ChangeLog c WHERE c.id <= :maxId AND c.createdAt >= :fromDate")
+  long countUpToIdCreatedFrom(@Param("maxId") Long maxId, @Param("fromDate") Instant fromDate);
+
   @Query(value = "SELECT * FROM change_logs c " +
           "WHERE (:type IS NULL OR c.type = :type) " +
           "AND (c.created_at >= COALESCE(CAST(:atFrom AS timestamptz), '-infinity'::timestamptz)) " +
@@ -0,0 +1,61 @@
+package com.team11.hrbank.module.domain.changelog.service;
+
+import com.team11.hrbank.module.domain.changelog.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 변경 이력(change_logs) id의 최대값을 메모리에 캐싱
+ * 이 노드에서 이력을 저장할 때마다 커밋 후 올려 두고, 백업은 이 값과 직전 백업이 포함한 id를 비교해 변경 여부를 판단한다.
+ * 다른 노드의 저장은 반영되지 않으므로 필요하면 refresh()로 DB 최대값(PK 인덱스)을 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogHighWaterMark {
+
+  private static final long UNKNOWN = -1L;
+
+  private final ChangeLogRepository changeLogRepository;
+  private final AtomicLong maxId = new AtomicLong(UNKNOWN);
+
+  /**
+   * 캐싱된 최대 id (처음 한 번만 DB 조회)
+   * @return 변경 이력이 없으면 0
+   */
+  public long current() {
+    long cached = maxId.get();
+    return cached != UNKNOWN ? cached : refresh();
+  }
+
+  /**
+   * DB의 최대 id로 캐시 갱신
+   * @return 갱신된 최대 id
+   */
+  public long refresh() {
+    Long dbMaxId = changeLogRepository.findMaxId();
+    return maxId.accumulateAndGet(dbMaxId != null ? dbMaxId : 0L, Math::max);
+  }
+
+  /**
+   * 저장한 변경 이력 id 반영 (트랜잭션 안이면 커밋된 뒤에 반영)
+   */
+  public void bumpAfterCommit(Long changeLogId) {
+    if (changeLogId == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          maxId.accumulateAndGet(changeLogId, Math::max);
+        }
+      });
+    } else {
+      maxId.accumulateAndGet(changeLogId, Math::max);
+    }
+  }
+}
@@ -24,8 +24,9 @@ public interface EmployeeApi {
       description = "새로운 직원을 등록합니다.",
       responses = {
           @ApiResponse(responseCode = "200", description = "등록 성공"),
-          @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 중복된 이메일"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청"),
           @ApiResponse(responseCode = "404", description = "부서를 찾을 수 없음"),
+          @ApiResponse(responseCode = "409", description = "중복된 이메일"),
           @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   @PostMapping(consumes = {"multipart/form-data"})
@@ -35,13 +36,42 @@ public interface EmployeeApi {
       HttpServletRequest servletRequest
   ) throws Exception;
 
+  @Operation(
+      summary = "직원 일괄 등록",
+      description = "CSV(text/csv, 헤더: name,email,departmentId,departmentName,position,hireDate,memo) 또는 "
+          + "NDJSON(application/x-ndjson) 본문의 직원을 일괄 등록합니다. 부서는 departmentId 또는 departmentName 으로 지정합니다. "
+          + "잘못된 행은 건너뛰고 행 번호와 사유를 결과에 담습니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "처리 완료 (행별 실패 포함)"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청 (CSV 헤더 오류 등)"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @PostMapping(value = "/bulk", consumes = {"text/csv", "application/x-ndjson"})
+  ResponseEntity<EmployeeBulkImportResultDto> importEmployees(HttpServletRequest servletRequest) throws Exception;
+
+  @Operation(
+      summary = "직원 일괄 수정",
+      description = "여러 직원의 부서 또는 상태를 한 번에 변경합니다. 값이 바뀌는 직원마다 변경 이력이 남습니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "수정 성공 (없는 직원 id 포함)"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+          @ApiResponse(responseCode = "404", description = "부서를 찾을 수 없음"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @PatchMapping(value = "/bulk", consumes = {"application/json"})
+  ResponseEntity<EmployeeBulkUpdateResultDto> updateEmployees(
+      @RequestBody EmployeeBulkUpdateRequest request,
+      HttpServletRequest servletRequest
+  ) throws Exception;
+
   @Operation(
       summary = "직원 수정",
       description = "직원 정보를 수정합니다.",
       responses = {
           @ApiResponse(responseCode = "200", description = "수정 성공"),
-          @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 중복된 이메일"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청"),
           @ApiResponse(responseCode = "404", description = "직원 또는 부서를 찾을 수 없음"),
+          @ApiResponse(responseCode = "409", description = "중복된 이메일"),
           @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   @PatchMapping(value = "/{id}", consumes = {"multipart/form-data"})
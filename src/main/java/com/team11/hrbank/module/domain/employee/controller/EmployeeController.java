@@ -3,6 +3,8 @@ package com.team11.hrbank.module.domain.employee.controller;
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.domain.employee.EmployeeStatus;
 import com.team11.hrbank.module.domain.employee.dto.*;
+import com.team11.hrbank.module.domain.employee.service.EmployeeBulkImportService;
+import com.team11.hrbank.module.domain.employee.service.EmployeeBulkUpdateService;
 import com.team11.hrbank.module.domain.employee.service.EmployeeCommandService;
 import com.team11.hrbank.module.domain.employee.service.EmployeeQueryService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,6 +44,8 @@ public class EmployeeController implements EmployeeApi {
 
   private final EmployeeCommandService employeeCommandService;
   private final EmployeeQueryService employeeQueryService;
+  private final EmployeeBulkImportService employeeBulkImportService;
+  private final EmployeeBulkUpdateService employeeBulkUpdateService;
 
   // 직원 생성
   @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
@@ -54,6 +58,26 @@ public class EmployeeController implements EmployeeApi {
         employeeCommandService.createEmployee(employeeCreateRequest, file,request));
   }
 
+  // 직원 일괄 등록 (요청 본문을 스트리밍으로 읽음)
+  @PostMapping(value = "/bulk", consumes = {"text/csv", "application/x-ndjson"})
+  public ResponseEntity<EmployeeBulkImportResultDto> importEmployees(HttpServletRequest request) throws Exception {
+    EmployeeBulkImportService.Format format =
+        MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+            ? EmployeeBulkImportService.Format.NDJSON
+            : EmployeeBulkImportService.Format.CSV;
+    return ResponseEntity.ok(
+        employeeBulkImportService.importEmployees(request.getInputStream(), format, request));
+  }
+
+  // 직원 일괄 수정 (부서 이동, 상태 변경)
+  @PatchMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<EmployeeBulkUpdateResultDto> updateEmployees(
+      @RequestBody EmployeeBulkUpdateRequest employeeBulkUpdateRequest,
+      HttpServletRequest request) throws Exception {
+    return ResponseEntity.ok(
+        employeeBulkUpdateService.updateEmployees(employeeBulkUpdateRequest, request));
+  }
+
   // 직원 수정
   @PatchMapping(value = "/{id}", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
   public ResponseEntity<EmployeeDto> updateEmployee(
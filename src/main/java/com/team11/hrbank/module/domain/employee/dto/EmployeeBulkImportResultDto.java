@@ -0,0 +1,26 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 등록 결과
+ * @param totalRows 읽은 데이터 행 수
+ * @param importedRows 등록된 직원 수
+ * @param failedRows 등록하지 못한 행 수
+ * @param errors 실패한 행 (최대 employee.bulk-import.max-reported-errors 건)
+ */
+public record EmployeeBulkImportResultDto(
+    long totalRows,
+    long importedRows,
+    long failedRows,
+    long elapsedMillis,
+    long rowsPerSecond,
+    List<RowError> errors
+) {
+
+  /**
+   * @param row 데이터 행 번호 (헤더 제외, 1부터)
+   */
+  public record RowError(long row, String email, String message) {
+  }
+}
@@ -0,0 +1,18 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 직원 일괄 등록 행 (NDJSON 한 줄 또는 CSV 한 행)
+ * 부서는 departmentId 또는 departmentName 중 하나로 지정한다.
+ */
+public record EmployeeBulkImportRow(
+    String name,
+    String email,
+    Long departmentId,
+    String departmentName,
+    String position,
+    LocalDate hireDate,
+    String memo
+) {
+}
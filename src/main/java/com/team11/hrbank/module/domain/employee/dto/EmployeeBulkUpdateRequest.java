@@ -0,0 +1,17 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 수정 요청 (부서 이동, 상태 변경)
+ * departmentId, status 중 지정한 값만 모든 대상 직원에게 적용한다.
+ */
+public record EmployeeBulkUpdateRequest(
+    List<Long> ids,
+    Long departmentId,
+    EmployeeStatus status,
+    String memo
+) {
+}
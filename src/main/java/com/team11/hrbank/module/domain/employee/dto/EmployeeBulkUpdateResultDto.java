@@ -0,0 +1,18 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 수정 결과
+ * @param requested 요청한 (중복 제거된) 직원 수
+ * @param updated 값이 바뀌어 변경 이력을 남긴 직원 수
+ * @param unchanged 이미 같은 값이라 건너뛴 직원 수
+ * @param notFoundIds 존재하지 않는 직원 id
+ */
+public record EmployeeBulkUpdateResultDto(
+    int requested,
+    int updated,
+    int unchanged,
+    List<Long> notFoundIds
+) {
+}
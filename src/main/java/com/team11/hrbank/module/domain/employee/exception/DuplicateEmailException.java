@@ -0,0 +1,15 @@
+package com.team11.hrbank.module.domain.employee.exception;
+
+/**
+ * 이미 다른 직원이 사용 중인 이메일로 생성/수정할 때 예외
+ */
+public class DuplicateEmailException extends RuntimeException {
+
+  public DuplicateEmailException(String email) {
+    super("email(" + email + ")은 이미 존재합니다.");
+  }
+
+  public DuplicateEmailException(String email, Throwable cause) {
+    super("email(" + email + ")은 이미 존재합니다.", cause);
+  }
+}
@@ -1,23 +1,31 @@
 package com.team11.hrbank.module.domain.employee.repository;
 
 import com.team11.hrbank.module.domain.employee.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
-  // 이메일 컬럼 접근
+  // 이메일 중복 검사 (email UNIQUE 인덱스 조회)
+  boolean existsByEmail(String email);
+
+  // 이메일 컬럼만 스트리밍 (Bloom filter 적재용, 트랜잭션 안에서 소비 후 close)
   @Query("SELECT e.email FROM Employee e")
-  List<String> findAllEmails();
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<String> streamAllEmails();
 
   // 기본 메서드를 이용하여 입사일과 상태로 직원 조회
   List<Employee> findByHireDateLessThanEqual(LocalDate toDate);
 
-  int countEmployeesByHireDateBetween(LocalDate from, LocalDate to);
-
-
   long countByDepartmentId(Long departmentId);
 }
@@ -6,6 +6,7 @@ import com.team11.hrbank.module.domain.employee.dto.EmployeeDistributionDto;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 
 public interface EmployeeRepositoryCustom {
@@ -33,4 +34,7 @@ public interface EmployeeRepositoryCustom {
       LocalDate toDate
   );
 
+  // 입사일별 입사자 수 (from 이상 toExclusive 미만, 입사일 오름차순)
+  Map<LocalDate, Long> countByHireDate(LocalDate from, LocalDate toExclusive);
+
 }
@@ -1,6 +1,7 @@
 package com.team11.hrbank.module.domain.employee.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -14,7 +15,9 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
@@ -269,4 +272,22 @@ public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
 
     return count != null ? count : 0L; // null일 경우 0 반환
   }
+
+  // 입사일별 입사자 수
+  @Override
+  public Map<LocalDate, Long> countByHireDate(LocalDate from, LocalDate toExclusive) {
+    QEmployee employee = QEmployee.employee;
+
+    Map<LocalDate, Long> counts = new LinkedHashMap<>();
+    for (Tuple tuple : queryFactory
+        .select(employee.hireDate, employee.count())
+        .from(employee)
+        .where(employee.hireDate.goe(from), employee.hireDate.lt(toExclusive))
+        .groupBy(employee.hireDate)
+        .orderBy(employee.hireDate.asc())
+        .fetch()) {
+      counts.put(tuple.get(employee.hireDate), tuple.get(employee.count()));
+    }
+    return counts;
+  }
 }
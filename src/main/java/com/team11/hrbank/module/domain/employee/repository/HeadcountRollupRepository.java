@@ -0,0 +1,126 @@
+package com.team11.hrbank.module.domain.employee.repository;
+
+import com.team11.hrbank.module.domain.employee.Employee;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직원 수 일별 집계(headcount_daily) 조회/갱신
+ * 입사일 x 부서 x 상태 별 직원 수를 담으며, 부서가 없는 직원은 department_id 0 으로 집계한다.
+ * JdbcTemplate 은 현재 트랜잭션의 커넥션을 쓰므로 직원 변경과 같은 트랜잭션에서 반영된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeadcountRollupRepository {
+
+  private static final long NO_DEPARTMENT = 0L;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 집계 키 (부서 없음은 departmentId 0)
+   */
+  public record HeadcountKey(LocalDate hireDate, long departmentId, EmployeeStatus status)
+      implements Comparable<HeadcountKey> {
+
+    private static final Comparator<HeadcountKey> ORDER = Comparator
+        .comparing(HeadcountKey::hireDate)
+        .thenComparingLong(HeadcountKey::departmentId)
+        .thenComparing(HeadcountKey::status);
+
+    public static HeadcountKey of(LocalDate hireDate, Long departmentId, EmployeeStatus status) {
+      return new HeadcountKey(hireDate, departmentId != null ? departmentId : NO_DEPARTMENT, status);
+    }
+
+    public static HeadcountKey of(Employee employee) {
+      return of(employee.getHireDate(),
+          employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+          employee.getStatus());
+    }
+
+    @Override
+    public int compareTo(HeadcountKey other) {
+      return ORDER.compare(this, other);
+    }
+  }
+
+  // 키별 증감 반영 (키 순서로 갱신해 동시 갱신끼리 교착되지 않도록 함)
+  public void adjust(Map<HeadcountKey, Long> deltas) {
+    List<Object[]> args = deltas.entrySet().stream()
+        .filter(entry -> entry.getValue() != 0)
+        .sorted(Map.Entry.comparingByKey())
+        .map(entry -> new Object[] {entry.getKey().hireDate(), entry.getKey().departmentId(),
+            entry.getKey().status().name(), entry.getValue()})
+        .toList();
+    if (args.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate("""
+        INSERT INTO headcount_daily (hire_date, department_id, status, headcount)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (hire_date, department_id, status)
+        DO UPDATE SET headcount = headcount_daily.headcount + EXCLUDED.headcount
+        """, args);
+  }
+
+  /**
+   * employees 로부터 전체 재집계 (트랜잭션 안에서 호출)
+   * 테이블을 잠가 이미 증감을 반영한 트랜잭션은 커밋될 때까지 기다리고, 재집계 중 들어온 증감은 커밋 뒤에 반영되게 한다.
+   * @return 집계 행 수
+   */
+  public int rebuild() {
+    jdbcTemplate.execute("LOCK TABLE headcount_daily IN SHARE ROW EXCLUSIVE MODE");
+    jdbcTemplate.update("DELETE FROM headcount_daily");
+    return jdbcTemplate.update("""
+        INSERT INTO headcount_daily (hire_date, department_id, status, headcount)
+        SELECT hire_date, COALESCE(department_id, 0), status, count(*)
+        FROM employees
+        GROUP BY hire_date, COALESCE(department_id, 0), status
+        """);
+  }
+
+  // 입사일별 직원 수 (from 이상 toExclusive 미만, 입사일 오름차순)
+  public Map<LocalDate, Long> sumByHireDate(LocalDate from, LocalDate toExclusive) {
+    Map<LocalDate, Long> counts = new LinkedHashMap<>();
+    jdbcTemplate.query("""
+        SELECT hire_date, sum(headcount)
+        FROM headcount_daily
+        WHERE hire_date >= ? AND hire_date < ?
+        GROUP BY hire_date
+        HAVING sum(headcount) > 0
+        ORDER BY hire_date
+        """, (RowCallbackHandler) resultSet -> counts.put(
+            resultSet.getObject(1, LocalDate.class), resultSet.getLong(2)), from, toExclusive);
+    return counts;
+  }
+
+  // 상태, 입사일 범위(양 끝 포함) 조건의 직원 수 (null 인 조건은 적용하지 않음)
+  public long sum(EmployeeStatus status, LocalDate fromDate, LocalDate toDate) {
+    StringBuilder sql = new StringBuilder("SELECT COALESCE(sum(headcount), 0) FROM headcount_daily WHERE true");
+    List<Object> args = new ArrayList<>(3);
+    if (status != null) {
+      sql.append(" AND status = ?");
+      args.add(status.name());
+    }
+    if (fromDate != null) {
+      sql.append(" AND hire_date >= ?");
+      args.add(fromDate);
+    }
+    if (toDate != null) {
+      sql.append(" AND hire_date <= ?");
+      args.add(toDate);
+    }
+    Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+    return count != null ? count : 0L;
+  }
+}
@@ -0,0 +1,79 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter
+ * mightContain 이 false 면 한 번도 put 하지 않은 값이고, true 면 put 했거나 오탐이다.
+ * 비트는 AtomicLongArray 에 CAS 로 세우므로 여러 스레드가 동시에 put/mightContain 해도 된다.
+ * 삭제는 지원하지 않는다.
+ */
+public final class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions 예상 원소 수
+   * @param falsePositiveRate 예상 원소 수일 때의 오탐률 (0 ~ 1)
+   */
+  public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("Bloom filter 설정이 올바르지 않습니다.");
+    }
+    // m = -n ln p / (ln 2)^2, k = m/n ln 2
+    long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) >>> 6));
+    this.bitCount = (long) bits.length() << 6;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+  }
+
+  public void put(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = bitIndex(h1 + i * h2);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current;
+      while (((current = bits.get(word)) & mask) == 0) {
+        if (bits.compareAndSet(word, current, current | mask)) {
+          break;
+        }
+      }
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = bitIndex(h1 + i * h2);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 이중 해싱(Kirsch-Mitzenmacher)의 음수 결과를 양수로 뒤집어 비트 위치로 변환
+  private long bitIndex(int combined) {
+    return (combined < 0 ? ~combined : combined) % bitCount;
+  }
+
+  // UTF-8 바이트의 64비트 FNV-1a 에 splitmix64 마무리 단계를 적용해 상/하위 32비트를 고르게 섞는다
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return hash ^ (hash >>> 31);
+  }
+}
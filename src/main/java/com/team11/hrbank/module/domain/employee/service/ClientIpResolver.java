@@ -0,0 +1,59 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 변경 이력에 남길 클라이언트 IP 추출 (프록시 헤더 우선, 없으면 원격 주소)
+ */
+@Slf4j
+final class ClientIpResolver {
+
+  private ClientIpResolver() {
+  }
+
+  static String resolve(HttpServletRequest request) {
+    String ipAddress = null;
+
+    //프록시 헤더 확인
+    String[] headers = {
+            "X-Forwarded-For",
+            "Proxy-Client-IP",
+            "WL-Proxy-Client-IP",
+            "HTTP_X_FORWARDED_FOR",
+            "HTTP_X_FORWARDED",
+            "HTTP_X_CLUSTER_CLIENT_IP",
+            "HTTP_CLIENT_IP",
+            "HTTP_FORWARDED_FOR",
+            "HTTP_FORWARDED",
+            "HTTP_VIA",
+            "REMOTE_ADDR"
+    };
+
+    for (String header : headers) {
+      ipAddress = request.getHeader(header);
+      if (ipAddress != null && !ipAddress.isEmpty() && !"unknown".equalsIgnoreCase(ipAddress)) {
+        break;
+      }
+    }
+
+    // 모든 헤더에서 실패하면 직접 IP 가져오기
+    if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
+      ipAddress = request.getRemoteAddr();
+    }
+
+    // 로컬호스트 주소 처리
+    if (ipAddress == null || ipAddress.isEmpty() || "0:0:0:0:0:0:0:1".equals(ipAddress)) {
+      ipAddress = "127.0.0.1";
+    }
+
+    // 쉼표로 구분된 여러 IP 주소가 있는 경우 첫 번째 주소만 사용
+    if (ipAddress != null && ipAddress.contains(",")) {
+      ipAddress = ipAddress.split(",")[0].trim();
+    }
+
+    log.info("추출된 클라이언트 IP 주소: {}", ipAddress);
+
+    return ipAddress;
+  }
+}
@@ -0,0 +1,366 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.config.EmployeeProperties;
+import com.team11.hrbank.module.domain.department.Department;
+import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeBulkImportResultDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeBulkImportRow;
+import com.team11.hrbank.module.domain.employee.service.EmployeeBulkWriter.BulkEmployee;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.io.input.BOMInputStream;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 직원 일괄 등록 (POST /api/employees/bulk)
+ * 요청 본문(CSV 또는 NDJSON)을 스트리밍으로 읽어 chunk-size 행씩 검증하고 EmployeeBulkWriter 로 배치 저장한다.
+ * 부서는 시작할 때 한 번 읽은 id/이름 맵으로 찾고, 이메일 중복은 파일 안(Set)과 DB(chunk 당 조회 1번)로 확인한다.
+ * 파일 안 이메일 집합은 요청이 끝날 때까지 유지되므로 한 요청의 행 수는 max-rows 로 제한한다.
+ * 실패한 행은 건너뛰고 행 번호와 사유를 결과에 담으며, 나머지 행은 계속 등록한다.
+ * 검증 후 저장 사이에 다른 요청이 같은 이메일을 등록해 chunk 저장이 실패하면 그 chunk 만 한 행씩 다시 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeBulkImportService {
+
+  public enum Format {
+    CSV, NDJSON
+  }
+
+  private static final String DEFAULT_MEMO = "직원 일괄 등록";
+
+  private final DepartmentRepository departmentRepository;
+  private final EmployeeBulkWriter bulkWriter;
+  private final EmployeeEmailFilter employeeEmailFilter;
+  private final EmployeeProperties employeeProperties;
+  private final ObjectMapper objectMapper;
+
+  public EmployeeBulkImportResultDto importEmployees(InputStream body, Format format, HttpServletRequest request)
+      throws IOException, SQLException {
+    long startNanos = System.nanoTime();
+    String ipAddress = ClientIpResolver.resolve(request);
+    EmployeeProperties.BulkImport settings = employeeProperties.getBulkImport();
+    ImportState state = new ImportState(departmentRepository.findAll(), settings.getMaxReportedErrors());
+    int chunkSize = Math.max(1, settings.getChunkSize());
+    long maxRows = settings.getMaxRows();
+
+    List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+    InputStream withoutBom = BOMInputStream.builder().setInputStream(body).get();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(withoutBom, StandardCharsets.UTF_8))) {
+      Iterator<ParsedRow> rows = format == Format.NDJSON ? ndjsonRows(reader) : csvRows(reader);
+      while (true) {
+        ParsedRow row;
+        try {
+          if (!rows.hasNext()) {
+            break;
+          }
+          row = rows.next();
+        } catch (UncheckedIOException | IllegalStateException e) {
+          // CSV 구조가 깨지면 이후 행 경계를 알 수 없으므로 여기서 멈춘다
+          state.totalRows++;
+          state.fail(state.totalRows, null, "행을 읽을 수 없어 이후 행은 처리하지 않았습니다: " + e.getMessage());
+          break;
+        }
+        if (state.totalRows >= maxRows) {
+          state.totalRows++;
+          state.fail(state.totalRows, null, "한 번에 등록할 수 있는 행 수(" + maxRows + ")를 넘어 이후 행은 처리하지 않았습니다.");
+          break;
+        }
+        state.totalRows++;
+        chunk.add(row);
+        if (chunk.size() == chunkSize) {
+          writeChunk(chunk, state, ipAddress);
+          chunk.clear();
+        }
+      }
+    }
+    if (!chunk.isEmpty()) {
+      writeChunk(chunk, state, ipAddress);
+    }
+
+    long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+    long rowsPerSecond = state.totalRows * 1000 / elapsedMillis;
+    log.info("직원 일괄 등록 완료 - 전체 {}행, 등록 {}명, 실패 {}행, {} ms ({} rows/s)",
+        state.totalRows, state.importedRows, state.failedRows, elapsedMillis, rowsPerSecond);
+    return new EmployeeBulkImportResultDto(state.totalRows, state.importedRows, state.failedRows,
+        elapsedMillis, rowsPerSecond, state.errors);
+  }
+
+  private void writeChunk(List<ParsedRow> chunk, ImportState state, String ipAddress) throws SQLException {
+    List<BulkEmployee> valid = new ArrayList<>(chunk.size());
+    for (ParsedRow parsed : chunk) {
+      BulkEmployee employee = validate(parsed, state);
+      if (employee != null) {
+        valid.add(employee);
+      }
+    }
+
+    // Bloom filter 가 새 이메일로 판단한 것은 DB 조회에서 제외
+    List<String> candidates = new ArrayList<>();
+    for (BulkEmployee employee : valid) {
+      if (employeeEmailFilter.mightExist(employee.email())) {
+        candidates.add(employee.email());
+      }
+    }
+    Set<String> existing = candidates.isEmpty() ? Set.of() : bulkWriter.findExistingEmails(candidates);
+    List<BulkEmployee> toInsert = new ArrayList<>(valid.size());
+    for (BulkEmployee employee : valid) {
+      if (existing.contains(employee.email())) {
+        state.fail(employee.row(), employee.email(), "이미 존재하는 이메일입니다.");
+      } else {
+        toInsert.add(employee);
+      }
+    }
+    if (toInsert.isEmpty()) {
+      return;
+    }
+
+    try {
+      bulkWriter.insert(toInsert, ipAddress);
+      imported(toInsert, state);
+    } catch (SQLException | DataAccessException e) {
+      log.warn("직원 일괄 등록 chunk 저장 실패, 한 행씩 다시 저장 - {}행: {}", toInsert.size(), e.getMessage());
+      for (BulkEmployee employee : toInsert) {
+        try {
+          bulkWriter.insert(List.of(employee), ipAddress);
+          imported(List.of(employee), state);
+        } catch (SQLException | DataAccessException rowError) {
+          state.fail(employee.row(), employee.email(), describe(rowError));
+        }
+      }
+    }
+  }
+
+  private void imported(List<BulkEmployee> employees, ImportState state) {
+    for (BulkEmployee employee : employees) {
+      employeeEmailFilter.add(employee.email());
+    }
+    state.importedRows += employees.size();
+  }
+
+  /**
+   * 행 검증 (엔티티 컬럼 길이/필수 여부, 부서, 파일 안 이메일 중복)
+   * @return 검증을 통과하면 저장할 행, 실패하면 사유를 기록하고 null
+   */
+  private BulkEmployee validate(ParsedRow parsed, ImportState state) {
+    if (parsed.error() != null) {
+      state.fail(parsed.row(), null, parsed.error());
+      return null;
+    }
+    EmployeeBulkImportRow row = parsed.value();
+    String name = trimToNull(row.name());
+    String email = trimToNull(row.email());
+    String position = trimToNull(row.position());
+    String error = null;
+    Long departmentId = null;
+    if (name == null || name.length() > 100) {
+      error = "이름은 1~100자여야 합니다.";
+    } else if (email == null || email.length() > 255 || email.indexOf('@') <= 0) {
+      error = "이메일 형식이 올바르지 않습니다.";
+    } else if (position == null || position.length() > 50) {
+      error = "직함은 1~50자여야 합니다.";
+    } else if (row.hireDate() == null) {
+      error = "입사일은 필수입니다.";
+    } else {
+      departmentId = state.resolveDepartment(row.departmentId(), trimToNull(row.departmentName()));
+      if (departmentId == null) {
+        error = "부서를 찾을 수 없습니다.";
+      } else if (!state.seenEmails.add(email)) {
+        error = "파일 안에서 중복된 이메일입니다.";
+      }
+    }
+    if (error != null) {
+      state.fail(parsed.row(), email, error);
+      return null;
+    }
+    String memo = trimToNull(row.memo());
+    return new BulkEmployee(parsed.row(), name, email, departmentId, position,
+        row.hireDate(), memo != null ? memo : DEFAULT_MEMO);
+  }
+
+  private static String describe(Exception e) {
+    SQLException sqlException = null;
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException found) {
+        sqlException = found;
+        break;
+      }
+    }
+    // 23505: unique_violation
+    if (sqlException != null && "23505".equals(sqlException.getSQLState())
+        && String.valueOf(sqlException.getMessage()).contains("email")) {
+      return "이미 존재하는 이메일입니다.";
+    }
+    return "저장 실패: " + e.getMessage();
+  }
+
+  /**
+   * CSV: 첫 행은 헤더 (name,email,departmentId,departmentName,position,hireDate,memo), 부서 컬럼은 하나만 있어도 된다.
+   */
+  private Iterator<ParsedRow> csvRows(BufferedReader reader) throws IOException {
+    CSVParser parser = CSVFormat.DEFAULT.builder()
+        .setHeader()
+        .setSkipHeaderRecord(true)
+        .setIgnoreEmptyLines(true)
+        .setIgnoreHeaderCase(true)
+        .setTrim(true)
+        .build()
+        .parse(reader);
+    Iterator<CSVRecord> records = parser.iterator();
+    return new Iterator<>() {
+      private long row;
+
+      @Override
+      public boolean hasNext() {
+        return records.hasNext();
+      }
+
+      @Override
+      public ParsedRow next() {
+        CSVRecord record = records.next();
+        row++;
+        try {
+          return new ParsedRow(row, new EmployeeBulkImportRow(
+              field(record, "name"),
+              field(record, "email"),
+              parseLong(field(record, "departmentId")),
+              field(record, "departmentName"),
+              field(record, "position"),
+              parseDate(field(record, "hireDate")),
+              field(record, "memo")), null);
+        } catch (NumberFormatException | DateTimeParseException e) {
+          return new ParsedRow(row, null, "값 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+      }
+    };
+  }
+
+  /**
+   * NDJSON: 한 줄에 EmployeeBulkImportRow JSON 하나, 빈 줄은 건너뜀
+   */
+  private Iterator<ParsedRow> ndjsonRows(BufferedReader reader) {
+    return new Iterator<>() {
+      private long row;
+      private String next;
+
+      @Override
+      public boolean hasNext() {
+        try {
+          while (next == null) {
+            String line = reader.readLine();
+            if (line == null) {
+              return false;
+            }
+            if (!line.isBlank()) {
+              next = line;
+            }
+          }
+          return true;
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      @Override
+      public ParsedRow next() {
+        hasNext();
+        String line = next;
+        next = null;
+        row++;
+        try {
+          return new ParsedRow(row, objectMapper.readValue(line, EmployeeBulkImportRow.class), null);
+        } catch (JsonProcessingException e) {
+          return new ParsedRow(row, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+      }
+    };
+  }
+
+  private static String field(CSVRecord record, String name) {
+    return record.isMapped(name) && record.isSet(name) ? trimToNull(record.get(name)) : null;
+  }
+
+  private static Long parseLong(String value) {
+    return value != null ? Long.valueOf(value) : null;
+  }
+
+  private static LocalDate parseDate(String value) {
+    return value != null ? LocalDate.parse(value) : null;
+  }
+
+  private static String trimToNull(String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.trim();
+    return trimmed.isEmpty() ? null : trimmed;
+  }
+
+  /**
+   * 읽은 행 (형식 오류면 value 는 null, error 에 사유)
+   */
+  private record ParsedRow(long row, EmployeeBulkImportRow value, String error) {
+  }
+
+  /**
+   * 요청 하나 동안의 부서 맵, 이메일 집합, 집계
+   */
+  private static final class ImportState {
+
+    private final Set<Long> departmentIds = new HashSet<>();
+    private final Map<String, Long> departmentIdsByName = new HashMap<>();
+    private final Set<String> seenEmails = new HashSet<>();
+    private final List<EmployeeBulkImportResultDto.RowError> errors = new ArrayList<>();
+    private final int maxReportedErrors;
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+
+    private ImportState(List<Department> departments, int maxReportedErrors) {
+      for (Department department : departments) {
+        departmentIds.add(department.getId());
+        departmentIdsByName.put(department.getName(), department.getId());
+      }
+      this.maxReportedErrors = maxReportedErrors;
+    }
+
+    private Long resolveDepartment(Long departmentId, String departmentName) {
+      if (departmentId != null) {
+        return departmentIds.contains(departmentId) ? departmentId : null;
+      }
+      return departmentName != null ? departmentIdsByName.get(departmentName) : null;
+    }
+
+    private void fail(long row, String email, String message) {
+      failedRows++;
+      if (errors.size() < maxReportedErrors) {
+        errors.add(new EmployeeBulkImportResultDto.RowError(row, email, message));
+      }
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.config.EmployeeProperties;
+import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogHighWaterMark;
+import com.team11.hrbank.module.domain.department.Department;
+import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeBulkUpdateRequest;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeBulkUpdateResultDto;
+import com.team11.hrbank.module.domain.employee.repository.HeadcountRollupRepository.HeadcountKey;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 직원 일괄 수정 (부서 이동, 상태 변경)
+ * 대상 직원의 현재 값을 한 번에 잠금 조회하고, 값이 바뀌는 직원만 UPDATE 한 번으로 수정한 뒤
+ * 변경 이력(UPDATED)과 상세 내역을 JDBC 배치로 저장한다. 상세 내역은 단건 수정과 같은 DiffEntry(부서, 상태)이다.
+ * 직원 수 집계도 같은 트랜잭션에서 키별로 모아 한 번에 옮긴다. 전체가 하나의 트랜잭션이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeBulkUpdateService {
+
+  private static final String DEFAULT_MEMO = "직원 정보 수정";
+
+  private final DataSource dataSource;
+  private final DepartmentRepository departmentRepository;
+  private final ChangeLogHighWaterMark changeLogHighWaterMark;
+  private final EmployeeProperties employeeProperties;
+  private final ObjectMapper objectMapper;
+  private final HeadcountRollupService headcountRollupService;
+
+  @Transactional(rollbackFor = {SQLException.class, JsonProcessingException.class})
+  public EmployeeBulkUpdateResultDto updateEmployees(EmployeeBulkUpdateRequest request,
+      HttpServletRequest servletRequest) throws SQLException, JsonProcessingException {
+    Set<Long> ids = validate(request);
+    Department department = request.departmentId() == null ? null
+        : departmentRepository.findById(request.departmentId())
+            .orElseThrow(() -> ResourceNotFoundException.of("Department", "id", request.departmentId()));
+    EmployeeStatus status = request.status();
+    String memo = request.memo() != null ? request.memo() : DEFAULT_MEMO;
+    String ipAddress = ClientIpResolver.resolve(servletRequest);
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      List<CurrentEmployee> current = lockCurrent(connection, ids);
+
+      // 조회된 직원을 지워 나가면 남는 것이 없는 id (요청 순서 유지)
+      Set<Long> notFoundIds = new LinkedHashSet<>(ids);
+      List<ChangedEmployee> changed = new ArrayList<>();
+      Map<HeadcountKey, Long> headcountDeltas = HeadcountRollupService.newDeltas();
+      for (CurrentEmployee employee : current) {
+        notFoundIds.remove(employee.id());
+        List<DiffEntry> changes = new ArrayList<>(2);
+        if (department != null && !Objects.equals(department.getId(), employee.departmentId())) {
+          changes.add(DiffEntry.of("부서",
+              employee.departmentName() != null ? employee.departmentName() : "", department.getName()));
+        }
+        if (status != null && !status.name().equals(employee.status())) {
+          changes.add(DiffEntry.of("상태", employee.status() != null ? employee.status() : "", status.toString()));
+        }
+        if (!changes.isEmpty()) {
+          changed.add(new ChangedEmployee(employee.id(), employee.employeeNumber(), changes));
+          EmployeeStatus currentStatus = EmployeeStatus.valueOf(employee.status());
+          headcountDeltas.merge(HeadcountKey.of(employee.hireDate(), employee.departmentId(), currentStatus),
+              -1L, Long::sum);
+          headcountDeltas.merge(HeadcountKey.of(employee.hireDate(),
+                  department != null ? department.getId() : employee.departmentId(),
+                  status != null ? status : currentStatus),
+              1L, Long::sum);
+        }
+      }
+
+      if (!changed.isEmpty()) {
+        updateEmployees(connection, changed, department, status);
+        insertChangeLogs(connection, changed, memo, ipAddress);
+        headcountRollupService.apply(headcountDeltas);
+      }
+      log.info("직원 일괄 수정 완료 - 요청 {}명, 수정 {}명, 변경 없음 {}명, 없는 직원 {}명",
+          ids.size(), changed.size(), current.size() - changed.size(), notFoundIds.size());
+      return new EmployeeBulkUpdateResultDto(ids.size(), changed.size(), current.size() - changed.size(),
+          List.copyOf(notFoundIds));
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private Set<Long> validate(EmployeeBulkUpdateRequest request) {
+    if (request.ids() == null || request.ids().isEmpty()) {
+      throw new IllegalArgumentException("수정할 직원 id 가 없습니다.");
+    }
+    if (request.departmentId() == null && request.status() == null) {
+      throw new IllegalArgumentException("departmentId 또는 status 중 하나는 지정해야 합니다.");
+    }
+    Set<Long> ids = new LinkedHashSet<>();
+    for (Long id : request.ids()) {
+      if (id != null) {
+        ids.add(id);
+      }
+    }
+    int maxIds = employeeProperties.getBulkUpdate().getMaxIds();
+    if (ids.size() > maxIds) {
+      throw new IllegalArgumentException("한 번에 수정할 수 있는 직원 수(" + maxIds + ")를 넘었습니다: " + ids.size());
+    }
+    return ids;
+  }
+
+  // 이력의 before 값이 동시 수정과 어긋나지 않도록 행을 잠그고 현재 값 조회 (id 순으로 잠가 교착 방지)
+  private static List<CurrentEmployee> lockCurrent(Connection connection, Set<Long> ids) throws SQLException {
+    List<CurrentEmployee> current = new ArrayList<>(ids.size());
+    try (PreparedStatement statement = connection.prepareStatement("""
+        SELECT e.id, e.employee_number, e.department_id, d.name, e.status, e.hire_date
+        FROM employees e
+        LEFT JOIN departments d ON d.id = e.department_id
+        WHERE e.id = ANY(?)
+        ORDER BY e.id
+        FOR UPDATE OF e
+        """)) {
+      statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          current.add(new CurrentEmployee(resultSet.getLong(1), resultSet.getString(2),
+              resultSet.getObject(3, Long.class), resultSet.getString(4), resultSet.getString(5),
+              resultSet.getObject(6, LocalDate.class)));
+        }
+      }
+    }
+    return current;
+  }
+
+  private static void updateEmployees(Connection connection, List<ChangedEmployee> changed, Department department,
+      EmployeeStatus status) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("""
+        UPDATE employees
+        SET department_id = COALESCE(?, department_id), status = COALESCE(?, status), updated_at = now()
+        WHERE id = ANY(?)
+        """)) {
+      if (department != null) {
+        statement.setLong(1, department.getId());
+      } else {
+        statement.setNull(1, Types.BIGINT);
+      }
+      if (status != null) {
+        statement.setString(2, status.name());
+      } else {
+        statement.setNull(2, Types.VARCHAR);
+      }
+      statement.setArray(3, connection.createArrayOf("bigint", changed.stream().map(ChangedEmployee::id).toArray()));
+      statement.executeUpdate();
+    }
+  }
+
+  private void insertChangeLogs(Connection connection, List<ChangedEmployee> changed, String memo,
+      String ipAddress) throws SQLException, JsonProcessingException {
+    long[] changeLogIds = new long[changed.size()];
+    try (PreparedStatement statement = connection.prepareStatement("""
+        INSERT INTO change_logs (type, employee_id, employee_number, memo, ip_address, created_at)
+        VALUES ('UPDATED', ?, ?, ?, ?::inet, now())
+        """, new String[] {"id"})) {
+      for (ChangedEmployee employee : changed) {
+        statement.setLong(1, employee.id());
+        statement.setString(2, employee.employeeNumber());
+        statement.setString(3, memo);
+        statement.setString(4, ipAddress);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+      // 배치 INSERT 의 생성 키는 addBatch 순서대로 반환된다
+      int count = 0;
+      try (ResultSet keys = statement.getGeneratedKeys()) {
+        while (keys.next()) {
+          changeLogIds[count++] = keys.getLong(1);
+        }
+      }
+      if (count != changeLogIds.length) {
+        throw new SQLException("생성된 변경 이력 id 수가 직원 수와 다릅니다: " + count + " / " + changeLogIds.length);
+      }
+    }
+
+    long maxChangeLogId = 0;
+    try (PreparedStatement statement = connection.prepareStatement(
+        "INSERT INTO change_log_diffs (change_log_id, changes) VALUES (?, ?::jsonb)")) {
+      for (int i = 0; i < changed.size(); i++) {
+        statement.setLong(1, changeLogIds[i]);
+        statement.setString(2, objectMapper.writeValueAsString(changed.get(i).changes()));
+        statement.addBatch();
+        maxChangeLogId = Math.max(maxChangeLogId, changeLogIds[i]);
+      }
+      statement.executeBatch();
+    }
+    changeLogHighWaterMark.bumpAfterCommit(maxChangeLogId);
+  }
+
+  private record CurrentEmployee(long id, String employeeNumber, Long departmentId, String departmentName,
+                                 String status, LocalDate hireDate) {
+  }
+
+  private record ChangedEmployee(long id, String employeeNumber, List<DiffEntry> changes) {
+  }
+}
@@ -0,0 +1,146 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.domain.EmployeeNumberGenerator;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogHighWaterMark;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.repository.HeadcountRollupRepository.HeadcountKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 직원 일괄 등록 저장
+ * 엔티티를 만들지 않고 직원과 CREATED 변경 이력을 JDBC 배치 INSERT 로 저장한다. (호출 한 번 = 트랜잭션 하나)
+ * 직원 수 집계는 같은 트랜잭션에서 키별로 모아 한 번에 증가시킨다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeBulkWriter {
+
+  private final DataSource dataSource;
+  private final EmployeeNumberGenerator employeeNumberGenerator;
+  private final ChangeLogHighWaterMark changeLogHighWaterMark;
+  private final HeadcountRollupService headcountRollupService;
+
+  /**
+   * 검증을 통과한 일괄 등록 행
+   * @param row 데이터 행 번호 (헤더 제외, 1부터)
+   */
+  public record BulkEmployee(long row, String name, String email, Long departmentId, String position,
+                             LocalDate hireDate, String memo) {
+  }
+
+  /**
+   * 이미 등록된 이메일 (email UNIQUE 인덱스로 한 번에 조회)
+   */
+  @Transactional(readOnly = true)
+  public Set<String> findExistingEmails(Collection<String> emails) throws SQLException {
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try (PreparedStatement statement = connection.prepareStatement(
+        "SELECT email FROM employees WHERE email = ANY(?)")) {
+      statement.setArray(1, connection.createArrayOf("varchar", emails.toArray()));
+      Set<String> existing = new HashSet<>();
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          existing.add(resultSet.getString(1));
+        }
+      }
+      return existing;
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  /**
+   * 직원과 CREATED 변경 이력을 배치 INSERT (하나라도 실패하면 전체 롤백)
+   * @param ipAddress 변경 이력에 남길 요청 IP
+   */
+  @Transactional(rollbackFor = SQLException.class)
+  public void insert(List<BulkEmployee> employees, String ipAddress) throws SQLException {
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      String[] employeeNumbers = new String[employees.size()];
+      long[] employeeIds = new long[employees.size()];
+
+      try (PreparedStatement statement = connection.prepareStatement("""
+          INSERT INTO employees (name, email, employee_number, department_id, "position", hire_date, status, created_at)
+          VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', now())
+          """, new String[] {"id"})) {
+        for (int i = 0; i < employees.size(); i++) {
+          BulkEmployee employee = employees.get(i);
+          employeeNumbers[i] = employeeNumberGenerator.generateEmployeeNumber();
+          statement.setString(1, employee.name());
+          statement.setString(2, employee.email());
+          statement.setString(3, employeeNumbers[i]);
+          if (employee.departmentId() != null) {
+            statement.setLong(4, employee.departmentId());
+          } else {
+            statement.setNull(4, Types.BIGINT);
+          }
+          statement.setString(5, employee.position());
+          statement.setObject(6, employee.hireDate());
+          statement.addBatch();
+        }
+        statement.executeBatch();
+        readGeneratedIds(statement, employeeIds);
+      }
+
+      long maxChangeLogId = 0;
+      try (PreparedStatement statement = connection.prepareStatement("""
+          INSERT INTO change_logs (type, employee_id, employee_number, memo, ip_address, created_at)
+          VALUES ('CREATED', ?, ?, ?, ?::inet, now())
+          """, new String[] {"id"})) {
+        for (int i = 0; i < employees.size(); i++) {
+          statement.setLong(1, employeeIds[i]);
+          statement.setString(2, employeeNumbers[i]);
+          statement.setString(3, employees.get(i).memo());
+          statement.setString(4, ipAddress);
+          statement.addBatch();
+        }
+        statement.executeBatch();
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+          while (keys.next()) {
+            maxChangeLogId = Math.max(maxChangeLogId, keys.getLong(1));
+          }
+        }
+      }
+      changeLogHighWaterMark.bumpAfterCommit(maxChangeLogId);
+
+      Map<HeadcountKey, Long> headcountDeltas = HeadcountRollupService.newDeltas();
+      for (BulkEmployee employee : employees) {
+        headcountDeltas.merge(HeadcountKey.of(employee.hireDate(), employee.departmentId(), EmployeeStatus.ACTIVE),
+            1L, Long::sum);
+      }
+      headcountRollupService.apply(headcountDeltas);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  // 배치 INSERT 의 생성 키는 addBatch 순서대로 반환된다
+  private static void readGeneratedIds(PreparedStatement statement, long[] ids) throws SQLException {
+    int count = 0;
+    try (ResultSet keys = statement.getGeneratedKeys()) {
+      while (keys.next()) {
+        ids[count++] = keys.getLong(1);
+      }
+    }
+    if (count != ids.length) {
+      throw new SQLException("생성된 직원 id 수가 행 수와 다릅니다: " + count + " / " + ids.length);
+    }
+  }
+}
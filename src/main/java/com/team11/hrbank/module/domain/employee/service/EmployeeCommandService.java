@@ -7,6 +7,7 @@ import com.team11.hrbank.module.domain.changelog.ChangeLogDiff;
 import com.team11.hrbank.module.domain.changelog.DiffEntry;
 import com.team11.hrbank.module.domain.changelog.HistoryType;
 import com.team11.hrbank.module.domain.changelog.repository.ChangeLogRepository;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogHighWaterMark;
 import com.team11.hrbank.module.domain.department.Department;
 import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
 import com.team11.hrbank.module.domain.employee.Employee;
@@ -14,21 +15,26 @@ import com.team11.hrbank.module.domain.employee.EmployeeStatus;
 import com.team11.hrbank.module.domain.employee.dto.EmployeeCreateRequest;
 import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
 import com.team11.hrbank.module.domain.employee.dto.EmployeeUpdateRequest;
+import com.team11.hrbank.module.domain.employee.exception.DuplicateEmailException;
 import com.team11.hrbank.module.domain.employee.mapper.EmployeeMapper;
 import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import com.team11.hrbank.module.domain.employee.repository.HeadcountRollupRepository.HeadcountKey;
 import com.team11.hrbank.module.domain.file.File;
 import com.team11.hrbank.module.domain.file.service.FileService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -41,16 +47,19 @@ public class EmployeeCommandService {
   private final EmployeeMapper employeeMapper;
   private final EmployeeNumberGenerator employeeNumberGenerator;
   private final ChangeLogRepository changeLogRepository;
+  private final ChangeLogHighWaterMark changeLogHighWaterMark;
+  private final EmployeeEmailFilter employeeEmailFilter;
+  private final HeadcountRollupService headcountRollupService;
 
   // 직원 생성
   @Transactional
   public EmployeeDto createEmployee(EmployeeCreateRequest employeeCreateRequest,
       MultipartFile file, HttpServletRequest request) throws Exception {
 
-    /** 요구 조건 : 이메일 중복 여부 검증 -> 레포지토리 단에서 email 컬럼만 들고올 수 있는 메서드 작성 **/
-    if (employeeRepository.findAllEmails().stream()
-            .anyMatch(email -> email.equals(employeeCreateRequest.email()))) {
-      throw new IllegalArgumentException("email(" + employeeCreateRequest.email() + ")은 이미 존재합니다.");
+    // 이메일 중복 검증 (UNIQUE 인덱스 조회, Bloom filter 가 새 이메일로 판단하면 조회 생략)
+    String email = employeeCreateRequest.email();
+    if (employeeEmailFilter.mightExist(email) && employeeRepository.existsByEmail(email)) {
+      throw new DuplicateEmailException(email);
     }
 
     File savedProfileImage = null;
@@ -76,8 +85,10 @@ public class EmployeeCommandService {
         .status(EmployeeStatus.ACTIVE) // 재직중 초기화 조건, 엔티티에 설정된 에노테이션은 DB 레벨에 지정된 것
         .build();
 
-    // 직원 저장
-    employeeRepository.save(employee);
+    // 직원 저장 (IDENTITY 라 바로 INSERT 되므로 동시 생성으로 인한 UNIQUE 위반도 여기서 잡힌다)
+    saveWithEmailCheck(email, () -> employeeRepository.save(employee));
+    employeeEmailFilter.add(email);
+    headcountRollupService.added(employee);
 
     // 직원 변경 이력 생성
     String ipAddress = getIpAddress(request);
@@ -88,6 +99,7 @@ public class EmployeeCommandService {
         HistoryType.CREATED);
 
     changeLogRepository.save(changeLog);
+    changeLogHighWaterMark.bumpAfterCommit(changeLog.getId());
 
     return employeeMapper.toDto(employee);
   }
@@ -99,6 +111,7 @@ public class EmployeeCommandService {
 
     Employee employee = employeeRepository.findById(id)
         .orElseThrow(() -> ResourceNotFoundException.of("Employee", "id", id));
+    HeadcountKey headcountBefore = HeadcountKey.of(employee);
 
     List<DiffEntry> changes = new ArrayList<>();
     boolean hasChanges = false;
@@ -116,16 +129,17 @@ public class EmployeeCommandService {
     // 이메일 변경
     if (employeeUpdateRequest.email() != null && !employeeUpdateRequest.email()
         .equals(employee.getEmail())) {
-      // 중복 검사 (자기 자신 제외)
-      if (employeeRepository.findAllEmails().stream()
-          .filter(email -> !email.equals(employee.getEmail()))
-          .anyMatch(email -> email.equals(employeeUpdateRequest.email()))) {
-        throw new IllegalArgumentException(
-            "email: " + employeeUpdateRequest.email() + " 은 이미 존재합니다.");
+      // 중복 검사 (현재 이메일과 다른 경우만 오므로 자기 자신은 걸리지 않음)
+      String email = employeeUpdateRequest.email();
+      if (employeeEmailFilter.mightExist(email) && employeeRepository.existsByEmail(email)) {
+        throw new DuplicateEmailException(email);
       }
 
-      changes.add(DiffEntry.of("이메일", employee.getEmail(), employeeUpdateRequest.email()));
-      employee.updateEmail(employeeUpdateRequest.email());
+      changes.add(DiffEntry.of("이메일", employee.getEmail(), email));
+      employee.updateEmail(email);
+      // 커밋 시점이 아니라 여기서 UPDATE 해 UNIQUE 위반을 409 로 변환
+      saveWithEmailCheck(email, () -> employeeRepository.saveAndFlush(employee));
+      employeeEmailFilter.add(email);
       hasChanges = true;
     }
 
@@ -216,8 +230,11 @@ public class EmployeeCommandService {
       changeLog.setChangeLogDiff(changeLogDiff);
 
       changeLogRepository.save(changeLog);
+      changeLogHighWaterMark.bumpAfterCommit(changeLog.getId());
 
     }
+    // 입사일/부서/상태가 바뀐 경우 직원 수 집계 이동
+    headcountRollupService.moved(headcountBefore, HeadcountKey.of(employee));
     return employeeMapper.toDto(employee);
   }
 
@@ -235,6 +252,7 @@ public class EmployeeCommandService {
     String email = employee.getEmail();
     String status = employee.getStatus() != null ? employee.getStatus().toString() : "";
     String hireDate = employee.getHireDate() != null ? employee.getHireDate().toString() : "";
+    HeadcountKey headcountKey = HeadcountKey.of(employee);
 
     // 프로필 이미지 정보 추출 및 참조 제거
     File profileImage = employee.getProfileImage();
@@ -245,17 +263,12 @@ public class EmployeeCommandService {
 
     // 직원 삭제
     employeeRepository.delete(employee);
+    headcountRollupService.removed(headcountKey);
     log.info("직원 id: {} db에서 완전히 삭제", id);
 
     // 삭제 이력 생성 (employee 참조 없이 처리)
     try {
-      String ipAddress;
-      try {
-        ipAddress = getIpAddress(request);
-      } catch (UnknownHostException e) {
-        log.warn("IP 주소 조회 실패, 기본값 사용: {}", e.getMessage());
-        ipAddress = "0.0.0.0";
-      }
+      String ipAddress = getIpAddress(request);
 
       // employee 파라미터 없이 처리
       ChangeLog changeLog = ChangeLog.createForDelete(
@@ -277,6 +290,7 @@ public class EmployeeCommandService {
       changeLog.setChangeLogDiff(changeLogDiff);
 
       changeLogRepository.save(changeLog);
+      changeLogHighWaterMark.bumpAfterCommit(changeLog.getId());
       log.info("직원 삭제 이력 생성 완료: {}", employeeNumber);
 
     } catch (Exception e) {
@@ -294,49 +308,32 @@ public class EmployeeCommandService {
     }
   }
 
-  private String getIpAddress(HttpServletRequest request) throws UnknownHostException {
-    String ipAddress = null;
-
-    //프록시 헤더 확인
-    String[] headers = {
-            "X-Forwarded-For",
-            "Proxy-Client-IP",
-            "WL-Proxy-Client-IP",
-            "HTTP_X_FORWARDED_FOR",
-            "HTTP_X_FORWARDED",
-            "HTTP_X_CLUSTER_CLIENT_IP",
-            "HTTP_CLIENT_IP",
-            "HTTP_FORWARDED_FOR",
-            "HTTP_FORWARDED",
-            "HTTP_VIA",
-            "REMOTE_ADDR"
-    };
-
-    for (String header : headers) {
-      ipAddress = request.getHeader(header);
-      if (ipAddress != null && !ipAddress.isEmpty() && !"unknown".equalsIgnoreCase(ipAddress)) {
-        break;
+  /**
+   * 동시에 같은 이메일로 저장하면 둘 다 중복 검사를 통과할 수 있으므로 email UNIQUE 위반을 DuplicateEmailException 으로 변환
+   */
+  private <T> T saveWithEmailCheck(String email, Supplier<T> write) {
+    try {
+      return write.get();
+    } catch (DataIntegrityViolationException e) {
+      if (isEmailConstraintViolation(e)) {
+        throw new DuplicateEmailException(email, e);
       }
+      throw e;
     }
+  }
 
-    // 모든 헤더에서 실패하면 직접 IP 가져오기
-    if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-      ipAddress = request.getRemoteAddr();
-    }
-
-    // 로컬호스트 주소 처리
-    if (ipAddress == null || ipAddress.isEmpty() || "0:0:0:0:0:0:0:1".equals(ipAddress)) {
-      ipAddress = "127.0.0.1";
-    }
-
-    // 쉼표로 구분된 여러 IP 주소가 있는 경우 첫 번째 주소만 사용
-    if (ipAddress != null && ipAddress.contains(",")) {
-      ipAddress = ipAddress.split(",")[0].trim();
+  private static boolean isEmailConstraintViolation(DataIntegrityViolationException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation) {
+        String constraintName = violation.getConstraintName();
+        return constraintName != null && constraintName.toLowerCase(Locale.ROOT).contains("email");
+      }
     }
+    return false;
+  }
 
-    log.info("추출된 클라이언트 IP 주소: {}", ipAddress);
-
-    return ipAddress;
+  private String getIpAddress(HttpServletRequest request) {
+    return ClientIpResolver.resolve(request);
   }
 
 }
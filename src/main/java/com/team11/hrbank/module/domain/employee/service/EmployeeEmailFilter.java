@@ -0,0 +1,70 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.common.config.EmployeeProperties;
+import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 등록된 적 없는 이메일을 DB 조회 없이 걸러내는 Bloom filter (employee.email-filter.enabled)
+ * 시작할 때 기존 이메일을 한 번 읽어 채우고, 이후에는 이 노드에서 생성/수정한 이메일만 추가한다.
+ * 다른 노드가 추가한 이메일은 반영되지 않아 "새 이메일"로 잘못 판단할 수 있지만,
+ * 그 경우에도 UNIQUE 인덱스가 저장을 막고 409 로 변환되므로 중복은 허용되지 않는다.
+ * 삭제/변경으로 쓰이지 않게 된 이메일은 남아 있어 DB 조회가 한 번 더 일어날 뿐이다.
+ */
+@Slf4j
+@Component
+public class EmployeeEmailFilter {
+
+  private final EmployeeRepository employeeRepository;
+  private final EmployeeProperties.EmailFilter properties;
+  private final BloomFilter filter;
+  private volatile boolean loaded;
+
+  public EmployeeEmailFilter(EmployeeRepository employeeRepository, EmployeeProperties employeeProperties) {
+    this.employeeRepository = employeeRepository;
+    this.properties = employeeProperties.getEmailFilter();
+    this.filter = properties.isEnabled()
+        ? new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate())
+        : null;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void load() {
+    if (filter == null) {
+      return;
+    }
+    long count = 0;
+    try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+      for (String email : (Iterable<String>) emails::iterator) {
+        filter.put(email);
+        count++;
+      }
+    }
+    loaded = true;
+    log.info("이메일 Bloom filter 적재 완료: {}건", count);
+  }
+
+  /**
+   * 이미 등록된 이메일일 수 있는지 여부 (false 면 DB 조회 없이 새 이메일로 판단)
+   * 비활성화됐거나 아직 적재 전이면 항상 true
+   */
+  public boolean mightExist(String email) {
+    return filter == null || !loaded || filter.mightContain(email);
+  }
+
+  /**
+   * 저장한 이메일 추가 (롤백돼도 오탐만 늘어나므로 커밋 전에 추가해도 된다)
+   */
+  public void add(String email) {
+    if (filter != null && email != null) {
+      filter.put(email);
+    }
+  }
+}
@@ -18,8 +18,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -30,6 +32,7 @@ public class EmployeeQueryService {
   private final EmployeeRepository employeeRepository;
   private final EmployeeRepositoryCustom employeeRepositoryCustom;
   private final EmployeeMapper employeeMapper;
+  private final HeadcountRollupService headcountRollupService;
 
   // 부서 별 직원 수
   public Long countByDepartmentId(Long departmentId) {
@@ -182,178 +185,70 @@ public class EmployeeQueryService {
     }
 
     return switch (periodType.toLowerCase()){
-      case "day" -> getDailyStats(from, to);
-      case "week" -> getWeeklyStats(from, to);
-      case "month" -> getMonthlyStats(from, to);
-      case "quarter" -> getQuarterlyStats(from, to);
-      case "year" -> getYearlyStats(from, to);
+      case "day" -> getTrendStats(from, to, Period.ofDays(1));
+      //주 시작일을 수요일로 조정(프로토타입과 일치)
+      case "week" -> getTrendStats(from.with(DayOfWeek.WEDNESDAY), to, Period.ofWeeks(1));
+      case "month" -> getTrendStats(from.withDayOfMonth(1), to, Period.ofMonths(1));
+      // 분기의 첫날로 조정
+      case "quarter" -> getTrendStats(
+          from.withMonth((from.getMonthValue() - 1) / 3 * 3 + 1).withDayOfMonth(1), to, Period.ofMonths(3));
+      case "year" -> getTrendStats(from.withDayOfYear(1), to, Period.ofYears(1));
       default -> throw new IllegalArgumentException("올바르지 않은 시간 단위입니다:" + periodType);
     };
   }
 
-  //일별 통계 조회
-  private List<EmployeeTrendDto> getDailyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> dailyStats = new ArrayList<>();
-    LocalDate current = from;
-
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate nextDay = current.plusDays(1);
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, nextDay);
-
-      // 이전 날의 데이터를 구하기 위한 코드
-      LocalDate previousDay = current.minusDays(1);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(previousDay, current);
-
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      dailyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = nextDay;
+  // 구간별 입사자 수와 직전 구간 대비 변화량
+  // 첫 구간의 직전 구간부터 마지막 구간 끝까지 입사일별 입사자 수를 한 번에 조회하고 (집계 테이블을 켜면 headcount_daily 에서),
+  // 입사일 순으로 한 번 훑으며 구간에 합산한다. (구간은 [시작일, 다음 구간 시작일))
+  private List<EmployeeTrendDto> getTrendStats(LocalDate start, LocalDate to, Period period) {
+    // 0번은 첫 구간의 변화량 계산용 직전 구간
+    List<LocalDate> bucketStarts = new ArrayList<>();
+    bucketStarts.add(start.minus(period));
+    for (LocalDate current = start; !current.isAfter(to); current = current.plus(period)) {
+      bucketStarts.add(current);
     }
-
-    return dailyStats;
-  }
-
-  // 주별 데이터 처리
-  private List<EmployeeTrendDto> getWeeklyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> weeklyStats = new ArrayList<>();
-    LocalDate current = from;
-    //주 시작일을 수요일로 조정(프로토타입과 일치)
-    current = current.with(DayOfWeek.WEDNESDAY);
-
-    // 주 시작일을 기준으로 진행
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate endOfWeek = current.plusWeeks(1);
-
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, endOfWeek);
-
-      // 지난주 데이터
-      LocalDate previousWeekStart = current.minusWeeks(1);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(
-          previousWeekStart, current);
-
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      weeklyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = endOfWeek;
+    if (bucketStarts.size() == 1) {
+      return new ArrayList<>();
     }
-
-    return weeklyStats;
-  }
-
-  // 월별 데이터 처리
-  private List<EmployeeTrendDto> getMonthlyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> monthlyStats = new ArrayList<>();
-    LocalDate current = from.withDayOfMonth(1);
-
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate nextMonth = current.plusMonths(1);
-
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, nextMonth);
-
-      // 이전 월의 데이터
-      LocalDate previousMonth = current.minusMonths(1);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(previousMonth, current);
-
-      // 변화량 계산
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      monthlyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = nextMonth;
-    }
-
-    return monthlyStats;
-  }
-
-  // 분기별 통계 조회
-  private List<EmployeeTrendDto> getQuarterlyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> quarterlyStats = new ArrayList<>();
-
-    // 분기의 첫날로 조정
-    int currentQuarter = (from.getMonthValue() - 1) / 3;
-    LocalDate current = from.withMonth(currentQuarter * 3 + 1).withDayOfMonth(1);
-
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate nextQuarter = current.plusMonths(3);
-
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, nextQuarter);
-
-      // 이전 분기의 데이터
-      LocalDate previousQuarter = current.minusMonths(3);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(
-          previousQuarter, current);
-
-      // 변화량 계산
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      quarterlyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = nextQuarter;
+    LocalDate end = bucketStarts.get(bucketStarts.size() - 1).plus(period);
+
+    long[] counts = new long[bucketStarts.size()];
+    int bucket = 0;
+    Map<LocalDate, Long> hireCounts = headcountRollupService.isEnabled()
+        ? headcountRollupService.countByHireDate(bucketStarts.get(0), end)
+        : employeeRepositoryCustom.countByHireDate(bucketStarts.get(0), end);
+    for (Map.Entry<LocalDate, Long> entry : hireCounts.entrySet()) {
+      while (bucket + 1 < bucketStarts.size() && !entry.getKey().isBefore(bucketStarts.get(bucket + 1))) {
+        bucket++;
+      }
+      counts[bucket] += entry.getValue();
     }
 
-    return quarterlyStats;
-  }
-
-
-  // 연도별 통계
-  private List<EmployeeTrendDto> getYearlyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> yearlyStats = new ArrayList<>();
-    LocalDate current = from.withDayOfYear(1);
-
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate nextYear = current.plusYears(1);
-
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, nextYear);
-
-      // 전년도 데이터
-      LocalDate previousYear = current.minusYears(1);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(previousYear, current);
+    List<EmployeeTrendDto> stats = new ArrayList<>(bucketStarts.size() - 1);
+    for (int i = 1; i < bucketStarts.size(); i++) {
+      long currentCount = counts[i];
+      long previousCount = counts[i - 1];
 
       long change = currentCount - previousCount;
       double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
 
-      yearlyStats.add(new EmployeeTrendDto(
-          current.toString(),
+      stats.add(new EmployeeTrendDto(
+          bucketStarts.get(i).toString(),
           currentCount,
           change,
           Math.round(changeRate * 100) / 100.0
       ));
-
-      current = nextYear;
     }
 
-    return yearlyStats;
+    return stats;
   }
 
 
   // 직원 수 조회
   public long getEmployeeCount(EmployeeStatus status, LocalDate fromDate, LocalDate toDate) {
+    if (headcountRollupService.isEnabled()) {
+      return headcountRollupService.count(status, fromDate, toDate);
+    }
     return employeeRepositoryCustom.countByStatusAndHireDateBetween(status, fromDate, toDate);
   }
 
@@ -0,0 +1,104 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.common.config.EmployeeProperties;
+import com.team11.hrbank.module.domain.employee.Employee;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.repository.HeadcountRollupRepository;
+import com.team11.hrbank.module.domain.employee.repository.HeadcountRollupRepository.HeadcountKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 직원 수 일별 집계(headcount_daily) 유지
+ * 직원 생성/수정/삭제와 같은 트랜잭션에서 입사일 x 부서 x 상태 별 직원 수를 증감하고,
+ * 기동 시 employees 로부터 재집계해 설정이 꺼져 있던 동안의 변경을 맞춘다.
+ * 꺼져 있으면 증감하지 않으며 통계는 employees 를 직접 집계한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeadcountRollupService {
+
+  private final HeadcountRollupRepository headcountRollupRepository;
+  private final EmployeeProperties employeeProperties;
+
+  public boolean isEnabled() {
+    return employeeProperties.getHeadcountRollup().isEnabled();
+  }
+
+  // 직원 추가
+  public void added(Employee employee) {
+    if (isEnabled()) {
+      headcountRollupRepository.adjust(Map.of(HeadcountKey.of(employee), 1L));
+    }
+  }
+
+  // 직원 입사일/부서/상태 변경
+  public void moved(HeadcountKey before, HeadcountKey after) {
+    if (isEnabled() && !before.equals(after)) {
+      headcountRollupRepository.adjust(Map.of(before, -1L, after, 1L));
+    }
+  }
+
+  // 직원 삭제
+  public void removed(HeadcountKey key) {
+    if (isEnabled()) {
+      headcountRollupRepository.adjust(Map.of(key, -1L));
+    }
+  }
+
+  /**
+   * 키별 증감을 모아 한 번에 반영 (일괄 등록/수정용)
+   */
+  public void apply(Map<HeadcountKey, Long> deltas) {
+    if (isEnabled() && !deltas.isEmpty()) {
+      headcountRollupRepository.adjust(deltas);
+    }
+  }
+
+  /**
+   * 증감을 모을 빈 맵 (키 순서 유지)
+   */
+  public static Map<HeadcountKey, Long> newDeltas() {
+    return new TreeMap<>();
+  }
+
+  /**
+   * employees 로부터 재집계 (백필, 복원 후 호출)
+   */
+  @Transactional
+  public void rebuild() {
+    if (!isEnabled()) {
+      return;
+    }
+    long startNanos = System.nanoTime();
+    int rows = headcountRollupRepository.rebuild();
+    log.info("직원 수 집계 재생성 완료 - {}행, {} ms", rows, (System.nanoTime() - startNanos) / 1_000_000);
+  }
+
+  @Transactional
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    rebuild();
+  }
+
+  // 입사일별 직원 수 (from 이상 toExclusive 미만, 입사일 오름차순)
+  @Transactional(readOnly = true)
+  public Map<LocalDate, Long> countByHireDate(LocalDate from, LocalDate toExclusive) {
+    return headcountRollupRepository.sumByHireDate(from, toExclusive);
+  }
+
+  // 상태, 입사일 범위(양 끝 포함) 조건의 직원 수
+  @Transactional(readOnly = true)
+  public long count(EmployeeStatus status, LocalDate fromDate, LocalDate toDate) {
+    return headcountRollupRepository.sum(status, fromDate, toDate);
+  }
+}
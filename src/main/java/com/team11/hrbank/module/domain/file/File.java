@@ -29,4 +29,10 @@ public class File extends BaseEntity {  // BaseEntity 상속받기
     @NotNull
     @Column(name = "size", nullable = false)
     private Long size;  // 파일 크기 추가
+
+    @Column(name = "codec", length = 20)
+    private String codec;  // 압축 코덱 (압축하지 않은 파일은 null)
+
+    @Column(name = "uncompressed_size")
+    private Long uncompressedSize;  // 압축 전 크기
 }
@@ -4,13 +4,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.io.IOException;
-
 @RequestMapping("/api/files")
 @Tag(name = "파일 관리", description = "파일 관리 API")
 public interface FileApi {
@@ -22,15 +21,18 @@ public interface FileApi {
    */
   @Operation(
       summary = "파일 다운로드",
-      description = "파일을 다운로드합니다.",
+      description = "파일을 다운로드합니다. Range 요청으로 이어받기를 지원합니다.",
       responses = {
           @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+          @ApiResponse(responseCode = "206", description = "Range 요청 부분 다운로드 성공"),
+          @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match, If-Modified-Since)"),
+          @ApiResponse(responseCode = "416", description = "요청한 Range 가 파일 크기를 벗어남"),
           @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
           @ApiResponse(responseCode = "500", description = "서버 오류")
       }
   )
   @GetMapping("/{id}/download")
-  ResponseEntity<byte[]> downloadFile(
+  ResponseEntity<Resource> downloadFile(
       @Parameter(description = "파일 ID", required = true)
-      @PathVariable("id") long id) throws IOException;
+      @PathVariable("id") long id);
 }
\ No newline at end of file
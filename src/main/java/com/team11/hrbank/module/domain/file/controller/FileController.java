@@ -1,18 +1,19 @@
 package com.team11.hrbank.module.domain.file.controller;
 
 import com.team11.hrbank.module.domain.file.File;
+import com.team11.hrbank.module.domain.file.service.FileDownload;
 import com.team11.hrbank.module.domain.file.service.FileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
@@ -28,19 +29,23 @@ public class FileController implements FileApi {
      * 파일 다운로드 API
      * 파일을 다운로드하고 원본 파일명을 유지하여 반환.
      * Content-Type을 명확히 지정하여 OpenAPI 명세와 일치하도록 수정.
+     * 파일은 Resource 로 반환해 고정 크기 버퍼로 스트리밍한다. (Content-Length, Range -> 206 은 스프링이 처리)
+     * ETag/Last-Modified 가 있으면 If-None-Match, If-Modified-Since 조건부 요청에 304 로 응답한다.
      */
     @GetMapping("/{id}/download")
-    public ResponseEntity<byte[]> downloadFile(@PathVariable("id") long id) throws IOException {
-        File fileEntity = fileService.getFileById(id);
+    public ResponseEntity<Resource> downloadFile(@PathVariable("id") long id) {
+        FileDownload download = fileService.downloadFile(id);
+        File fileEntity = download.file();
         log.info("파일 다운로드 요청: {}", fileEntity.getFileName());
 
-        byte[] fileData = fileService.downloadFile(id);
         String encodedFileName = URLEncoder.encode(fileEntity.getFileName(), StandardCharsets.UTF_8).replace("+", "%20");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFileName + "\"");
-        headers.add(HttpHeaders.CONTENT_TYPE, "application/octet-stream"); // Content-Type 명시적 지정
-
-        return new ResponseEntity<>(fileData, headers, HttpStatus.OK);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFileName + "\"")
+            .contentType(MediaType.APPLICATION_OCTET_STREAM); // Content-Type 명시적 지정
+        if (download.eTag() != null) {
+            response.eTag(download.eTag()).lastModified(download.lastModified());
+        }
+        return response.body(download.resource());
     }
 }
\ No newline at end of file
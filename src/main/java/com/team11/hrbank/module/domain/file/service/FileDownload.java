@@ -0,0 +1,13 @@
+package com.team11.hrbank.module.domain.file.service;
+
+import com.team11.hrbank.module.domain.file.File;
+import org.springframework.core.io.Resource;
+
+/**
+ * 다운로드할 파일 정보
+ * @param file 파일 엔티티
+ * @param resource 디스크에서 스트리밍할 파일 (물리 파일이 없으면 빈 리소스)
+ * @param eTag 조건부 요청/이어받기용 strong ETag (물리 파일이 없으면 null)
+ * @param lastModified 파일 수정 시각 (epoch millis, 물리 파일이 없으면 -1)
+ */
+public record FileDownload(File file, Resource resource, String eTag, long lastModified) {}
@@ -0,0 +1,20 @@
+package com.team11.hrbank.module.domain.file.service;
+
+import com.team11.hrbank.module.domain.file.File;
+
+/**
+ * 디스크에 그대로 있지 않은 파일(원격 저장소, 청크로 나눠 저장한 파일 등)의 다운로드 리소스를 만드는 확장 지점
+ * 파일을 저장한 모듈이 구현해 빈으로 등록하면 FileService 가 다운로드할 때 먼저 확인한다.
+ */
+public interface FileDownloadResolver {
+
+  /**
+   * 이 리졸버가 다운로드를 처리할 파일인지
+   */
+  boolean supports(File file);
+
+  /**
+   * 다운로드할 리소스와 ETag
+   */
+  FileDownload resolve(File file);
+}
@@ -7,6 +7,9 @@ import com.team11.hrbank.module.domain.file.exception.FileDownloadException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -24,6 +28,7 @@ import java.util.UUID;
 public class FileService {
   private final FileStorageProperties fileStorageProperties;
   private final FileTransactionService fileTransactionService;
+  private final List<FileDownloadResolver> downloadResolvers;
 
   /**
    * 파일 업로드 처리
@@ -89,21 +94,34 @@ public class FileService {
 
   /**
    * 파일 다운로드
+   * 파일 내용을 메모리에 올리지 않고 디스크에서 스트리밍할 리소스를 반환한다. (Range 요청은 컨트롤러에서 처리)
+   * 원격 저장소/청크 저장 파일처럼 디스크에 그대로 있지 않은 파일은 해당 FileDownloadResolver 가 리소스를 만든다.
    * @param fileId 파일 ID
-   * @return 파일 바이트 배열
+   * @return 다운로드할 파일 정보
    */
-  public byte[] downloadFile(Long fileId) {
-    try {
-      File fileEntity = fileTransactionService.getFileById(fileId);
-      Path filePath = Paths.get(fileEntity.getFilePath());
+  public FileDownload downloadFile(Long fileId) {
+    File fileEntity = fileTransactionService.getFileById(fileId);
+    for (FileDownloadResolver resolver : downloadResolvers) {
+      if (resolver.supports(fileEntity)) {
+        return resolver.resolve(fileEntity);
+      }
+    }
+    Path filePath = Paths.get(fileEntity.getFilePath());
 
-      if (!Files.exists(filePath)) {
-        log.warn("해당 파일이 물리적으로 존재하지 않습니다 {}", filePath);
-        return new byte[0]; //빈바이트 배열 반환 (대안: 프론트 수정해서 기본 이미지 반환)
+    if (!Files.exists(filePath)) {
+      log.warn("해당 파일이 물리적으로 존재하지 않습니다 {}", filePath);
+      //빈 리소스 반환 (대안: 프론트 수정해서 기본 이미지 반환)
+      return new FileDownload(fileEntity, new ByteArrayResource(new byte[0]), null, -1);
 //        throw ResourceNotFoundException.of("File", "filePath", fileEntity.getFilePath());
-      }
+    }
 
-      return Files.readAllBytes(filePath);
+    try {
+      Resource resource = new FileSystemResource(filePath);
+      long size = resource.contentLength();
+      long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+      // 파일 ID + 크기 + 수정 시각: 내용이 바뀌면 이어받기(If-Range)와 캐시가 무효화된다
+      String eTag = "\"" + fileId + "-" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+      return new FileDownload(fileEntity, resource, eTag, lastModified);
     } catch (IOException e) {
       log.error("파일 읽기 실패: {}", e.getMessage());
       throw new FileDownloadException("파일을 읽을 수 없습니다: " + fileId, e);
@@ -75,4 +75,54 @@ ALTER TABLE change_logs
 DROP CONSTRAINT IF EXISTS change_logs_employee_id_fkey,
     ALTER COLUMN employee_id DROP NOT NULL,
     ADD CONSTRAINT change_logs_employee_id_fkey
-        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE SET NULL;
\ No newline at end of file
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE SET NULL;
+
+-- 증분 백업: 백업 유형 및 부모 백업 링크
+ALTER TABLE backup_histories
+    ADD COLUMN type VARCHAR(20) NOT NULL DEFAULT 'FULL' CHECK (type IN ('FULL', 'INCREMENTAL')),
+    ADD COLUMN parent_backup_id BIGINT REFERENCES backup_histories (id);
+
+-- 백업 파일 압축: 코덱 및 압축 전 크기
+ALTER TABLE files
+    ADD COLUMN codec VARCHAR(20),
+    ADD COLUMN uncompressed_size BIGINT;
+
+-- 다중 노드 백업 lease (lease 보유 노드만 백업 실행)
+CREATE TABLE backup_leases (
+                               name VARCHAR(50) PRIMARY KEY,
+                               owner VARCHAR(255) NOT NULL,
+                               acquired_at TIMESTAMPTZ NOT NULL,
+                               expires_at TIMESTAMPTZ NOT NULL
+);
+
+-- 백업 변경 감지: 백업이 포함한 마지막 change_logs.id
+ALTER TABLE backup_histories
+    ADD COLUMN last_change_log_id BIGINT;
+
+-- 체크포인트 백업: 마지막으로 디스크에 확정된 세그먼트 위치 (중단된 백업 재개용)
+ALTER TABLE backup_histories
+    ADD COLUMN checkpoint_employee_id BIGINT,
+    ADD COLUMN checkpoint_segments INT;
+
+-- 직원 수 추이: 입사일 범위 집계
+CREATE INDEX idx_employees_hire_date ON employees (hire_date);
+
+-- 직원 수 일별 집계: 입사일 x 부서 x 상태 별 직원 수 (부서 없음은 department_id 0)
+CREATE TABLE headcount_daily (
+                                 hire_date DATE NOT NULL,
+                                 department_id BIGINT NOT NULL,
+                                 status VARCHAR(20) NOT NULL,
+                                 headcount BIGINT NOT NULL DEFAULT 0,
+                                 PRIMARY KEY (hire_date, department_id, status)
+);
+
+-- 백업 lease 펜싱 토큰: 획득할 때마다 1씩 증가 (lease를 잃은 노드의 갱신/완료 처리 차단)
+ALTER TABLE backup_leases
+    ADD COLUMN token BIGINT NOT NULL DEFAULT 0;
+
+-- 증분 백업 겹침 구간: 백업 시작 시 워터마크 이하이면서 겹침 구간에 생성된 변경 이력 수 (늦게 커밋된 변경 이력 감지)
+ALTER TABLE backup_histories
+    ADD COLUMN overlap_change_log_count BIGINT;
+
+-- 증분 백업 겹침 구간: 생성 시각 기준 변경 이력 조회
+CREATE INDEX idx_change_logs_created_at ON change_logs (created_at);
@@ -0,0 +1,141 @@
+package com.team11.hrbank.module.domain.backup.service;
+
+import com.team11.hrbank.module.common.config.BackupProperties;
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.IncrementalWindow;
+import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
+import com.team11.hrbank.module.domain.changelog.repository.ChangeLogRepository;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogHighWaterMark;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * change_logs.id 가 커밋 순서와 다르게 발급되는 경우 (늦게 커밋된 작은 id) 의 변경 감지와 증분 범위 확인
+ * change_logs 는 커밋된 (id, created_at) 목록으로 대신한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BackupTransactionServiceTest {
+
+  @Mock
+  private BackupHistoryRepository backupHistoryRepository;
+  @Mock
+  private ChangeLogRepository changeLogRepository;
+  @Mock
+  private ChangeLogHighWaterMark changeLogHighWaterMark;
+  @Spy
+  private BackupProperties backupProperties = new BackupProperties();
+  @InjectMocks
+  private BackupTransactionService backupTxService;
+
+  private final List<CommittedChangeLog> committed = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    // SELECT COUNT(c) FROM ChangeLog c WHERE c.id <= :maxId AND c.createdAt >= :fromDate
+    lenient().when(changeLogRepository.countUpToIdCreatedFrom(anyLong(), any(Instant.class)))
+        .thenAnswer(invocation -> {
+          long maxId = invocation.getArgument(0);
+          Instant fromDate = invocation.getArgument(1);
+          return committed.stream()
+              .filter(changeLog -> changeLog.id() <= maxId && !changeLog.createdAt().isBefore(fromDate))
+              .count();
+        });
+    lenient().when(changeLogHighWaterMark.refresh()).thenAnswer(invocation -> maxCommittedId());
+    lenient().when(changeLogHighWaterMark.current()).thenAnswer(invocation -> maxCommittedId());
+    lenient().when(backupHistoryRepository.save(any(BackupHistory.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  void 워터마크_이하_id_로_늦게_커밋된_변경_이력을_다음_백업이_감지하고_포함한다() {
+    // given: 트랜잭션 A 가 id 100 을 받고, 뒤이어 B 가 id 101 을 받아 먼저 커밋
+    Instant lateCreatedAt = Instant.now().minusSeconds(2);
+    committed.add(new CommittedChangeLog(101L, Instant.now().minusSeconds(1)));
+
+    // 백업 시작: 워터마크 101 (A 는 아직 커밋 전)
+    BackupHistory backup = backupTxService.saveBackupHistory(
+        "127.0.0.1", BackupStatus.IN_PROGRESS, null, BackupType.FULL, null);
+    assertEquals(101L, backup.getLastChangeLogId());
+    assertEquals(1L, backup.getOverlapChangeLogCount());
+    backup.setStatus(BackupStatus.COMPLETED);
+    when(backupHistoryRepository.findTopByStatusOrderByIdDesc(BackupStatus.COMPLETED))
+        .thenReturn(Optional.of(backup));
+
+    // 백업 직후: 변경 없음
+    assertFalse(backupTxService.checkIfChangesExist());
+
+    // when: A 가 백업 이후에 커밋 (최대 id 는 그대로 101)
+    committed.add(new CommittedChangeLog(100L, lateCreatedAt));
+
+    // then: 변경으로 감지
+    assertTrue(backupTxService.checkIfChangesExist());
+
+    // 다음 증분 백업 범위에 id 100 이 포함된다
+    IncrementalWindow window = backupTxService.incrementalWindow(backup);
+    assertEquals(101L, window.afterChangeLogId());
+    assertTrue(includes(window, new CommittedChangeLog(100L, lateCreatedAt)));
+  }
+
+  @Test
+  void 겹침_구간보다_오래된_워터마크_이하_이력은_증분_범위에_포함하지_않는다() {
+    // given
+    committed.add(new CommittedChangeLog(50L, Instant.now().minus(backupProperties.getIncremental().getOverlap())
+        .minusSeconds(60)));
+    BackupHistory backup = backupTxService.saveBackupHistory(
+        "127.0.0.1", BackupStatus.IN_PROGRESS, null, BackupType.FULL, null);
+
+    // when
+    IncrementalWindow window = backupTxService.incrementalWindow(backup);
+
+    // then
+    assertEquals(0L, backup.getOverlapChangeLogCount());
+    assertFalse(includes(window, committed.get(0)));
+    assertTrue(includes(window, new CommittedChangeLog(51L, Instant.now().minus(backupProperties.getIncremental()
+        .getOverlap()).minusSeconds(60))));
+  }
+
+  @Test
+  void 겹침_구간_이력_수가_없는_이전_백업은_최대_id_로만_판단한다() {
+    // given
+    committed.add(new CommittedChangeLog(101L, Instant.now()));
+    BackupHistory backup = new BackupHistory();
+    backup.setStartAt(Instant.now());
+    backup.setLastChangeLogId(101L);
+    when(backupHistoryRepository.findTopByStatusOrderByIdDesc(BackupStatus.COMPLETED))
+        .thenReturn(Optional.of(backup));
+    committed.add(new CommittedChangeLog(100L, Instant.now()));
+
+    // when & then
+    assertFalse(backupTxService.checkIfChangesExist());
+  }
+
+  // BackupDataRepository.changedIn 과 같은 조건: id > 워터마크 OR created_at >= 겹침 구간 시작
+  private static boolean includes(IncrementalWindow window, CommittedChangeLog changeLog) {
+    return changeLog.id() > window.afterChangeLogId() || !changeLog.createdAt().isBefore(window.changedSince());
+  }
+
+  private long maxCommittedId() {
+    return committed.stream().mapToLong(CommittedChangeLog::id).max().orElse(0L);
+  }
+
+  private record CommittedChangeLog(long id, Instant createdAt) {
+  }
+}
@@ -0,0 +1,114 @@
+package com.team11.hrbank.module.domain.backup.service.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkingOutputStreamTest {
+
+  private static final int MIN = 1024;
+  private static final int AVG = 4096;
+  private static final int MAX = 16 * 1024;
+
+  @Test
+  void 청크를_이어_붙이면_원본과_같고_크기_범위를_지킨다() throws IOException {
+    byte[] data = randomBytes(200_000, 1);
+    List<byte[]> chunks = chunk(data, 777);
+
+    ByteArrayOutputStream joined = new ByteArrayOutputStream();
+    for (int i = 0; i < chunks.size(); i++) {
+      joined.write(chunks.get(i));
+      assertTrue(chunks.get(i).length <= MAX);
+      if (i < chunks.size() - 1) {
+        assertTrue(chunks.get(i).length >= MIN);
+      }
+    }
+    assertArrayEquals(data, joined.toByteArray());
+  }
+
+  @Test
+  void 쓰기_단위와_무관하게_경계가_같다() throws IOException {
+    byte[] data = randomBytes(100_000, 2);
+
+    List<byte[]> byLargeWrites = chunk(data, 64 * 1024);
+    List<byte[]> bySmallWrites = chunk(data, 13);
+
+    assertEquals(byLargeWrites.size(), bySmallWrites.size());
+    for (int i = 0; i < byLargeWrites.size(); i++) {
+      assertArrayEquals(byLargeWrites.get(i), bySmallWrites.get(i));
+    }
+  }
+
+  @Test
+  void 앞부분에_데이터를_끼워_넣어도_뒤쪽_청크는_재사용된다() throws IOException {
+    byte[] data = randomBytes(200_000, 3);
+    byte[] inserted = new byte[data.length + 100];
+    System.arraycopy(randomBytes(100, 4), 0, inserted, 0, 100);
+    System.arraycopy(data, 0, inserted, 100, data.length);
+
+    Set<String> original = fingerprints(chunk(data, 8192));
+    List<byte[]> shifted = chunk(inserted, 8192);
+    long reused = shifted.stream().filter(c -> original.contains(Arrays.toString(c))).count();
+
+    // 고정 크기로 자르면 하나도 맞지 않지만 content-defined 경계는 곧 다시 맞춰진다
+    assertTrue(reused >= shifted.size() - 3, "재사용 청크 " + reused + "/" + shifted.size());
+  }
+
+  @Test
+  void 최소_크기가_해시_창보다_작아도_처음부터_경계를_찾는다() throws IOException {
+    byte[] data = randomBytes(50_000, 5);
+    List<byte[]> chunks = chunk(data, 1000, 16, 64, 256);
+
+    ByteArrayOutputStream joined = new ByteArrayOutputStream();
+    for (int i = 0; i < chunks.size(); i++) {
+      joined.write(chunks.get(i));
+      assertTrue(chunks.get(i).length <= 256);
+      if (i < chunks.size() - 1) {
+        assertTrue(chunks.get(i).length >= 16);
+      }
+    }
+    assertArrayEquals(data, joined.toByteArray());
+  }
+
+  private static List<byte[]> chunk(byte[] data, int writeSize) throws IOException {
+    return chunk(data, writeSize, MIN, AVG, MAX);
+  }
+
+  private static List<byte[]> chunk(byte[] data, int writeSize, int min, int avg, int max) throws IOException {
+    List<byte[]> chunks = new ArrayList<>();
+    try (ChunkingOutputStream out = new ChunkingOutputStream(min, avg, max) {
+      @Override
+      protected void onChunk(byte[] chunk, int length) {
+        chunks.add(Arrays.copyOf(chunk, length));
+      }
+    }) {
+      for (int off = 0; off < data.length; off += writeSize) {
+        out.write(data, off, Math.min(writeSize, data.length - off));
+      }
+    }
+    return chunks;
+  }
+
+  private static Set<String> fingerprints(List<byte[]> chunks) {
+    Set<String> set = new HashSet<>();
+    chunks.forEach(c -> set.add(Arrays.toString(c)));
+    return set;
+  }
+
+  private static byte[] randomBytes(int size, long seed) {
+    byte[] bytes = new byte[size];
+    new Random(seed).nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,63 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvRowEncoderTest {
+
+  @Test
+  void row_특수문자가_없으면_그대로_기록() throws IOException {
+    StringWriter out = new StringWriter();
+    CsvRowEncoder encoder = new CsvRowEncoder(out);
+
+    encoder.cell(42L).cell("홍길동").cell((String) null).cell("").cell(LocalDate.of(2024, 3, 5)).endRow();
+    encoder.flush();
+
+    assertEquals("42,홍길동,,,2024-03-05\n", out.toString());
+  }
+
+  @Test
+  void row_쉼표_쌍따옴표_줄바꿈은_따옴표로_감싸고_이스케이프() throws IOException {
+    StringWriter out = new StringWriter();
+    CsvRowEncoder encoder = new CsvRowEncoder(out);
+
+    encoder.row("a,b", "say \"hi\"", "line1\nline2", "\"", "end\"");
+    encoder.flush();
+
+    assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",\"\"\"\",\"end\"\"\"\n", out.toString());
+  }
+
+  @Test
+  void line_섹션_구분자는_이스케이프_없이_기록() throws IOException {
+    StringWriter out = new StringWriter();
+    CsvRowEncoder encoder = new CsvRowEncoder(out);
+
+    encoder.line("## EMPLOYEES ##");
+    encoder.cell(0L).endRow();
+    encoder.flush();
+
+    assertEquals("## EMPLOYEES ##\n0\n", out.toString());
+  }
+
+  @Test
+  void endRow_셀_안의_줄바꿈은_행으로_세지_않음() throws IOException {
+    StringWriter out = new StringWriter();
+    BackupProgress progress = BackupProgress.untracked();
+    CsvRowEncoder encoder = new CsvRowEncoder(out, progress);
+
+    encoder.line("## EMPLOYEES ##");
+    encoder.row("이름", "메모");
+    encoder.row("홍길동", "line1\nline2\r\nline3");
+    encoder.cell(1L).cell("\n").endRow();
+    encoder.flush();
+
+    assertEquals(4, progress.getRowsWritten().get());
+    assertEquals(0, progress.getBytesWritten().get());
+  }
+}
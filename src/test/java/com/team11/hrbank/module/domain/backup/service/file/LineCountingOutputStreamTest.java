@@ -0,0 +1,46 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import com.team11.hrbank.module.domain.backup.service.progress.BackupProgress;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LineCountingOutputStreamTest {
+
+  @Test
+  void write_쓰는_동안_줄바꿈_수만큼_행을_누적() throws IOException {
+    BackupProgress progress = BackupProgress.untracked();
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    LineCountingOutputStream out = new LineCountingOutputStream(target, progress);
+
+    out.write("1,홍길동\n2,".getBytes(StandardCharsets.UTF_8));
+    assertEquals(1, progress.getRowsWritten().get());
+    out.write("김철수\n".getBytes(StandardCharsets.UTF_8));
+    out.write('3');
+    out.write('\n');
+
+    assertEquals(3, progress.getRowsWritten().get());
+    assertEquals("1,홍길동\n2,김철수\n3\n", target.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void correctTo_셀_안의_줄바꿈으로_더_센_행을_정확한_행_수로_보정() throws IOException {
+    BackupProgress progress = BackupProgress.untracked();
+    progress.addRows(2);
+    LineCountingOutputStream out = new LineCountingOutputStream(new ByteArrayOutputStream(), progress);
+
+    out.write("1,\"line1\nline2\"\n2,b\n".getBytes(StandardCharsets.UTF_8));
+    assertEquals(5, progress.getRowsWritten().get());
+    out.correctTo(2);
+    assertEquals(4, progress.getRowsWritten().get());
+
+    // 보정 후에는 다음 테이블의 줄만 다시 센다
+    out.write("1,개발팀\n".getBytes(StandardCharsets.UTF_8));
+    out.correctTo(1);
+    assertEquals(5, progress.getRowsWritten().get());
+  }
+}
@@ -0,0 +1,64 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParallelGzipOutputStreamTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void write_여러_블록으로_나눠_압축해도_원본_순서대로_복원() throws IOException {
+    StringBuilder csv = new StringBuilder();
+    for (int i = 0; i < 5_000; i++) {
+      csv.append(i).append(",홍길동").append(i).append(",user").append(i).append("@test.com\n");
+    }
+    byte[] original = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(target, executor, 4096, 3);
+    // 블록 경계에 걸치도록 단일 바이트 쓰기와 배열 쓰기를 섞는다
+    gzip.write(original[0]);
+    gzip.write(original, 1, original.length - 1);
+    gzip.close();
+
+    assertArrayEquals(original, gunzip(target.toByteArray()));
+    assertEquals(original.length, gzip.getUncompressedSize());
+  }
+
+  @Test
+  void close_빈_입력도_유효한_gzip_생성() throws IOException {
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    new ParallelGzipOutputStream(target, executor, 4096, 2).close();
+
+    assertEquals(0, gunzip(target.toByteArray()).length);
+  }
+
+  private static byte[] gunzip(byte[] compressed) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return in.readAllBytes();
+    }
+  }
+}
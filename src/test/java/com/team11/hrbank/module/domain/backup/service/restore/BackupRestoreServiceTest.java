@@ -0,0 +1,71 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.exception.BackupRestoreException;
+import com.team11.hrbank.module.domain.file.File;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackupRestoreServiceTest {
+
+  @Test
+  void restoreChain_전체_백업은_단독으로_복원() {
+    // given
+    BackupHistory full = backup(1L, BackupType.FULL, null);
+
+    // when
+    List<BackupHistory> chain = BackupRestoreService.restoreChain(full);
+
+    // then
+    assertEquals(List.of(full), chain);
+  }
+
+  @Test
+  void restoreChain_증분_백업은_전체_백업부터_오래된_순서로_반영() {
+    // given
+    BackupHistory full = backup(1L, BackupType.FULL, null);
+    BackupHistory first = backup(2L, BackupType.INCREMENTAL, full);
+    BackupHistory second = backup(3L, BackupType.INCREMENTAL, first);
+
+    // when
+    List<BackupHistory> chain = BackupRestoreService.restoreChain(second);
+
+    // then
+    assertEquals(List.of(full, first, second), chain);
+  }
+
+  @Test
+  void restoreChain_체인에_완료되지_않은_백업이_있으면_실패() {
+    // given
+    BackupHistory full = backup(1L, BackupType.FULL, null);
+    full.setStatus(BackupStatus.FAILED);
+    BackupHistory incremental = backup(2L, BackupType.INCREMENTAL, full);
+
+    // when & then
+    assertThrows(BackupRestoreException.class, () -> BackupRestoreService.restoreChain(incremental));
+  }
+
+  @Test
+  void restoreChain_부모가_없는_증분_백업은_실패() {
+    // given
+    BackupHistory incremental = backup(2L, BackupType.INCREMENTAL, null);
+
+    // when & then
+    assertThrows(BackupRestoreException.class, () -> BackupRestoreService.restoreChain(incremental));
+  }
+
+  private static BackupHistory backup(Long id, BackupType type, BackupHistory parent) {
+    BackupHistory history = new BackupHistory();
+    history.setId(id);
+    history.setType(type);
+    history.setStatus(BackupStatus.COMPLETED);
+    history.setFile(new File());
+    history.setParentBackup(parent);
+    return history;
+  }
+}
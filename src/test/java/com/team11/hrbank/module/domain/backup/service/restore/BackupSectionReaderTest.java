@@ -0,0 +1,70 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BackupSectionReaderTest {
+
+  @Test
+  void nextSection_섹션별로_헤더와_행을_구분() throws IOException {
+    String csv = """
+        ## EMPLOYEES ##
+        ID,이름,메모
+        1,홍길동,"쉼표, 포함"
+        2,김철수,"줄바꿈
+        포함"
+        ## DEPARTMENTS ##
+        ID,부서명
+        10,개발팀
+        """;
+
+    try (BackupSectionReader reader = BackupSectionReader.of(new StringReader(csv))) {
+      assertEquals("EMPLOYEES", reader.nextSection());
+      assertEquals("이름", reader.header().get(1));
+      assertEquals("쉼표, 포함", reader.nextRow().get(2));
+      assertEquals("줄바꿈\n포함", reader.nextRow().get(2));
+      assertNull(reader.nextRow());
+
+      assertEquals("DEPARTMENTS", reader.nextSection());
+      assertEquals("개발팀", reader.nextRow().get(1));
+      assertNull(reader.nextRow());
+      assertNull(reader.nextSection());
+    }
+  }
+
+  @Test
+  void nextSection_남은_행은_건너뛰고_다음_섹션으로_이동() throws IOException {
+    String csv = """
+        ## EMPLOYEES ##
+        ID,이름
+        1,홍길동
+        2,김철수
+        ## DEPARTMENTS ##
+        ID,부서명
+        """;
+
+    try (BackupSectionReader reader = BackupSectionReader.of(new StringReader(csv))) {
+      assertEquals("EMPLOYEES", reader.nextSection());
+      assertEquals("DEPARTMENTS", reader.nextSection());
+      assertNull(reader.nextRow());
+    }
+  }
+
+  @Test
+  void ofSingleSection_구분자_없는_아카이브_항목() throws IOException {
+    try (BackupSectionReader reader = BackupSectionReader.ofSingleSection(
+        new StringReader("ID,부서명\n10,개발팀\n"), "DEPARTMENTS")) {
+      assertEquals("DEPARTMENTS", reader.nextSection());
+      CSVRecord row = reader.nextRow();
+      assertEquals("10", row.get(0));
+      assertNull(reader.nextRow());
+      assertNull(reader.nextSection());
+    }
+  }
+}
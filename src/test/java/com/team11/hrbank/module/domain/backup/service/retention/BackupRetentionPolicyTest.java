@@ -0,0 +1,59 @@
+package com.team11.hrbank.module.domain.backup.service.retention;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackupRetentionPolicyTest {
+
+  // 2025-03-05 (수) 12:00 UTC
+  private static final Instant NOW = Instant.parse("2025-03-05T12:00:00Z");
+
+  @Test
+  void 시간별_일별_주별로_구간의_마지막_백업만_남긴다() {
+    // 30분마다 3일치 전체 백업 (id 가 클수록 최신)
+    List<BackupRetentionCandidate> backups = new ArrayList<>();
+    for (int i = 0; i < 144; i++) {
+      backups.add(new BackupRetentionCandidate((long) (144 - i), NOW.minus(Duration.ofMinutes(30L * i)), null));
+    }
+
+    Set<Long> retained = new BackupRetentionPolicy(3, 2, 1, ZoneOffset.UTC).selectRetained(backups);
+
+    // 시간별: 12:00, 11:30, 10:30 / 일별: 03-05 12:00, 03-04 23:30 / 주별: 03-05 12:00
+    assertEquals(Set.of(144L, 143L, 141L, 119L), retained);
+  }
+
+  @Test
+  void 남긴_증분_백업의_부모_체인도_남긴다() {
+    List<BackupRetentionCandidate> backups = List.of(
+        new BackupRetentionCandidate(1L, NOW.minus(Duration.ofHours(5)), null),
+        new BackupRetentionCandidate(2L, NOW.minus(Duration.ofHours(4)), 1L),
+        new BackupRetentionCandidate(3L, NOW.minus(Duration.ofHours(3)), null),
+        new BackupRetentionCandidate(4L, NOW.minus(Duration.ofHours(2)), 2L),
+        new BackupRetentionCandidate(5L, NOW.minus(Duration.ofHours(1)), 4L));
+
+    Set<Long> retained = new BackupRetentionPolicy(1, 0, 0, ZoneOffset.UTC).selectRetained(backups);
+
+    assertEquals(Set.of(1L, 2L, 4L, 5L), retained);
+  }
+
+  @Test
+  void 보관_개수가_0이어도_가장_최근_백업은_남긴다() {
+    List<BackupRetentionCandidate> backups = List.of(
+        new BackupRetentionCandidate(1L, NOW.minus(Duration.ofDays(30)), null),
+        new BackupRetentionCandidate(2L, NOW.minus(Duration.ofDays(20)), null));
+
+    Set<Long> retained = new BackupRetentionPolicy(0, 0, 0, ZoneOffset.UTC).selectRetained(backups);
+
+    assertEquals(Set.of(2L), retained);
+    assertTrue(new BackupRetentionPolicy(0, 0, 0, ZoneOffset.UTC).selectRetained(List.of()).isEmpty());
+  }
+}
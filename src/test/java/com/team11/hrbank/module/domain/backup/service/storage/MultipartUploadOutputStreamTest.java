@@ -0,0 +1,147 @@
+package com.team11.hrbank.module.domain.backup.service.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultipartUploadOutputStreamTest {
+
+  private static final int PART_SIZE = 1024;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void 파트를_병렬로_올려도_번호순으로_이어_붙인_결과가_원본과_같다() throws IOException {
+    InMemoryUploadClient client = new InMemoryUploadClient();
+    byte[] data = randomBytes(PART_SIZE * 7 + 123);
+
+    try (MultipartUploadOutputStream out = newStream(client)) {
+      // 파트 경계와 맞지 않는 크기로 나눠 쓴다
+      for (int offset = 0; offset < data.length; offset += 300) {
+        out.write(data, offset, Math.min(300, data.length - offset));
+      }
+      assertEquals(data.length, out.getSize());
+    }
+
+    assertEquals(8, client.completedParts.size());
+    assertArrayEquals(data, client.objects.get("backups/a.csv"));
+    assertTrue(client.uploads.isEmpty());
+  }
+
+  @Test
+  void 파트_하나보다_작으면_멀티파트_없이_한_번에_올린다() throws IOException {
+    InMemoryUploadClient client = new InMemoryUploadClient();
+    byte[] data = randomBytes(PART_SIZE - 1);
+
+    try (MultipartUploadOutputStream out = newStream(client)) {
+      out.write(data);
+    }
+
+    assertEquals(0, client.createdUploads);
+    assertArrayEquals(data, client.objects.get("backups/a.csv"));
+  }
+
+  @Test
+  void 파트_업로드가_실패하면_업로드를_중단하고_객체를_만들지_않는다() {
+    InMemoryUploadClient client = new InMemoryUploadClient();
+    client.failingPart = 3;
+    byte[] data = randomBytes(PART_SIZE * 5);
+
+    MultipartUploadOutputStream out = newStream(client);
+    assertThrows(IOException.class, () -> {
+      out.write(data);
+      out.close();
+    });
+    out.abort();
+
+    assertEquals(1, client.abortedUploads);
+    assertTrue(client.uploads.isEmpty());
+    assertNull(client.objects.get("backups/a.csv"));
+  }
+
+  private MultipartUploadOutputStream newStream(MultipartUploadClient client) {
+    return new MultipartUploadOutputStream(client, "backups/a.csv", "s3://bucket/backups/a.csv",
+        PART_SIZE, 2, executor);
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] data = new byte[length];
+    new Random(42).nextBytes(data);
+    return data;
+  }
+
+  /**
+   * 메모리에 파트를 모았다가 complete 시점에 번호순으로 이어 붙이는 객체 저장소 대역
+   */
+  private static class InMemoryUploadClient implements MultipartUploadClient {
+
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private List<UploadedPart> completedParts = List.of();
+    private int createdUploads;
+    private int abortedUploads;
+    private int failingPart = -1;
+
+    @Override
+    public String createMultipartUpload(String key) {
+      createdUploads++;
+      String uploadId = "upload-" + createdUploads;
+      uploads.put(uploadId, new ConcurrentHashMap<>());
+      return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, byte[] data, int length) {
+      if (partNumber == failingPart) {
+        throw new IllegalStateException("파트 업로드 실패");
+      }
+      uploads.get(uploadId).put(partNumber, Arrays.copyOf(data, length));
+      return "etag-" + partNumber;
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, List<UploadedPart> parts) {
+      Map<Integer, byte[]> uploaded = uploads.remove(uploadId);
+      ByteArrayOutputStream object = new ByteArrayOutputStream();
+      for (int i = 0; i < parts.size(); i++) {
+        UploadedPart part = parts.get(i);
+        assertEquals(i + 1, part.partNumber());
+        assertEquals("etag-" + part.partNumber(), part.eTag());
+        object.writeBytes(uploaded.get(part.partNumber()));
+      }
+      completedParts = parts;
+      objects.put(key, object.toByteArray());
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+      abortedUploads++;
+      uploads.remove(uploadId);
+    }
+
+    @Override
+    public void putObject(String key, byte[] data, int length) {
+      objects.put(key, Arrays.copyOf(data, length));
+    }
+  }
+}
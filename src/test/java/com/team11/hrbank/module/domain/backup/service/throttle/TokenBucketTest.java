@@ -0,0 +1,44 @@
+package com.team11.hrbank.module.domain.backup.service.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  void reserve_초당_허용량_이내면_대기_없음() {
+    long now = System.nanoTime();
+    TokenBucket bucket = new TokenBucket(1000, now);
+
+    assertEquals(0, bucket.reserve(600, now));
+    assertEquals(0, bucket.reserve(400, now));
+  }
+
+  @Test
+  void reserve_허용량을_넘으면_빚을_갚는_시간만큼_대기() {
+    long now = System.nanoTime();
+    TokenBucket bucket = new TokenBucket(1000, now);
+
+    bucket.reserve(1000, now);
+    assertEquals(SECOND / 2, bucket.reserve(500, now));
+    // 앞선 빚이 누적되므로 다음 호출은 더 오래 기다린다
+    assertEquals(SECOND, bucket.reserve(500, now));
+  }
+
+  @Test
+  void reserve_시간이_지나면_토큰이_채워지고_1초_분량까지만_쌓임() {
+    long now = System.nanoTime();
+    TokenBucket bucket = new TokenBucket(1000, now);
+
+    bucket.reserve(1000, now);
+    assertEquals(0, bucket.reserve(500, now + SECOND / 2));
+
+    assertEquals(0, bucket.reserve(1000, now + 10 * SECOND));
+    assertEquals(SECOND / 10, bucket.reserve(100, now + 10 * SECOND));
+  }
+}
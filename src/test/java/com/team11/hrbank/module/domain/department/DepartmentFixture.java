@@ -0,0 +1,27 @@
+package com.team11.hrbank.module.domain.department;
+
+import com.team11.hrbank.module.domain.BaseEntity;
+
+import java.lang.reflect.Field;
+
+/**
+ * 테스트용 부서 엔티티 (id 는 DB 가 발급하므로 리플렉션으로 채운다)
+ */
+public final class DepartmentFixture {
+
+  private DepartmentFixture() {
+  }
+
+  public static Department department(Long id, String name) {
+    Department department = new Department();
+    department.setName(name);
+    try {
+      Field field = BaseEntity.class.getDeclaredField("id");
+      field.setAccessible(true);
+      field.set(department, id);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+    return department;
+  }
+}
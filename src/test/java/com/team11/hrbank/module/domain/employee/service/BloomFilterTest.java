@@ -0,0 +1,36 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+  private static final int EXPECTED = 100_000;
+
+  @Test
+  void 넣은_값은_항상_포함으로_판단한다() {
+    BloomFilter filter = new BloomFilter(EXPECTED, 0.01);
+    for (int i = 0; i < EXPECTED; i++) {
+      filter.put("user" + i + "@hrbank.com");
+    }
+    for (int i = 0; i < EXPECTED; i++) {
+      assertTrue(filter.mightContain("user" + i + "@hrbank.com"));
+    }
+  }
+
+  @Test
+  void 넣지_않은_값의_오탐률은_설정값_근처다() {
+    BloomFilter filter = new BloomFilter(EXPECTED, 0.01);
+    for (int i = 0; i < EXPECTED; i++) {
+      filter.put("user" + i + "@hrbank.com");
+    }
+    int falsePositives = 0;
+    for (int i = 0; i < EXPECTED; i++) {
+      if (filter.mightContain("new" + i + "@hrbank.com")) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < EXPECTED * 0.02, "오탐 " + falsePositives + "건");
+  }
+}
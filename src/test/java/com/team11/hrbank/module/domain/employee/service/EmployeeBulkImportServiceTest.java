@@ -0,0 +1,242 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.config.EmployeeProperties;
+import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeBulkImportResultDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeBulkImportResultDto.RowError;
+import com.team11.hrbank.module.domain.employee.service.EmployeeBulkImportService.Format;
+import com.team11.hrbank.module.domain.employee.service.EmployeeBulkWriter.BulkEmployee;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static com.team11.hrbank.module.domain.department.DepartmentFixture.department;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkImportServiceTest {
+
+  private static final String HEADER = "name,email,departmentId,departmentName,position,hireDate,memo\n";
+
+  @Mock
+  private DepartmentRepository departmentRepository;
+  @Mock
+  private EmployeeBulkWriter bulkWriter;
+  @Mock
+  private EmployeeEmailFilter employeeEmailFilter;
+  @Mock
+  private HttpServletRequest servletRequest;
+
+  private EmployeeProperties employeeProperties;
+  private EmployeeBulkImportService service;
+
+  @BeforeEach
+  void setUp() {
+    employeeProperties = new EmployeeProperties();
+    service = new EmployeeBulkImportService(departmentRepository, bulkWriter, employeeEmailFilter,
+        employeeProperties, new ObjectMapper());
+    when(departmentRepository.findAll()).thenReturn(List.of(department(1L, "개발팀"), department(2L, "영업팀")));
+  }
+
+  @Test
+  void importEmployees_검증에_실패한_행은_사유와_함께_건너뜀() throws Exception {
+    // given
+    String csv = HEADER
+        + ",a@test.com,1,,개발자,2024-01-01,\n"
+        + "김철수,no-at-sign,1,,개발자,2024-01-01,\n"
+        + "김철수,b@test.com,,,개발자,2024-01-01,\n"
+        + "김철수,c@test.com,99,,개발자,2024-01-01,\n"
+        + "김철수,d@test.com,,없는팀,개발자,2024-01-01,\n"
+        + "김철수,e@test.com,1,,,2024-01-01,\n"
+        + "김철수,f@test.com,1,,개발자,,\n"
+        + "김철수,g@test.com,1,,개발자,2024-13-01,\n"
+        + "김철수,h@test.com,x,,개발자,2024-01-01,\n"
+        + "홍길동,ok@test.com,,영업팀,영업사원,2024-02-01,입사\n";
+
+    // when
+    EmployeeBulkImportResultDto result = importCsv(csv);
+
+    // then
+    assertEquals(10, result.totalRows());
+    assertEquals(1, result.importedRows());
+    assertEquals(9, result.failedRows());
+    assertEquals(List.of(
+            new RowError(1, "a@test.com", "이름은 1~100자여야 합니다."),
+            new RowError(2, "no-at-sign", "이메일 형식이 올바르지 않습니다."),
+            new RowError(3, "b@test.com", "부서를 찾을 수 없습니다."),
+            new RowError(4, "c@test.com", "부서를 찾을 수 없습니다."),
+            new RowError(5, "d@test.com", "부서를 찾을 수 없습니다."),
+            new RowError(6, "e@test.com", "직함은 1~50자여야 합니다."),
+            new RowError(7, "f@test.com", "입사일은 필수입니다.")),
+        result.errors().subList(0, 7));
+    assertTrue(result.errors().get(7).message().startsWith("값 형식이 올바르지 않습니다"));
+    assertTrue(result.errors().get(8).message().startsWith("값 형식이 올바르지 않습니다"));
+
+    List<BulkEmployee> inserted = capturedInserts(1).get(0);
+    assertEquals(List.of(new BulkEmployee(10, "홍길동", "ok@test.com", 2L, "영업사원",
+        LocalDate.of(2024, 2, 1), "입사")), inserted);
+    verify(employeeEmailFilter).add("ok@test.com");
+  }
+
+  @Test
+  void importEmployees_같은_chunk_안의_중복_이메일은_뒤의_행이_실패() throws Exception {
+    // given
+    String csv = HEADER
+        + "김철수,dup@test.com,1,,개발자,2024-01-01,\n"
+        + "이영희,dup@test.com,1,,개발자,2024-01-01,\n"
+        + "박민수,other@test.com,1,,개발자,2024-01-01,\n";
+
+    // when
+    EmployeeBulkImportResultDto result = importCsv(csv);
+
+    // then
+    assertEquals(2, result.importedRows());
+    assertEquals(List.of(new RowError(2, "dup@test.com", "파일 안에서 중복된 이메일입니다.")), result.errors());
+    List<BulkEmployee> inserted = capturedInserts(1).get(0);
+    assertEquals(List.of("dup@test.com", "other@test.com"), inserted.stream().map(BulkEmployee::email).toList());
+  }
+
+  @Test
+  void importEmployees_다른_chunk_의_중복_이메일도_실패() throws Exception {
+    // given
+    employeeProperties.getBulkImport().setChunkSize(2);
+    String csv = HEADER
+        + "김철수,dup@test.com,1,,개발자,2024-01-01,\n"
+        + "이영희,a@test.com,1,,개발자,2024-01-01,\n"
+        + "박민수,dup@test.com,1,,개발자,2024-01-01,\n"
+        + "최지우,b@test.com,1,,개발자,2024-01-01,\n";
+
+    // when
+    EmployeeBulkImportResultDto result = importCsv(csv);
+
+    // then
+    assertEquals(4, result.totalRows());
+    assertEquals(3, result.importedRows());
+    assertEquals(List.of(new RowError(3, "dup@test.com", "파일 안에서 중복된 이메일입니다.")), result.errors());
+    List<List<BulkEmployee>> inserts = capturedInserts(2);
+    assertEquals(2, inserts.get(0).size());
+    assertEquals(List.of("b@test.com"), inserts.get(1).stream().map(BulkEmployee::email).toList());
+  }
+
+  @Test
+  void importEmployees_DB_에_있는_이메일은_chunk_당_한_번_조회해_실패() throws Exception {
+    // given
+    when(employeeEmailFilter.mightExist(anyString())).thenReturn(true);
+    when(bulkWriter.findExistingEmails(anyCollection())).thenReturn(Set.of("taken@test.com"));
+    String csv = HEADER
+        + "김철수,taken@test.com,1,,개발자,2024-01-01,\n"
+        + "이영희,new@test.com,1,,개발자,2024-01-01,\n";
+
+    // when
+    EmployeeBulkImportResultDto result = importCsv(csv);
+
+    // then
+    assertEquals(1, result.importedRows());
+    assertEquals(List.of(new RowError(1, "taken@test.com", "이미 존재하는 이메일입니다.")), result.errors());
+    verify(bulkWriter).findExistingEmails(List.of("taken@test.com", "new@test.com"));
+  }
+
+  @Test
+  void importEmployees_Bloom_filter_가_새_이메일로_판단하면_DB_조회_생략() throws Exception {
+    // given
+    String csv = HEADER + "김철수,new@test.com,1,,개발자,2024-01-01,\n";
+
+    // when
+    importCsv(csv);
+
+    // then
+    verify(bulkWriter, never()).findExistingEmails(anyCollection());
+  }
+
+  @Test
+  void importEmployees_chunk_저장이_실패하면_한_행씩_다시_저장() throws Exception {
+    // given
+    SQLException duplicate = new SQLException("duplicate key value violates unique constraint \"employees_email_key\"",
+        "23505");
+    doThrow(new SQLException("batch failed"))
+        .doNothing()
+        .doThrow(duplicate)
+        .doNothing()
+        .when(bulkWriter).insert(anyList(), eq("127.0.0.1"));
+    String csv = HEADER
+        + "김철수,a@test.com,1,,개발자,2024-01-01,\n"
+        + "이영희,raced@test.com,1,,개발자,2024-01-01,\n"
+        + "박민수,c@test.com,1,,개발자,2024-01-01,\n";
+
+    // when
+    EmployeeBulkImportResultDto result = importCsv(csv);
+
+    // then
+    assertEquals(3, result.totalRows());
+    assertEquals(2, result.importedRows());
+    assertEquals(1, result.failedRows());
+    assertEquals(List.of(new RowError(2, "raced@test.com", "이미 존재하는 이메일입니다.")), result.errors());
+
+    List<List<BulkEmployee>> inserts = capturedInserts(4);
+    assertEquals(3, inserts.get(0).size());
+    assertEquals(List.of("a@test.com"), inserts.get(1).stream().map(BulkEmployee::email).toList());
+    assertEquals(List.of("raced@test.com"), inserts.get(2).stream().map(BulkEmployee::email).toList());
+    assertEquals(List.of("c@test.com"), inserts.get(3).stream().map(BulkEmployee::email).toList());
+    // 저장된 행만 Bloom filter 에 추가
+    verify(employeeEmailFilter).add("a@test.com");
+    verify(employeeEmailFilter).add("c@test.com");
+    verify(employeeEmailFilter, never()).add("raced@test.com");
+  }
+
+  @Test
+  void importEmployees_최대_행_수를_넘으면_이후_행은_처리하지_않음() throws Exception {
+    // given
+    employeeProperties.getBulkImport().setMaxRows(2);
+    doNothing().when(bulkWriter).insert(anyList(), anyString());
+    String csv = HEADER
+        + "김철수,a@test.com,1,,개발자,2024-01-01,\n"
+        + "이영희,b@test.com,1,,개발자,2024-01-01,\n"
+        + "박민수,c@test.com,1,,개발자,2024-01-01,\n"
+        + "최지우,d@test.com,1,,개발자,2024-01-01,\n";
+
+    // when
+    EmployeeBulkImportResultDto result = importCsv(csv);
+
+    // then
+    assertEquals(3, result.totalRows());
+    assertEquals(2, result.importedRows());
+    assertEquals(1, result.failedRows());
+    assertEquals(3, result.errors().get(0).row());
+    assertTrue(result.errors().get(0).message().contains("(2)"));
+    assertEquals(2, capturedInserts(1).get(0).size());
+  }
+
+  private EmployeeBulkImportResultDto importCsv(String csv) throws Exception {
+    return service.importEmployees(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), Format.CSV,
+        servletRequest);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<List<BulkEmployee>> capturedInserts(int times) throws SQLException {
+    ArgumentCaptor<List<BulkEmployee>> captor = ArgumentCaptor.forClass(List.class);
+    verify(bulkWriter, times(times)).insert(captor.capture(), anyString());
+    return captor.getAllValues();
+  }
+}
@@ -0,0 +1,266 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.config.EmployeeProperties;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogHighWaterMark;
+import com.team11.hrbank.module.domain.department.Department;
+import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeBulkUpdateRequest;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeBulkUpdateResultDto;
+import com.team11.hrbank.module.domain.employee.repository.HeadcountRollupRepository.HeadcountKey;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.team11.hrbank.module.domain.department.DepartmentFixture.department;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkUpdateServiceTest {
+
+  private static final LocalDate HIRE_DATE = LocalDate.of(2024, 3, 1);
+
+  @Mock
+  private DataSource dataSource;
+  @Mock
+  private Connection connection;
+  @Mock
+  private DepartmentRepository departmentRepository;
+  @Mock
+  private ChangeLogHighWaterMark changeLogHighWaterMark;
+  @Mock
+  private HeadcountRollupService headcountRollupService;
+  @Mock
+  private HttpServletRequest servletRequest;
+
+  @Mock
+  private PreparedStatement lockStatement;
+  @Mock
+  private PreparedStatement updateStatement;
+  @Mock
+  private PreparedStatement changeLogStatement;
+  @Mock
+  private PreparedStatement diffStatement;
+
+  private final List<Object[]> lockedIds = new ArrayList<>();
+  private final List<Object[]> updatedIds = new ArrayList<>();
+  private EmployeeBulkUpdateService service;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    service = new EmployeeBulkUpdateService(dataSource, departmentRepository, changeLogHighWaterMark,
+        new EmployeeProperties(), new ObjectMapper(), headcountRollupService);
+
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(servletRequest.getRemoteAddr()).thenReturn("10.0.0.1");
+    // SQL 종류별로 준비된 문장을 돌려준다 (잠금 조회, 일괄 UPDATE, 상세 내역 배치)
+    when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+      String sql = invocation.getArgument(0);
+      if (sql.contains("FOR UPDATE")) {
+        return lockStatement;
+      }
+      if (sql.contains("UPDATE employees")) {
+        return updateStatement;
+      }
+      if (sql.contains("change_log_diffs")) {
+        return diffStatement;
+      }
+      throw new AssertionError("예상하지 못한 SQL: " + sql);
+    });
+    // ANY(?) 에 넘긴 id 배열을 잠금 조회 / UPDATE 순서대로 기록
+    when(connection.createArrayOf(eq("bigint"), any(Object[].class))).thenAnswer(invocation -> {
+      Object[] ids = invocation.getArgument(1);
+      (lockedIds.isEmpty() ? lockedIds : updatedIds).add(ids);
+      return mock(Array.class);
+    });
+  }
+
+  @Test
+  void updateEmployees_바뀌는_직원만_COALESCE_로_부서만_수정() throws Exception {
+    // given
+    Department target = department(20L, "개발팀");
+    when(departmentRepository.findById(20L)).thenReturn(Optional.of(target));
+    givenLocked(
+        new Row(1L, "EMP-1", 10L, "영업팀", "ACTIVE"),
+        new Row(2L, "EMP-2", 20L, "개발팀", "ACTIVE"));
+    givenChangeLogKeys(100L);
+
+    // when
+    EmployeeBulkUpdateResultDto result = service.updateEmployees(
+        new EmployeeBulkUpdateRequest(List.of(1L, 2L, 3L), 20L, null, null), servletRequest);
+
+    // then
+    assertEquals(3, result.requested());
+    assertEquals(1, result.updated());
+    assertEquals(1, result.unchanged());
+    assertEquals(List.of(3L), result.notFoundIds());
+
+    // 지정하지 않은 상태는 NULL 로 넘겨 COALESCE 가 현재 값을 유지한다
+    verify(updateStatement).setLong(1, 20L);
+    verify(updateStatement).setNull(2, Types.VARCHAR);
+    verify(updateStatement).executeUpdate();
+    assertArrayEquals(new Object[] {1L, 2L, 3L}, lockedIds.get(0));
+    assertArrayEquals(new Object[] {1L}, updatedIds.get(0));
+  }
+
+  @Test
+  void updateEmployees_상태만_지정하면_부서는_NULL_로_넘김() throws Exception {
+    // given
+    givenLocked(new Row(1L, "EMP-1", 10L, "영업팀", "ACTIVE"));
+    givenChangeLogKeys(100L);
+
+    // when
+    service.updateEmployees(
+        new EmployeeBulkUpdateRequest(List.of(1L), null, EmployeeStatus.ON_LEAVE, null), servletRequest);
+
+    // then
+    verify(departmentRepository, never()).findById(anyLong());
+    verify(updateStatement).setNull(1, Types.BIGINT);
+    verify(updateStatement).setString(2, "ON_LEAVE");
+  }
+
+  @Test
+  void updateEmployees_없는_직원_id_를_요청_순서대로_중복없이_반환() throws Exception {
+    // given
+    givenLocked(new Row(3L, "EMP-3", 10L, "영업팀", "ON_LEAVE"));
+
+    // when
+    EmployeeBulkUpdateResultDto result = service.updateEmployees(
+        new EmployeeBulkUpdateRequest(List.of(5L, 3L, 9L, 3L, 7L), null, EmployeeStatus.ON_LEAVE, null),
+        servletRequest);
+
+    // then
+    assertEquals(4, result.requested());
+    assertEquals(0, result.updated());
+    assertEquals(1, result.unchanged());
+    assertEquals(List.of(5L, 9L, 7L), result.notFoundIds());
+    // 바뀌는 직원이 없으면 UPDATE, 변경 이력, 집계 모두 생략
+    verify(updateStatement, never()).executeUpdate();
+    verify(connection, never()).prepareStatement(anyString(), any(String[].class));
+    verify(headcountRollupService, never()).apply(any());
+    verify(changeLogHighWaterMark, never()).bumpAfterCommit(anyLong());
+  }
+
+  @Test
+  void updateEmployees_변경이력과_상세내역을_각각_한_번의_배치로_저장() throws Exception {
+    // given
+    givenLocked(
+        new Row(1L, "EMP-1", 10L, "영업팀", "ACTIVE"),
+        new Row(2L, "EMP-2", 10L, "영업팀", "ACTIVE"));
+    givenChangeLogKeys(100L, 101L);
+
+    // when
+    service.updateEmployees(
+        new EmployeeBulkUpdateRequest(List.of(1L, 2L), null, EmployeeStatus.RESIGNED, "퇴사 처리"), servletRequest);
+
+    // then
+    verify(changeLogStatement, times(2)).addBatch();
+    verify(changeLogStatement).executeBatch();
+    verify(changeLogStatement).setString(2, "EMP-1");
+    verify(changeLogStatement).setString(2, "EMP-2");
+    verify(changeLogStatement, times(2)).setString(3, "퇴사 처리");
+    verify(changeLogStatement, times(2)).setString(4, "10.0.0.1");
+
+    // 상세 내역은 생성 키 순서대로 직원과 짝지어진다
+    verify(diffStatement, times(2)).addBatch();
+    verify(diffStatement).executeBatch();
+    verify(diffStatement).setLong(1, 100L);
+    verify(diffStatement).setLong(1, 101L);
+    ArgumentCaptor<String> changes = ArgumentCaptor.forClass(String.class);
+    verify(diffStatement, times(2)).setString(eq(2), changes.capture());
+    assertTrue(changes.getValue().contains("\"propertyName\":\"상태\""));
+    assertTrue(changes.getValue().contains("\"before\":\"ACTIVE\""));
+    assertTrue(changes.getValue().contains("\"after\":\"RESIGNED\""));
+
+    verify(changeLogHighWaterMark).bumpAfterCommit(101L);
+  }
+
+  @Test
+  void updateEmployees_직원_수_집계를_키별로_모아_한_번에_반영() throws Exception {
+    // given
+    givenLocked(
+        new Row(1L, "EMP-1", 10L, "영업팀", "ACTIVE"),
+        new Row(2L, "EMP-2", 10L, "영업팀", "ACTIVE"));
+    givenChangeLogKeys(100L, 101L);
+
+    // when
+    service.updateEmployees(
+        new EmployeeBulkUpdateRequest(List.of(1L, 2L), null, EmployeeStatus.RESIGNED, null), servletRequest);
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<HeadcountKey, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+    verify(headcountRollupService).apply(deltas.capture());
+    assertEquals(Map.of(
+            HeadcountKey.of(HIRE_DATE, 10L, EmployeeStatus.ACTIVE), -2L,
+            HeadcountKey.of(HIRE_DATE, 10L, EmployeeStatus.RESIGNED), 2L),
+        deltas.getValue());
+  }
+
+  @Test
+  void updateEmployees_생성된_이력_id_수가_다르면_예외() throws Exception {
+    // given
+    givenLocked(
+        new Row(1L, "EMP-1", 10L, "영업팀", "ACTIVE"),
+        new Row(2L, "EMP-2", 10L, "영업팀", "ACTIVE"));
+    givenChangeLogKeys(100L);
+
+    // when & then
+    assertThrows(SQLException.class, () -> service.updateEmployees(
+        new EmployeeBulkUpdateRequest(List.of(1L, 2L), null, EmployeeStatus.RESIGNED, null), servletRequest));
+    verify(diffStatement, never()).executeBatch();
+    verify(changeLogHighWaterMark, never()).bumpAfterCommit(anyLong());
+  }
+
+  private void givenLocked(Row... rows) throws SQLException {
+    ResultSet resultSet = mock(ResultSet.class);
+    when(lockStatement.executeQuery()).thenReturn(resultSet);
+    int[] cursor = {-1};
+    when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < rows.length);
+    when(resultSet.getLong(1)).thenAnswer(invocation -> rows[cursor[0]].id());
+    when(resultSet.getString(2)).thenAnswer(invocation -> rows[cursor[0]].employeeNumber());
+    when(resultSet.getObject(3, Long.class)).thenAnswer(invocation -> rows[cursor[0]].departmentId());
+    when(resultSet.getString(4)).thenAnswer(invocation -> rows[cursor[0]].departmentName());
+    when(resultSet.getString(5)).thenAnswer(invocation -> rows[cursor[0]].status());
+    when(resultSet.getObject(6, LocalDate.class)).thenReturn(HIRE_DATE);
+  }
+
+  private void givenChangeLogKeys(long... keys) throws SQLException {
+    when(connection.prepareStatement(anyString(), any(String[].class))).thenReturn(changeLogStatement);
+    ResultSet generatedKeys = mock(ResultSet.class);
+    when(changeLogStatement.getGeneratedKeys()).thenReturn(generatedKeys);
+    int[] cursor = {-1};
+    when(generatedKeys.next()).thenAnswer(invocation -> ++cursor[0] < keys.length);
+    when(generatedKeys.getLong(1)).thenAnswer(invocation -> keys[cursor[0]]);
+  }
+
+  private record Row(long id, String employeeNumber, Long departmentId, String departmentName, String status) {
+  }
+}
@@ -0,0 +1,238 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.common.config.EmployeeProperties;
+import com.team11.hrbank.module.domain.department.Department;
+import com.team11.hrbank.module.domain.employee.Employee;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.repository.HeadcountRollupRepository;
+import com.team11.hrbank.module.domain.employee.repository.HeadcountRollupRepository.HeadcountKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.team11.hrbank.module.domain.department.DepartmentFixture.department;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 직원 생성/수정/삭제를 흉내 내며 증감한 집계가 employees 를 처음부터 count(*) 한 결과와 같은지 확인
+ * headcount_daily 와 employees 는 메모리의 맵과 리스트로 대신한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class HeadcountRollupServiceTest {
+
+  private static final LocalDate JAN = LocalDate.of(2024, 1, 2);
+  private static final LocalDate MAR = LocalDate.of(2024, 3, 4);
+
+  @Mock
+  private HeadcountRollupRepository headcountRollupRepository;
+
+  private final Map<HeadcountKey, Long> headcountDaily = new TreeMap<>();
+  private final List<Employee> employees = new ArrayList<>();
+  private EmployeeProperties employeeProperties;
+  private HeadcountRollupService service;
+  private Department development;
+  private Department sales;
+
+  @BeforeEach
+  void setUp() {
+    employeeProperties = new EmployeeProperties();
+    employeeProperties.getHeadcountRollup().setEnabled(true);
+    service = new HeadcountRollupService(headcountRollupRepository, employeeProperties);
+    development = department(1L, "개발팀");
+    sales = department(2L, "영업팀");
+
+    // adjust: ON CONFLICT DO UPDATE SET headcount = headcount + EXCLUDED.headcount
+    lenient().doAnswer(invocation -> {
+      Map<HeadcountKey, Long> deltas = invocation.getArgument(0);
+      deltas.forEach((key, delta) -> headcountDaily.merge(key, delta, Long::sum));
+      return null;
+    }).when(headcountRollupRepository).adjust(anyMap());
+    // rebuild: DELETE 후 employees 를 GROUP BY 해 다시 INSERT
+    lenient().when(headcountRollupRepository.rebuild()).thenAnswer(invocation -> {
+      headcountDaily.clear();
+      headcountDaily.putAll(countFromScratch());
+      return headcountDaily.size();
+    });
+  }
+
+  @Test
+  void 생성_수정_삭제마다_집계가_전체_재집계와_같다() {
+    // 생성 (부서 없는 직원 포함)
+    Employee kim = create(JAN, development, EmployeeStatus.ACTIVE);
+    Employee lee = create(JAN, development, EmployeeStatus.ACTIVE);
+    Employee park = create(MAR, sales, EmployeeStatus.ON_LEAVE);
+    Employee choi = create(MAR, null, EmployeeStatus.ACTIVE);
+    assertMatchesFromScratch();
+
+    // 부서 이동
+    update(kim, () -> kim.updateDepartment(sales));
+    assertMatchesFromScratch();
+
+    // 상태 변경
+    update(lee, () -> lee.updateStatus(EmployeeStatus.RESIGNED));
+    assertMatchesFromScratch();
+
+    // 입사일 변경
+    update(park, () -> park.updateHireDate(JAN));
+    assertMatchesFromScratch();
+
+    // 부서 없음 -> 부서 있음, 여러 값 동시 변경
+    update(choi, () -> {
+      choi.updateDepartment(development);
+      choi.updateStatus(EmployeeStatus.ON_LEAVE);
+    });
+    assertMatchesFromScratch();
+
+    // 집계 키와 무관한 변경
+    update(kim, () -> kim.updateName("김철수"));
+    assertMatchesFromScratch();
+
+    // 삭제
+    delete(lee);
+    assertMatchesFromScratch();
+    delete(kim);
+    delete(park);
+    delete(choi);
+    assertMatchesFromScratch();
+    assertTrue(nonZero(headcountDaily).isEmpty());
+  }
+
+  @Test
+  void 일괄_수정의_키별_증감도_전체_재집계와_같다() {
+    // given
+    List<Employee> targets = List.of(
+        create(JAN, development, EmployeeStatus.ACTIVE),
+        create(JAN, development, EmployeeStatus.ACTIVE),
+        create(MAR, sales, EmployeeStatus.ACTIVE),
+        create(MAR, null, EmployeeStatus.ON_LEAVE));
+
+    // when: EmployeeBulkUpdateService 와 같이 직원마다 -1/+1 을 키별로 모아 한 번에 반영
+    Map<HeadcountKey, Long> deltas = HeadcountRollupService.newDeltas();
+    for (Employee employee : targets) {
+      deltas.merge(HeadcountKey.of(employee), -1L, Long::sum);
+      employee.updateDepartment(sales);
+      employee.updateStatus(EmployeeStatus.RESIGNED);
+      deltas.merge(HeadcountKey.of(employee), 1L, Long::sum);
+    }
+    service.apply(deltas);
+
+    // then
+    assertMatchesFromScratch();
+  }
+
+  @Test
+  void rebuild_는_어긋난_집계를_employees_기준으로_다시_만든다() {
+    // given: 설정이 꺼져 있던 동안의 변경으로 집계가 어긋난 상태
+    create(JAN, development, EmployeeStatus.ACTIVE);
+    create(MAR, sales, EmployeeStatus.ACTIVE);
+    headcountDaily.put(HeadcountKey.of(JAN, 1L, EmployeeStatus.ACTIVE), 5L);
+    headcountDaily.put(HeadcountKey.of(MAR, 9L, EmployeeStatus.RESIGNED), 3L);
+
+    // when
+    service.rebuild();
+
+    // then
+    assertMatchesFromScratch();
+    verify(headcountRollupRepository).rebuild();
+  }
+
+  @Test
+  void 키가_같으면_이동하지_않는다() {
+    // given
+    Employee employee = create(JAN, development, EmployeeStatus.ACTIVE);
+    HeadcountKey key = HeadcountKey.of(employee);
+
+    // when
+    service.moved(key, HeadcountKey.of(JAN, 1L, EmployeeStatus.ACTIVE));
+    service.apply(HeadcountRollupService.newDeltas());
+
+    // then
+    // 생성 때의 +1 한 번만 반영
+    verify(headcountRollupRepository, times(1)).adjust(anyMap());
+    verify(headcountRollupRepository).adjust(Map.of(key, 1L));
+    assertMatchesFromScratch();
+  }
+
+  @Test
+  void 꺼져_있으면_집계를_건드리지_않는다() {
+    // given
+    employeeProperties.getHeadcountRollup().setEnabled(false);
+    Employee employee = Employee.builder().hireDate(JAN).department(development).status(EmployeeStatus.ACTIVE).build();
+    HeadcountKey key = HeadcountKey.of(employee);
+
+    // when
+    service.added(employee);
+    service.moved(key, HeadcountKey.of(MAR, 2L, EmployeeStatus.RESIGNED));
+    service.removed(key);
+    service.apply(Map.of(key, 1L));
+    service.rebuild();
+
+    // then
+    verifyNoInteractions(headcountRollupRepository);
+  }
+
+  // EmployeeCommandService.createEmployee 와 같이 저장 후 added
+  private Employee create(LocalDate hireDate, Department department, EmployeeStatus status) {
+    Employee employee = Employee.builder()
+        .hireDate(hireDate)
+        .department(department)
+        .status(status)
+        .build();
+    employees.add(employee);
+    service.added(employee);
+    return employee;
+  }
+
+  // EmployeeCommandService.updateEmployee 와 같이 변경 전 키를 잡아 두고 변경 후 moved
+  private void update(Employee employee, Runnable change) {
+    HeadcountKey before = HeadcountKey.of(employee);
+    change.run();
+    service.moved(before, HeadcountKey.of(employee));
+  }
+
+  // EmployeeCommandService.deleteEmployee 와 같이 삭제 전 키로 removed
+  private void delete(Employee employee) {
+    HeadcountKey key = HeadcountKey.of(employee);
+    // id 가 없는 엔티티끼리는 equals 가 같으므로 참조로 제거
+    employees.removeIf(existing -> existing == employee);
+    service.removed(key);
+  }
+
+  // SELECT hire_date, COALESCE(department_id, 0), status, count(*) FROM employees GROUP BY ...
+  private Map<HeadcountKey, Long> countFromScratch() {
+    Map<HeadcountKey, Long> counts = new TreeMap<>();
+    for (Employee employee : employees) {
+      counts.merge(HeadcountKey.of(employee), 1L, Long::sum);
+    }
+    return counts;
+  }
+
+  private void assertMatchesFromScratch() {
+    headcountDaily.forEach((key, count) -> assertTrue(count >= 0, "음수 집계: " + key + " = " + count));
+    assertEquals(countFromScratch(), nonZero(headcountDaily));
+  }
+
+  // 0 이 된 행은 조회 시 HAVING sum(headcount) > 0 으로 걸러지므로 비교에서 제외
+  private static Map<HeadcountKey, Long> nonZero(Map<HeadcountKey, Long> rollup) {
+    Map<HeadcountKey, Long> result = new TreeMap<>();
+    rollup.forEach((key, count) -> {
+      if (count != 0) {
+        result.put(key, count);
+      }
+    });
+    return result;
+  }
+}